@@ -1,6 +1,6 @@
 "use client";
 
-import React, { useState, useEffect } from "react";
+import React, { useState, useEffect, useRef } from "react";
 import { motion, AnimatePresence } from "framer-motion";
 import { format, parseISO } from "date-fns";
 import { useRouter } from "next/navigation";
@@ -47,30 +47,16 @@ interface GroupedTransformations {
   [pose: string]: Transformation[];
 }
 
+interface TransformationPage {
+  items: Transformation[];
+  nextCursor: string | null;
+}
+
 /**
- * SignedImage component fetches a short-lived signed URL from the backend
- * for a given gcsObjectName and displays the image.
+ * SignedImage displays a transformation photo using a signed URL that the page
+ * fetched for its gallery page from /api/transformation/image-urls.
  */
-function SignedImage({ gcsObjectName, dateTaken }: { gcsObjectName: string; dateTaken: string; }) {
-  const [signedUrl, setSignedUrl] = useState<string | null>(null);
-
-  useEffect(() => {
-    async function fetchSignedUrl() {
-      try {
-        const res = await fetch(
-          `http://localhost:8080/api/transformation/image-url?objectName=${encodeURIComponent(gcsObjectName)}`,
-          { credentials: "include" }
-        );
-        if (!res.ok) throw new Error("Failed to get signed URL");
-        const data = await res.json();
-        setSignedUrl(data.signedUrl);
-      } catch (e) {
-        console.error(e);
-      }
-    }
-    fetchSignedUrl();
-  }, [gcsObjectName]);
-
+function SignedImage({ signedUrl, dateTaken }: { signedUrl?: string; dateTaken: string; }) {
   return (
     <>
       {signedUrl ? (
@@ -88,6 +74,53 @@ function SignedImage({ gcsObjectName, dateTaken }: { gcsObjectName: string; date
   );
 }
 
+// Server-side cap on object names per /image-urls request
+const IMAGE_URL_BATCH_SIZE = 100;
+// Photos per /api/transformation/page request; each page is signed in one /image-urls call
+const GALLERY_PAGE_SIZE = 30;
+// Load the next page when the gallery is scrolled to within this many pixels of its end
+const LOAD_MORE_THRESHOLD_PX = 200;
+// Grid cards are a few hundred CSS pixels wide; 768px covers 2x displays
+const GRID_IMAGE_WIDTH = 768;
+
+/**
+ * Fetches signed GET URLs for many objects with one request per 100 photos.
+ * The gallery calls it once per page, so a single call stays within one batch.
+ */
+async function fetchSignedUrls(objectNames: string[]): Promise<Record<string, string>> {
+  const result: Record<string, string> = {};
+  for (let i = 0; i < objectNames.length; i += IMAGE_URL_BATCH_SIZE) {
+    const res = await fetch("http://localhost:8080/api/transformation/image-urls", {
+      method: "POST",
+      headers: { "Content-Type": "application/json" },
+      credentials: "include",
+      body: JSON.stringify({
+        objectNames: objectNames.slice(i, i + IMAGE_URL_BATCH_SIZE),
+        width: GRID_IMAGE_WIDTH,
+      }),
+    });
+    if (!res.ok) throw new Error("Failed to get signed URLs");
+    const data = await res.json();
+    Object.assign(result, data.signedUrls);
+  }
+  return result;
+}
+
+/**
+ * Adds photos to the per-pose groups, keeping the server's newest-first order.
+ */
+function groupByPose(groups: GroupedTransformations, items: Transformation[]): GroupedTransformations {
+  const result: GroupedTransformations = { ...groups };
+  for (const item of items) {
+    // Copy each group once, so state arrays from earlier pages are never mutated
+    if (result[item.pose] === groups[item.pose]) {
+      result[item.pose] = [...(groups[item.pose] ?? [])];
+    }
+    result[item.pose].push(item);
+  }
+  return result;
+}
+
 export default function TransformationVaultPage() {
   const router = useRouter();
 
@@ -102,36 +135,70 @@ export default function TransformationVaultPage() {
 
   // State for the gallery
   const [transformations, setTransformations] = useState<GroupedTransformations>({});
+  const [signedUrls, setSignedUrls] = useState<Record<string, string>>({});
   const [loadingGallery, setLoadingGallery] = useState(true);
   const [galleryError, setGalleryError] = useState<string | null>(null);
   const [expandedPose, setExpandedPose] = useState<string | null>(null);
+  // Cursor of the next gallery page; null once the last page was loaded
+  const [nextCursor, setNextCursor] = useState<string | null>(null);
+  const [loadingMore, setLoadingMore] = useState(false);
+  // Guards against a second request for the same page while scroll events keep firing
+  const loadingPage = useRef(false);
 
   useEffect(() => {
     fetchTransformations();
   }, []);
 
-  const fetchTransformations = async () => {
+  /**
+   * Loads one page of the gallery and signs only that page's photos.
+   * Without a cursor the gallery starts over from the newest photo.
+   */
+  const fetchPage = async (cursor: string | null) => {
+    if (loadingPage.current) return;
+    loadingPage.current = true;
     try {
-      const response = await fetch("http://localhost:8080/api/transformation", {
+      const params = new URLSearchParams({ limit: String(GALLERY_PAGE_SIZE) });
+      if (cursor) params.set("cursor", cursor);
+      const response = await fetch(`http://localhost:8080/api/transformation/page?${params}`, {
         credentials: "include",
       });
       if (!response.ok) {
         throw new Error("Failed to fetch transformations");
       }
-      const data: Transformation[] = await response.json();
-      // Group transformations by pose
-      const grouped = data.reduce((acc: GroupedTransformations, curr) => {
-        if (!acc[curr.pose]) {
-          acc[curr.pose] = [];
-        }
-        acc[curr.pose].push(curr);
-        return acc;
-      }, {});
-      setTransformations(grouped);
+      const page: TransformationPage = await response.json();
+      const urls = await fetchSignedUrls(page.items.map((t) => t.gcsObjectName));
+      if (cursor) {
+        setTransformations((prev) => groupByPose(prev, page.items));
+        setSignedUrls((prev) => ({ ...prev, ...urls }));
+      } else {
+        setTransformations(groupByPose({}, page.items));
+        setSignedUrls(urls);
+      }
+      setNextCursor(page.nextCursor);
+      setGalleryError(null);
     } catch (err) {
       setGalleryError(err instanceof Error ? err.message : "Failed to load transformations");
     } finally {
-      setLoadingGallery(false);
+      loadingPage.current = false;
+    }
+  };
+
+  const fetchTransformations = async () => {
+    await fetchPage(null);
+    setLoadingGallery(false);
+  };
+
+  const loadMore = async () => {
+    if (!nextCursor || loadingPage.current) return;
+    setLoadingMore(true);
+    await fetchPage(nextCursor);
+    setLoadingMore(false);
+  };
+
+  const handleGalleryScroll = (e: React.UIEvent<HTMLDivElement>) => {
+    const el = e.currentTarget;
+    if (el.scrollHeight - el.scrollTop - el.clientHeight < LOAD_MORE_THRESHOLD_PX) {
+      loadMore();
     }
   };
 
@@ -549,7 +616,10 @@ export default function TransformationVaultPage() {
                           No transformations uploaded yet. Start your journey by adding your first progress photo!
                         </div>
                       ) : (
-                        <div className="space-y-6 max-h-[600px] overflow-y-auto">
+                        <div
+                          className="space-y-6 max-h-[600px] overflow-y-auto"
+                          onScroll={handleGalleryScroll}
+                        >
                           {Object.entries(transformations).map(([poseKey, images]) => (
                             <motion.div
                               key={poseKey}
@@ -566,7 +636,9 @@ export default function TransformationVaultPage() {
                                 <h3 className="text-xl font-semibold text-red-400">
                                   {POSE_OPTIONS.find((p) => p.value === poseKey)?.label || poseKey}
                                 </h3>
-                                <span className="text-gray-400">({images.length} photos)</span>
+                                <span className="text-gray-400">
+                                  ({images.length}{nextCursor ? "+" : ""} photos)
+                                </span>
                               </button>
 
                               <AnimatePresence>
@@ -595,7 +667,7 @@ export default function TransformationVaultPage() {
                                           whileHover={{ scale: 1.05 }}
                                         >
                                           <SignedImage
-                                            gcsObjectName={transformation.gcsObjectName}
+                                            signedUrl={signedUrls[transformation.gcsObjectName]}
                                             dateTaken={transformation.dateTaken}
                                           />
                                           <div className="absolute bottom-0 left-0 right-0 bg-gradient-to-t from-black/80 to-transparent p-2 rounded-b-lg">
@@ -609,6 +681,19 @@ export default function TransformationVaultPage() {
                               </AnimatePresence>
                             </motion.div>
                           ))}
+                          {nextCursor && (
+                            <div className="flex justify-center">
+                              <Button
+                                type="button"
+                                variant="outline"
+                                onClick={loadMore}
+                                disabled={loadingMore}
+                                className="border-red-500/30 text-red-50 bg-black/40 hover:border-red-500/50 transition-all"
+                              >
+                                {loadingMore ? "Loading..." : "Load more photos"}
+                              </Button>
+                            </div>
+                          )}
                         </div>
                       )}
                     </CardContent>
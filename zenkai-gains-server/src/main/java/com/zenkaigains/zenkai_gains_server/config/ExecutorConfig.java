@@ -0,0 +1,111 @@
+package com.zenkaigains.zenkai_gains_server.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.task.SimpleAsyncTaskExecutorBuilder;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Dedicated, bounded thread pools for CPU-heavy work that should not run on Tomcat threads.
+ * Executors are initialized by Spring (afterPropertiesSet), not here.
+ */
+@Configuration
+@EnableScheduling
+public class ExecutorConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExecutorConfig.class);
+
+    /**
+     * The general-purpose executor Spring Boot would otherwise create. Boot 3.4 backs off from
+     * auto-configuring it as soon as any Executor bean exists, so it is declared here from the
+     * auto-configured builder, which still applies the spring.task.execution.* properties.
+     */
+    @Bean(name = {"applicationTaskExecutor", "taskExecutor"})
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public ThreadPoolTaskExecutor applicationTaskExecutor(ThreadPoolTaskExecutorBuilder builder) {
+        return builder.build();
+    }
+
+    // With spring.threads.virtual.enabled (virtual-threads profile) the builder starts one virtual thread per task
+    @Bean(name = {"applicationTaskExecutor", "taskExecutor"})
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public SimpleAsyncTaskExecutor applicationTaskExecutorVirtualThreads(SimpleAsyncTaskExecutorBuilder builder) {
+        return builder.build();
+    }
+
+    /**
+     * Pool for V4 URL signing (one RSA signature per URL).
+     * When the queue is full the caller signs on its own thread instead of failing.
+     */
+    @Bean(name = "urlSigningExecutor")
+    public ThreadPoolTaskExecutor urlSigningExecutor(@Value("${signing.executor.threads:4}") int threads,
+                                                     @Value("${signing.executor.queue-capacity:500}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("url-signer-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        return executor;
+    }
+
+    /**
+     * Pool for decoding and resizing uploaded photos. Each job holds a full-resolution bitmap,
+     * so threads and queue stay small; when saturated the job is dropped and the original is served.
+     */
+    @Bean(name = "imageProcessingExecutor")
+    public ThreadPoolTaskExecutor imageProcessingExecutor(@Value("${images.executor.threads:2}") int threads,
+                                                          @Value("${images.executor.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("image-variants-");
+        executor.setRejectedExecutionHandler((task, pool) ->
+                logger.warn("Image processing queue full ({} queued); skipping variant generation", pool.getQueue().size()));
+        return executor;
+    }
+
+    /**
+     * Pool that delivers queued email; each task sends one chunk over one SMTP connection,
+     * so the thread count caps concurrent connections to the mail server.
+     */
+    @Bean(name = "mailSenderExecutor")
+    public ThreadPoolTaskExecutor mailSenderExecutor(@Value("${mail.queue.sender-threads:2}") int threads) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        // One poll produces at most batch-size / messages-per-connection chunks
+        executor.setQueueCapacity(50);
+        executor.setThreadNamePrefix("mail-sender-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        return executor;
+    }
+
+    /**
+     * Pool for BCrypt. Sized to the cores by default since hashing is pure CPU; the short queue
+     * bounds how long a login may wait, and AbortPolicy turns saturation into a fast 503.
+     */
+    @Bean(name = "passwordHashingExecutor")
+    public ThreadPoolTaskExecutor passwordHashingExecutor(
+            @Value("${auth.hashing.threads:#{T(java.lang.Runtime).getRuntime().availableProcessors()}}") int threads,
+            @Value("${auth.hashing.queue-capacity:64}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("password-hash-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        return executor;
+    }
+}
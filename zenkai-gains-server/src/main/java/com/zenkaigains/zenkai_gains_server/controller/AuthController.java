@@ -5,30 +5,41 @@ import com.zenkaigains.zenkai_gains_server.entity.EmailVerificationToken;
 import com.zenkaigains.zenkai_gains_server.entity.User;
 import com.zenkaigains.zenkai_gains_server.repository.EmailVerificationTokenRepository;
 import com.zenkaigains.zenkai_gains_server.repository.UserRepository;
+import com.zenkaigains.zenkai_gains_server.security.AuthenticatedUser;
+import com.zenkaigains.zenkai_gains_server.security.CurrentUser;
 import com.zenkaigains.zenkai_gains_server.service.JWTService;
-import jakarta.servlet.http.Cookie;
-import jakarta.servlet.http.HttpServletRequest;
+import com.zenkaigains.zenkai_gains_server.service.PasswordHashingBusyException;
+import com.zenkaigains.zenkai_gains_server.service.PasswordHashingService;
+import com.zenkaigains.zenkai_gains_server.service.PowerLevelService;
+import com.zenkaigains.zenkai_gains_server.service.PublicProfileCache;
+import com.zenkaigains.zenkai_gains_server.service.UserAvailabilityService;
 import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseCookie;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 
 import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 @RestController
 @RequestMapping("/auth")
 public class AuthController {
 
+    private static final Logger logger = LoggerFactory.getLogger(AuthController.class);
+
     @Autowired
     private EmailVerificationTokenRepository tokenRepository;
 
@@ -39,7 +50,21 @@ public class AuthController {
     private JWTService jwtService;
 
     @Autowired
-    private BCryptPasswordEncoder passwordEncoder;
+    private PasswordHashingService passwordHashingService;
+
+    @Autowired
+    private PowerLevelService powerLevelService;
+
+    @Autowired
+    private PublicProfileCache publicProfileCache;
+
+    @Autowired
+    private UserAvailabilityService userAvailabilityService;
+
+    // Continuations after hashing run here, keeping the hashing pool for BCrypt only
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    private Executor applicationTaskExecutor;
 
     /**
      * ✅ Verify email from token
@@ -66,16 +91,61 @@ public class AuthController {
 
     /**
      * ✅ Login and set JWT cookie (token now includes roles)
+     * The BCrypt check runs on the password hashing pool, so the request thread is released
+     * while it runs; 503 when that pool is saturated.
      */
     @PostMapping("/login")
-    public ResponseEntity<?> login(@RequestBody LoginRequest request) {
+    public CompletableFuture<ResponseEntity<?>> login(@RequestBody LoginRequest request) {
         Optional<User> userOpt = userRepository.findByEmail(request.getEmail());
         if (!userOpt.isPresent()) {
-            return ResponseEntity.status(401).body("Invalid Credentials");
+            return CompletableFuture.completedFuture(ResponseEntity.status(401).body("Invalid Credentials"));
         }
 
         User user = userOpt.get();
-        if (!passwordEncoder.matches(request.getPassword(), user.getPasswordHash())) {
+        // OAuth-created accounts have no password to check
+        if (!user.hasPassword() || request.getPassword() == null) {
+            return CompletableFuture.completedFuture(ResponseEntity.status(401).body("Invalid Credentials"));
+        }
+
+        try {
+            return passwordHashingService.matches(request.getPassword(), user.getPasswordHash())
+                    .thenApplyAsync(matches -> {
+                        if (matches) {
+                            upgradePasswordHash(user, request.getPassword());
+                        }
+                        return completeLogin(user, matches);
+                    }, applicationTaskExecutor);
+        } catch (PasswordHashingBusyException e) {
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body("Too many login attempts right now. Please try again."));
+        }
+    }
+
+    /**
+     * Rehashes in the background when the stored hash uses an old algorithm or a lower cost than configured.
+     * Best effort: if the hashing pool is busy the upgrade simply happens on a later login.
+     */
+    private void upgradePasswordHash(User user, String rawPassword) {
+        String oldHash = user.getPasswordHash();
+        if (!passwordHashingService.needsUpgrade(oldHash)) {
+            return;
+        }
+        try {
+            passwordHashingService.encode(rawPassword).whenCompleteAsync((newHash, error) -> {
+                if (error != null) {
+                    logger.warn("Password rehash failed for user {}", user.getId(), error);
+                } else if (userRepository.replacePasswordHash(user.getId(), oldHash, newHash) == 1) {
+                    logger.debug("Upgraded password hash for user {}", user.getId());
+                }
+            }, applicationTaskExecutor);
+        } catch (PasswordHashingBusyException e) {
+            logger.debug("Hashing pool busy; skipping password rehash for user {}", user.getId());
+        }
+    }
+
+    private ResponseEntity<?> completeLogin(User user, boolean passwordMatches) {
+        if (!passwordMatches) {
             return ResponseEntity.status(401).body("Invalid Credentials");
         }
 
@@ -106,31 +176,15 @@ public class AuthController {
      * ✅ Enhanced /auth/me that returns user email + roles in JSON.
      */
     @GetMapping("/me")
-    public ResponseEntity<?> getCurrentUser(HttpServletRequest request) {
-        String token = extractToken(request);
-        if (token == null || !jwtService.validateToken(token)) {
+    public ResponseEntity<?> getCurrentUser(@CurrentUser AuthenticatedUser principal) {
+        if (principal == null) {
             return ResponseEntity.status(401).body("Not authenticated");
         }
 
-        // Extract email from JWT
-        String email = jwtService.extractUsername(token);
-        Optional<User> userOpt = userRepository.findByEmail(email);
-        if (userOpt.isEmpty()) {
-            return ResponseEntity.status(404).body("User not found");
-        }
-
-        User user = userOpt.get();
-
-        // Gather roles from user.getRoles()
-        // Suppose user.getRoles() returns List<Role> and role.getName() returns an Enum like ROLE_ADMIN
-        List<String> roles = user.getRoles().stream()
-                .map(role -> role.getName().name())  // e.g. "ROLE_ADMIN"
-                .collect(Collectors.toList());
-
-        // Return JSON with email + roles
+        // Email and roles come from the verified JWT, so no database lookup is needed
         Map<String, Object> response = new HashMap<>();
-        response.put("email", user.getEmail());
-        response.put("roles", roles);
+        response.put("email", principal.getEmail());
+        response.put("roles", principal.getRoles());
 
         return ResponseEntity.ok(response);
     }
@@ -158,15 +212,13 @@ public class AuthController {
      * ✅ Fetch user profile (NEW FIX)
      */
     @GetMapping("/profile")
-    public ResponseEntity<?> getUserProfile(HttpServletRequest request) {
-        String token = extractToken(request);
-        if (token == null || !jwtService.validateToken(token)) {
+    public ResponseEntity<?> getUserProfile(@CurrentUser AuthenticatedUser principal) {
+        if (principal == null) {
             System.out.println("❌ Unauthorized - No valid token found.");
             return ResponseEntity.status(401).body("Unauthorized");
         }
 
-        String email = jwtService.extractUsername(token);
-        Optional<User> userOpt = userRepository.findByEmail(email);
+        Optional<User> userOpt = userRepository.findById(principal.getId());
         if (!userOpt.isPresent()) {
             System.out.println("❌ User not found in database.");
             return ResponseEntity.status(404).body("User not found");
@@ -178,6 +230,7 @@ public class AuthController {
         dto.setBio(user.getBio());
         dto.setProfilePictureUrl(user.getProfilePictureUrl());
         dto.setJoinedDate(user.getCreatedAt());
+        powerLevelService.populate(dto, user.getId());
         System.out.println("✅ User profile found: " + user.getUsername());
         return ResponseEntity.ok(dto);
     }
@@ -187,64 +240,51 @@ public class AuthController {
      */
     @GetMapping("/public/profile/{username}")
     public ResponseEntity<?> getPublicProfile(@PathVariable String username) {
-        Optional<User> userOpt = userRepository.findByUsername(username);
-        if (!userOpt.isPresent()) {
+        // Same cached JSON and ETag as /api/public/profile/{username}
+        Optional<PublicProfileCache.CachedProfile> profile = publicProfileCache.get(username);
+        if (profile.isEmpty()) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body("User not found");
         }
-        User user = userOpt.get();
-        UserPublicProfileDTO dto = new UserPublicProfileDTO();
-        dto.setUsername(user.getUsername());
-        dto.setBio(user.getBio());
-        dto.setProfilePictureUrl(user.getProfilePictureUrl());
-        dto.setJoinedDate(user.getCreatedAt());
-
-        return ResponseEntity.ok(dto);
+        return ResponseEntity.ok()
+                .cacheControl(PublicProfileController.PROFILE_CACHE_CONTROL)
+                .eTag(profile.get().getEtag())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(profile.get().getBody());
     }
 
     /**
      * ✅ Update profile (NEW FIX)
      */
     @PutMapping("/profile")
-    public ResponseEntity<?> updateProfile(@RequestBody User updatedUser, HttpServletRequest request) {
-        String token = extractToken(request);
-        if (token == null || !jwtService.validateToken(token)) {
+    public ResponseEntity<?> updateProfile(@RequestBody User updatedUser,
+                                           @CurrentUser AuthenticatedUser principal) {
+        if (principal == null) {
             return ResponseEntity.status(401).body("Unauthorized");
         }
 
-        String email = jwtService.extractUsername(token);
-        Optional<User> userOpt = userRepository.findByEmail(email);
+        Optional<User> userOpt = userRepository.findById(principal.getId());
         if (!userOpt.isPresent()) {
             return ResponseEntity.status(404).body("User not found");
         }
 
         User existingUser = userOpt.get();
+        if (updatedUser.getUsername() != null
+                && userAvailabilityService.isUsernameTaken(updatedUser.getUsername(), existingUser.getId())) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body("Username already taken");
+        }
         existingUser.setUsername(updatedUser.getUsername());
         existingUser.setBio(updatedUser.getBio());
         existingUser.setProfilePictureUrl(updatedUser.getProfilePictureUrl());
 
-        userRepository.save(existingUser);
-        return ResponseEntity.ok(existingUser);
-    }
-
-    /**
-     * ✅ Extract JWT token from Cookie OR Authorization Header (NEW FIX)
-     */
-    private String extractToken(HttpServletRequest request) {
-        if (request.getCookies() != null) {
-            for (Cookie cookie : request.getCookies()) {
-                if ("jwt".equals(cookie.getName())) {
-                    System.out.println("✅ Extracted JWT from cookie.");
-                    return cookie.getValue();
-                }
-            }
-        }
-        String authHeader = request.getHeader("Authorization");
-        if (authHeader != null && authHeader.startsWith("Bearer ")) {
-            System.out.println("✅ Extracted JWT from Authorization header.");
-            return authHeader.substring(7);
+        try {
+            userRepository.save(existingUser);
+        } catch (DataIntegrityViolationException e) {
+            // Claimed by someone else between the check and the save
+            return ResponseEntity.status(HttpStatus.CONFLICT).body("Username already taken");
         }
-        System.out.println("❌ No JWT token found.");
-        return null;
+        publicProfileCache.invalidateUser(existingUser.getId());
+        userAvailabilityService.recordUser(existingUser);
+        return ResponseEntity.ok(existingUser);
     }
 
     /**
@@ -1,4 +1,240 @@
 package com.zenkaigains.zenkai_gains_server.controller;
 
+import com.zenkaigains.zenkai_gains_server.dto.ExerciseDTO;
+import com.zenkaigains.zenkai_gains_server.dto.ExerciseRequest;
+import com.zenkaigains.zenkai_gains_server.dto.ExerciseSuggestionDTO;
+import com.zenkaigains.zenkai_gains_server.entity.Exercise;
+import com.zenkaigains.zenkai_gains_server.entity.ExerciseMuscleTarget;
+import com.zenkaigains.zenkai_gains_server.entity.Muscle;
+import com.zenkaigains.zenkai_gains_server.entity.MuscleGroup;
+import com.zenkaigains.zenkai_gains_server.entity.MuscleGroupListing;
+import com.zenkaigains.zenkai_gains_server.repository.ExerciseRepository;
+import com.zenkaigains.zenkai_gains_server.repository.MuscleGroupListingRepository;
+import com.zenkaigains.zenkai_gains_server.repository.MuscleRepository;
+import com.zenkaigains.zenkai_gains_server.service.CatalogCache;
+import com.zenkaigains.zenkai_gains_server.service.ExerciseSearchIndex;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+@RestController
+@RequestMapping("/api/exercises")
 public class ExerciseController {
+
+    @Autowired
+    private ExerciseRepository exerciseRepository;
+
+    @Autowired
+    private MuscleRepository muscleRepository;
+
+    @Autowired
+    private MuscleGroupListingRepository muscleGroupListingRepository;
+
+    @Autowired
+    private CatalogCache catalogCache;
+
+    @Autowired
+    private ExerciseSearchIndex exerciseSearchIndex;
+
+    // GET /api/exercises - All exercises with their muscle targets (one query).
+    @GetMapping
+    public List<ExerciseDTO> getAllExercises() {
+        List<ExerciseDTO> exercises = new ArrayList<>();
+        for (Exercise exercise : exerciseRepository.findAllWithTargets()) {
+            exercises.add(ExerciseDTO.from(exercise));
+        }
+        return exercises;
+    }
+
+    // GET /api/exercises/search?q=ben&muscleId=3&limit=10 - Typeahead over names and aliases, served from memory.
+    @GetMapping("/search")
+    public List<ExerciseSuggestionDTO> searchExercises(@RequestParam(value = "q", defaultValue = "") String query,
+                                                      @RequestParam(value = "muscleId", required = false) Long muscleId,
+                                                      @RequestParam(value = "limit", defaultValue = "10") int limit) {
+        return exerciseSearchIndex.search(query, muscleId, limit);
+    }
+
+    // GET /api/exercises/{id}
+    @GetMapping("/{id}")
+    public ResponseEntity<?> getExercise(@PathVariable("id") Long id) {
+        Optional<Exercise> exerciseOpt = exerciseRepository.findByIdWithTargets(id);
+        if (exerciseOpt.isEmpty()) {
+            return jsonError(HttpStatus.NOT_FOUND, "Exercise not found");
+        }
+        return ResponseEntity.ok(ExerciseDTO.from(exerciseOpt.get()));
+    }
+
+    // POST /api/exercises - { "name", "description", "targets": [{ "muscleId", "percentage" }] }
+    // The exercise is listed under the muscle group of its largest target.
+    @PostMapping
+    @PreAuthorize("hasAuthority('ROLE_ADMIN')")
+    public ResponseEntity<?> addExercise(@RequestBody ExerciseRequest request) {
+        if (request.getName() == null || request.getName().trim().isEmpty()) {
+            return jsonError(HttpStatus.BAD_REQUEST, "name is required");
+        }
+        if (exerciseRepository.findByNameIgnoreCase(request.getName().trim()).isPresent()) {
+            return jsonError(HttpStatus.CONFLICT, "Exercise already exists");
+        }
+        Map<Long, Muscle> muscles = new HashMap<>();
+        String error = resolveTargets(request, muscles);
+        if (error != null) {
+            return jsonError(HttpStatus.BAD_REQUEST, error);
+        }
+
+        Exercise exercise = new Exercise(request.getName().trim(), request.getDescription(), null);
+        exercise.setAliases(cleanAliases(request));
+        for (ExerciseRequest.Target target : request.getTargets()) {
+            exercise.getTargets().add(new ExerciseMuscleTarget(exercise, muscles.get(target.getMuscleId()), target.getPercentage()));
+        }
+        exercise.setMuscleGroup(primaryMuscle(request, muscles).getMuscleGroup());
+        Exercise saved = exerciseRepository.save(exercise);
+        listUnder(saved.getMuscleGroup(), saved);
+        catalogCache.invalidate();
+        return ResponseEntity.ok(ExerciseDTO.from(saved));
+    }
+
+    // PUT /api/exercises/{id} - Same body as POST. Targets are diffed, so unchanged ones are not rewritten.
+    // A new primary muscle group gets a listing too; existing listings are left as they are.
+    @PutMapping("/{id}")
+    @PreAuthorize("hasAuthority('ROLE_ADMIN')")
+    public ResponseEntity<?> updateExercise(@PathVariable("id") Long id, @RequestBody ExerciseRequest request) {
+        if (request.getName() == null || request.getName().trim().isEmpty()) {
+            return jsonError(HttpStatus.BAD_REQUEST, "name is required");
+        }
+        Optional<Exercise> exerciseOpt = exerciseRepository.findByIdWithTargets(id);
+        if (exerciseOpt.isEmpty()) {
+            return jsonError(HttpStatus.NOT_FOUND, "Exercise not found");
+        }
+        Optional<Exercise> sameName = exerciseRepository.findByNameIgnoreCase(request.getName().trim());
+        if (sameName.isPresent() && !sameName.get().getId().equals(id)) {
+            return jsonError(HttpStatus.CONFLICT, "Exercise already exists");
+        }
+        Map<Long, Muscle> muscles = new HashMap<>();
+        String error = resolveTargets(request, muscles);
+        if (error != null) {
+            return jsonError(HttpStatus.BAD_REQUEST, error);
+        }
+
+        Exercise exercise = exerciseOpt.get();
+        exercise.setName(request.getName().trim());
+        exercise.setDescription(request.getDescription());
+        Set<String> aliases = cleanAliases(request);
+        exercise.getAliases().retainAll(aliases);
+        exercise.getAliases().addAll(aliases);
+
+        Map<Long, Integer> wanted = new HashMap<>();
+        for (ExerciseRequest.Target target : request.getTargets()) {
+            wanted.put(target.getMuscleId(), target.getPercentage());
+        }
+        // Update or drop existing targets, then add the new ones
+        Iterator<ExerciseMuscleTarget> it = exercise.getTargets().iterator();
+        while (it.hasNext()) {
+            ExerciseMuscleTarget target = it.next();
+            Integer percentage = wanted.remove(target.getMuscle().getId());
+            if (percentage == null) {
+                it.remove();
+            } else if (percentage != target.getPercentage()) {
+                target.setPercentage(percentage);
+            }
+        }
+        for (Map.Entry<Long, Integer> entry : wanted.entrySet()) {
+            exercise.getTargets().add(new ExerciseMuscleTarget(exercise, muscles.get(entry.getKey()), entry.getValue()));
+        }
+        exercise.setMuscleGroup(primaryMuscle(request, muscles).getMuscleGroup());
+
+        Exercise updated = exerciseRepository.save(exercise);
+        listUnder(updated.getMuscleGroup(), updated);
+        catalogCache.invalidate(Set.of(id), Collections.emptySet());
+        return ResponseEntity.ok(ExerciseDTO.from(updated));
+    }
+
+    // DELETE /api/exercises/{id}
+    @DeleteMapping("/{id}")
+    @PreAuthorize("hasAuthority('ROLE_ADMIN')")
+    public ResponseEntity<?> deleteExercise(@PathVariable("id") Long id) {
+        Optional<Exercise> exerciseOpt = exerciseRepository.findById(id);
+        if (exerciseOpt.isEmpty()) {
+            return jsonError(HttpStatus.NOT_FOUND, "Exercise not found");
+        }
+        exerciseRepository.delete(exerciseOpt.get());
+        catalogCache.invalidate(Set.of(id), Collections.emptySet());
+        return ResponseEntity.ok().build();
+    }
+
+    private void listUnder(MuscleGroup group, Exercise exercise) {
+        if (!muscleGroupListingRepository.existsByMuscleGroupIdAndExerciseId(group.getId(), exercise.getId())) {
+            muscleGroupListingRepository.save(new MuscleGroupListing(group, exercise));
+        }
+    }
+
+    /**
+     * Validates the targets and loads their muscles with one query.
+     * Returns an error message, or null when the targets are valid.
+     */
+    private String resolveTargets(ExerciseRequest request, Map<Long, Muscle> muscles) {
+        if (request.getTargets() == null || request.getTargets().isEmpty()) {
+            return "At least one target muscle is required";
+        }
+        Set<Long> ids = new HashSet<>();
+        int total = 0;
+        for (ExerciseRequest.Target target : request.getTargets()) {
+            if (target.getMuscleId() == null || !ids.add(target.getMuscleId())) {
+                return "Each target needs a distinct muscleId";
+            }
+            if (target.getPercentage() <= 0 || target.getPercentage() > 100) {
+                return "Target percentages must be between 1 and 100";
+            }
+            total += target.getPercentage();
+        }
+        if (total > 100) {
+            return "Target percentages add up to more than 100";
+        }
+        for (Muscle muscle : muscleRepository.findAllWithGroupByIdIn(ids)) {
+            muscles.put(muscle.getId(), muscle);
+        }
+        if (muscles.size() != ids.size()) {
+            return "Unknown muscleId";
+        }
+        return null;
+    }
+
+    private static Set<String> cleanAliases(ExerciseRequest request) {
+        Set<String> aliases = new LinkedHashSet<>();
+        if (request.getAliases() != null) {
+            for (String alias : request.getAliases()) {
+                if (alias != null && !alias.trim().isEmpty()) {
+                    aliases.add(alias.trim());
+                }
+            }
+        }
+        return aliases;
+    }
+
+    private static Muscle primaryMuscle(ExerciseRequest request, Map<Long, Muscle> muscles) {
+        ExerciseRequest.Target primary = request.getTargets().get(0);
+        for (ExerciseRequest.Target target : request.getTargets()) {
+            if (target.getPercentage() > primary.getPercentage()) {
+                primary = target;
+            }
+        }
+        return muscles.get(primary.getMuscleId());
+    }
+
+    private ResponseEntity<?> jsonError(HttpStatus status, String errorMessage) {
+        return ResponseEntity.status(status)
+                .body(Collections.singletonMap("error", errorMessage));
+    }
 }
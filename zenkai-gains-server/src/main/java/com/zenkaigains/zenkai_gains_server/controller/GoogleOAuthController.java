@@ -5,20 +5,18 @@ import com.zenkaigains.zenkai_gains_server.dto.GoogleOAuthUser;
 import com.zenkaigains.zenkai_gains_server.entity.User;
 import com.zenkaigains.zenkai_gains_server.repository.UserRepository;
 import com.zenkaigains.zenkai_gains_server.service.JWTService;
+import com.zenkaigains.zenkai_gains_server.service.UserAvailabilityService;
 import com.zenkaigains.zenkai_gains_server.service.oauth.GoogleOAuthService;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseCookie;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.io.IOException;
-import java.util.Optional;
-import java.util.UUID;
 
 @RestController
 @RequestMapping("/oauth/google")
@@ -34,7 +32,7 @@ public class GoogleOAuthController {
     private JWTService jwtService;
 
     @Autowired
-    private BCryptPasswordEncoder passwordEncoder;
+    private UserAvailabilityService userAvailabilityService;
 
     @GetMapping("/callback")
     public void handleGoogleCallback(@RequestParam(value = "code", required = false) String code,
@@ -68,11 +66,11 @@ public class GoogleOAuthController {
                 user.setLastName(googleUser.getLastName() != null ? googleUser.getLastName() : "");
                 user.setIsVerified(true);
 
-                // Generate a random password and hash it.
-                String randomPassword = UUID.randomUUID().toString();
-                user.setPasswordHash(passwordEncoder.encode(randomPassword));
+                // No local password: the account can only sign in through Google
+                user.setPasswordHash(User.NO_PASSWORD);
 
                 userRepository.save(user);
+                userAvailabilityService.recordUser(user);
             }
 
             // 4) Optionally generate a local JWT for your session
@@ -0,0 +1,99 @@
+package com.zenkaigains.zenkai_gains_server.controller;
+
+import com.zenkaigains.zenkai_gains_server.service.LocalStorageService;
+import com.zenkaigains.zenkai_gains_server.service.ObjectTooLargeException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+
+/**
+ * Serves the signed upload/download URLs issued by LocalStorageService.
+ * Only registered with storage.backend=local; the signature in the query string is the authorization.
+ */
+@RestController
+@RequestMapping("/local-storage")
+@ConditionalOnProperty(name = "storage.backend", havingValue = "local")
+public class LocalStorageController {
+
+    private static final Logger logger = LoggerFactory.getLogger(LocalStorageController.class);
+
+    @Autowired
+    private LocalStorageService localStorageService;
+
+    @Value("${storage.upload.max-bytes:10485760}")
+    private long maxUploadBytes;
+
+    /**
+     * GET /local-storage/{bucket}?object=&method=GET&expires=&signature=
+     */
+    @GetMapping("/{bucket}")
+    public void download(@PathVariable("bucket") String bucket,
+                         @RequestParam("object") String objectName,
+                         @RequestParam("expires") long expires,
+                         @RequestParam("signature") String signature,
+                         HttpServletResponse response) throws IOException {
+        if (!localStorageService.isValidSignature("GET", bucket, objectName, "", expires, signature)) {
+            response.sendError(HttpStatus.FORBIDDEN.value(), "Invalid or expired signature");
+            return;
+        }
+        long size = localStorageService.size(bucket, objectName);
+        if (size < 0) {
+            response.sendError(HttpStatus.NOT_FOUND.value(), "Object not found");
+            return;
+        }
+
+        String contentType = localStorageService.probeContentType(bucket, objectName);
+        response.setContentType(contentType != null ? contentType : "application/octet-stream");
+        response.setContentLengthLong(size);
+        // Same URL until it expires, so the browser may keep it for as long as the signature is valid
+        response.setHeader("Cache-Control", "private, max-age=" + Math.max(0, expires - System.currentTimeMillis() / 1000));
+        localStorageService.transferTo(bucket, objectName, Channels.newChannel(response.getOutputStream()));
+    }
+
+    /**
+     * PUT /local-storage/{bucket}?object=&method=PUT&contentType=&expires=&signature=
+     * The request Content-Type must match the one the URL was signed for, as with GCS.
+     */
+    @PutMapping("/{bucket}")
+    public void upload(@PathVariable("bucket") String bucket,
+                       @RequestParam("object") String objectName,
+                       @RequestParam(value = "contentType", defaultValue = "") String contentType,
+                       @RequestParam("expires") long expires,
+                       @RequestParam("signature") String signature,
+                       HttpServletRequest request,
+                       HttpServletResponse response) throws IOException {
+        if (!localStorageService.isValidSignature("PUT", bucket, objectName, contentType, expires, signature)) {
+            response.sendError(HttpStatus.FORBIDDEN.value(), "Invalid or expired signature");
+            return;
+        }
+        String requestContentType = request.getContentType() == null ? "" : request.getContentType();
+        if (!contentType.isEmpty() && !contentType.equalsIgnoreCase(requestContentType)) {
+            response.sendError(HttpStatus.FORBIDDEN.value(), "Content-Type does not match signed URL");
+            return;
+        }
+
+        if (request.getContentLengthLong() > maxUploadBytes) {
+            response.sendError(HttpStatus.PAYLOAD_TOO_LARGE.value(), "Object must be at most " + maxUploadBytes + " bytes");
+            return;
+        }
+
+        try {
+            // Chunked bodies carry no Content-Length, so the limit is also enforced while streaming
+            long written = localStorageService.receive(bucket, objectName,
+                    Channels.newChannel(request.getInputStream()), maxUploadBytes);
+            logger.debug("Received {} bytes for {}/{}", written, bucket, objectName);
+            response.setStatus(HttpStatus.OK.value());
+        } catch (ObjectTooLargeException e) {
+            response.sendError(HttpStatus.PAYLOAD_TOO_LARGE.value(), "Object must be at most " + maxUploadBytes + " bytes");
+        }
+    }
+}
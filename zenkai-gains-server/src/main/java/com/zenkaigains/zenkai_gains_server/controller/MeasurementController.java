@@ -0,0 +1,104 @@
+package com.zenkaigains.zenkai_gains_server.controller;
+
+import com.zenkaigains.zenkai_gains_server.dto.BodyMetricPointDTO;
+import com.zenkaigains.zenkai_gains_server.dto.MeasurementRequest;
+import com.zenkaigains.zenkai_gains_server.entity.BodyMetric;
+import com.zenkaigains.zenkai_gains_server.entity.BodyMetricEntry;
+import com.zenkaigains.zenkai_gains_server.security.AuthenticatedUser;
+import com.zenkaigains.zenkai_gains_server.security.CurrentUser;
+import com.zenkaigains.zenkai_gains_server.service.BodyMetricService;
+import com.zenkaigains.zenkai_gains_server.service.DateRange;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Body measurements (body fat and circumferences) for the measurements page.
+ */
+@RestController
+@RequestMapping("/api/measurements")
+public class MeasurementController {
+
+    private static final Logger logger = LoggerFactory.getLogger(MeasurementController.class);
+
+    @Autowired
+    private BodyMetricService bodyMetricService;
+
+    /**
+     * GET /api/measurements?metric=waist&from=2023-01-01&to=2025-12-31&points=400
+     * One metric's readings, oldest first, downsampled to at most points. Dates are optional and inclusive.
+     */
+    @GetMapping
+    public ResponseEntity<?> getSeries(@RequestParam("metric") String metric,
+                                       @RequestParam(value = "from", required = false) String from,
+                                       @RequestParam(value = "to", required = false) String to,
+                                       @RequestParam(value = "points", defaultValue = "" + BodyMetricService.DEFAULT_POINTS) int points,
+                                       @CurrentUser AuthenticatedUser principal) {
+        if (principal == null) {
+            return jsonError(HttpStatus.UNAUTHORIZED, "Unauthorized: invalid or missing token");
+        }
+        BodyMetric bodyMetric;
+        DateRange range;
+        try {
+            bodyMetric = BodyMetricService.parseMetric(metric);
+            range = DateRange.parse(from, to);
+        } catch (IllegalArgumentException e) {
+            return jsonError(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+        return ResponseEntity.ok(bodyMetricService.series(principal.getId(), bodyMetric,
+                range.fromInstant(), range.toInstantExclusive(), points));
+    }
+
+    /**
+     * POST /api/measurements - { date, values: { "waist": 82.5, "body_fat": 14 } }
+     * Returns the saved readings keyed by metric.
+     */
+    @PostMapping
+    public ResponseEntity<?> addMeasurements(@RequestBody MeasurementRequest request,
+                                             @CurrentUser AuthenticatedUser principal) {
+        if (principal == null) {
+            return jsonError(HttpStatus.UNAUTHORIZED, "Unauthorized: invalid or missing token");
+        }
+        try {
+            List<BodyMetricEntry> saved = bodyMetricService.record(principal.getId(), request.getDate(), request.getValues());
+            Map<String, BodyMetricPointDTO> response = new LinkedHashMap<>();
+            for (BodyMetricEntry entry : saved) {
+                response.put(entry.getMetric().name().toLowerCase(Locale.ROOT),
+                        new BodyMetricPointDTO(entry.getId(), entry.getMeasuredAt(), entry.getValue()));
+            }
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            return jsonError(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    /**
+     * DELETE /api/measurements/{id}
+     */
+    @DeleteMapping("/{id}")
+    public ResponseEntity<?> deleteMeasurement(@PathVariable("id") Long id,
+                                               @CurrentUser AuthenticatedUser principal) {
+        if (principal == null) {
+            return jsonError(HttpStatus.UNAUTHORIZED, "Unauthorized: invalid or missing token");
+        }
+        if (!bodyMetricService.delete(principal.getId(), id)) {
+            return jsonError(HttpStatus.NOT_FOUND, "Measurement not found");
+        }
+        return ResponseEntity.ok(Collections.singletonMap("message", "Measurement deleted"));
+    }
+
+    private ResponseEntity<?> jsonError(HttpStatus status, String errorMessage) {
+        logger.debug("Returning error ({}): {}", status, errorMessage);
+        return ResponseEntity.status(status)
+                .body(Collections.singletonMap("error", errorMessage));
+    }
+}
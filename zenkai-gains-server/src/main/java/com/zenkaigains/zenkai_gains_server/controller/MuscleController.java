@@ -1,4 +1,104 @@
 package com.zenkaigains.zenkai_gains_server.controller;
 
+import com.zenkaigains.zenkai_gains_server.dto.MuscleDTO;
+import com.zenkaigains.zenkai_gains_server.entity.Muscle;
+import com.zenkaigains.zenkai_gains_server.entity.MuscleGroup;
+import com.zenkaigains.zenkai_gains_server.repository.ExerciseMuscleTargetRepository;
+import com.zenkaigains.zenkai_gains_server.repository.MuscleGroupRepository;
+import com.zenkaigains.zenkai_gains_server.repository.MuscleRepository;
+import com.zenkaigains.zenkai_gains_server.service.CatalogCache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+@RestController
+@RequestMapping("/api/muscles")
 public class MuscleController {
+
+    @Autowired
+    private MuscleRepository muscleRepository;
+
+    @Autowired
+    private MuscleGroupRepository muscleGroupRepository;
+
+    @Autowired
+    private ExerciseMuscleTargetRepository exerciseMuscleTargetRepository;
+
+    @Autowired
+    private CatalogCache catalogCache;
+
+    // GET /api/muscles - All muscles, ordered by group then name.
+    @GetMapping
+    public List<MuscleDTO> getAllMuscles() {
+        List<MuscleDTO> muscles = new ArrayList<>();
+        for (Muscle muscle : muscleRepository.findAllWithGroup()) {
+            muscles.add(MuscleDTO.from(muscle));
+        }
+        return muscles;
+    }
+
+    // POST /api/muscles - Create a muscle in a group: { "name": ..., "muscleGroupId": ... }
+    @PostMapping
+    @PreAuthorize("hasAuthority('ROLE_ADMIN')")
+    public ResponseEntity<?> addMuscle(@RequestBody MuscleDTO request) {
+        if (request.getName() == null || request.getName().trim().isEmpty() || request.getMuscleGroupId() == null) {
+            return jsonError(HttpStatus.BAD_REQUEST, "name and muscleGroupId are required");
+        }
+        Optional<MuscleGroup> groupOpt = muscleGroupRepository.findById(request.getMuscleGroupId());
+        if (groupOpt.isEmpty()) {
+            return jsonError(HttpStatus.NOT_FOUND, "Muscle group not found");
+        }
+        String name = request.getName().trim();
+        if (muscleRepository.existsByMuscleGroupIdAndNameIgnoreCase(request.getMuscleGroupId(), name)) {
+            return jsonError(HttpStatus.CONFLICT, "Muscle already exists in this group");
+        }
+        Muscle saved = muscleRepository.save(new Muscle(name, groupOpt.get()));
+        catalogCache.invalidate();
+        return ResponseEntity.ok(MuscleDTO.from(saved));
+    }
+
+    // PUT /api/muscles/{id} - Rename a muscle: { "name": ... }
+    @PutMapping("/{id}")
+    @PreAuthorize("hasAuthority('ROLE_ADMIN')")
+    public ResponseEntity<?> updateMuscle(@PathVariable("id") Long id, @RequestBody MuscleDTO request) {
+        if (request.getName() == null || request.getName().trim().isEmpty()) {
+            return jsonError(HttpStatus.BAD_REQUEST, "name is required");
+        }
+        Optional<Muscle> muscleOpt = muscleRepository.findById(id);
+        if (muscleOpt.isEmpty()) {
+            return jsonError(HttpStatus.NOT_FOUND, "Muscle not found");
+        }
+        Muscle muscle = muscleOpt.get();
+        muscle.setName(request.getName().trim());
+        Muscle updated = muscleRepository.save(muscle);
+        catalogCache.invalidate(Collections.emptySet(), Set.of(id));
+        return ResponseEntity.ok(MuscleDTO.from(updated));
+    }
+
+    // DELETE /api/muscles/{id} - The database also removes exercise targets on this muscle.
+    @DeleteMapping("/{id}")
+    @PreAuthorize("hasAuthority('ROLE_ADMIN')")
+    public ResponseEntity<?> deleteMuscle(@PathVariable("id") Long id) {
+        if (!muscleRepository.existsById(id)) {
+            return jsonError(HttpStatus.NOT_FOUND, "Muscle not found");
+        }
+        // Looked up first: the cascade removes the targets that say which exercises were affected
+        List<Long> affectedExercises = exerciseMuscleTargetRepository.findExerciseIdsByMuscleIdIn(Set.of(id));
+        muscleRepository.deleteById(id);
+        catalogCache.invalidate(affectedExercises, Set.of(id));
+        return ResponseEntity.ok().build();
+    }
+
+    private ResponseEntity<?> jsonError(HttpStatus status, String errorMessage) {
+        return ResponseEntity.status(status)
+                .body(Collections.singletonMap("error", errorMessage));
+    }
 }
@@ -1,13 +1,27 @@
 package com.zenkaigains.zenkai_gains_server.controller;
 
+import com.zenkaigains.zenkai_gains_server.dto.MuscleDTO;
+import com.zenkaigains.zenkai_gains_server.dto.MuscleGroupDTO;
+import com.zenkaigains.zenkai_gains_server.entity.Exercise;
+import com.zenkaigains.zenkai_gains_server.entity.Muscle;
 import com.zenkaigains.zenkai_gains_server.entity.MuscleGroup;
+import com.zenkaigains.zenkai_gains_server.entity.MuscleGroupListing;
+import com.zenkaigains.zenkai_gains_server.repository.ExerciseMuscleTargetRepository;
+import com.zenkaigains.zenkai_gains_server.repository.ExerciseRepository;
+import com.zenkaigains.zenkai_gains_server.repository.MuscleGroupListingRepository;
 import com.zenkaigains.zenkai_gains_server.repository.MuscleGroupRepository;
+import com.zenkaigains.zenkai_gains_server.service.CatalogCache;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize; // Import the annotation
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -20,15 +34,36 @@ public class MuscleGroupController {
     @Autowired
     private MuscleGroupRepository muscleGroupRepository;
 
+    @Autowired
+    private ExerciseRepository exerciseRepository;
+
+    @Autowired
+    private MuscleGroupListingRepository muscleGroupListingRepository;
+
+    @Autowired
+    private ExerciseMuscleTargetRepository exerciseMuscleTargetRepository;
+
+    @Autowired
+    private CatalogCache catalogCache;
+
     // GET /api/workouts - Returns all muscle groups with exercises.
-    @GetMapping
-    public List<MuscleGroup> getAllMuscleGroups() {
-        return muscleGroupRepository.findAll();
+    // Served from the pre-serialized catalog cache; answers 304 when the client's ETag matches.
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getAllMuscleGroups(WebRequest webRequest) {
+        CatalogCache.Snapshot catalog = catalogCache.get();
+        if (webRequest.checkNotModified(catalog.getEtag())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(catalog.getEtag())
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(catalog.getJson());
     }
 
     // POST /api/workouts - Create a new muscle group.
     @PostMapping
-    public ResponseEntity<MuscleGroup> addMuscleGroup(@RequestBody MuscleGroup muscleGroup) {
+    public ResponseEntity<MuscleGroupDTO> addMuscleGroup(@RequestBody MuscleGroup muscleGroup) {
         if (muscleGroup.getName() == null || muscleGroup.getName().trim().isEmpty()) {
             return ResponseEntity.badRequest().build();
         }
@@ -36,23 +71,33 @@ public class MuscleGroupController {
             return ResponseEntity.status(HttpStatus.CONFLICT).build();
         }
         MuscleGroup saved = muscleGroupRepository.save(new MuscleGroup(muscleGroup.getName().trim()));
-        return ResponseEntity.ok(saved);
+        catalogCache.invalidate();
+        return ResponseEntity.ok(toDto(saved));
     }
 
     // DELETE /api/workouts/{name} - Delete a muscle group by its name.
+    // The database removes its muscles (and their targets) and unlists its exercises.
     @DeleteMapping("/{name}")
     public ResponseEntity<?> deleteMuscleGroup(@PathVariable("name") String name) {
         Optional<MuscleGroup> groupOpt = muscleGroupRepository.findByName(name);
         if (groupOpt.isEmpty()) {
             return ResponseEntity.notFound().build();
         }
+        // Looked up first: the cascade removes the muscles and targets that say which exercises were affected
+        List<Long> muscleIds = new ArrayList<>();
+        for (Muscle muscle : groupOpt.get().getMuscles()) {
+            muscleIds.add(muscle.getId());
+        }
+        List<Long> affectedExercises = muscleIds.isEmpty() ? Collections.emptyList()
+                : exerciseMuscleTargetRepository.findExerciseIdsByMuscleIdIn(muscleIds);
         muscleGroupRepository.delete(groupOpt.get());
+        catalogCache.invalidate(affectedExercises, muscleIds);
         return ResponseEntity.ok().build();
     }
 
     // PUT /api/workouts/{oldName} - Update a muscle group's name.
     @PutMapping("/{oldName}")
-    public ResponseEntity<MuscleGroup> updateMuscleGroup(@PathVariable("oldName") String oldName, @RequestBody Map<String, String> body) {
+    public ResponseEntity<MuscleGroupDTO> updateMuscleGroup(@PathVariable("oldName") String oldName, @RequestBody Map<String, String> body) {
         String newName = body.get("newName");
         if (newName == null || newName.trim().isEmpty()) {
             return ResponseEntity.badRequest().build();
@@ -64,12 +109,15 @@ public class MuscleGroupController {
         MuscleGroup group = groupOpt.get();
         group.setName(newName.trim());
         MuscleGroup updated = muscleGroupRepository.save(group);
-        return ResponseEntity.ok(updated);
+        catalogCache.invalidate();
+        return ResponseEntity.ok(toDto(updated));
     }
 
     // POST /api/workouts/{name}/exercises - Add an exercise to a muscle group.
+    // Lists the exercise under the group, creating the exercises row if the name is new.
+    // An exercise can be listed under several groups.
     @PostMapping("/{name}/exercises")
-    public ResponseEntity<MuscleGroup> addExercise(@PathVariable("name") String name, @RequestBody Map<String, String> body) {
+    public ResponseEntity<MuscleGroupDTO> addExercise(@PathVariable("name") String name, @RequestBody Map<String, String> body) {
         String exercise = body.get("exercise");
         if (exercise == null || exercise.trim().isEmpty()) {
             return ResponseEntity.badRequest().build();
@@ -79,24 +127,40 @@ public class MuscleGroupController {
             return ResponseEntity.notFound().build();
         }
         MuscleGroup group = groupOpt.get();
-        group.getExercises().add(exercise.trim());
-        MuscleGroup updated = muscleGroupRepository.save(group);
-        return ResponseEntity.ok(updated);
+        Exercise listed = exerciseRepository.findByNameIgnoreCase(exercise.trim())
+                .orElseGet(() -> exerciseRepository.save(new Exercise(exercise.trim(), null, group)));
+        if (!muscleGroupListingRepository.existsByMuscleGroupIdAndExerciseId(group.getId(), listed.getId())) {
+            muscleGroupListingRepository.save(new MuscleGroupListing(group, listed));
+        }
+        catalogCache.invalidate();
+        return ResponseEntity.ok(toDto(group));
     }
 
     // DELETE /api/workouts/{name}/exercises/{exercise} - Delete an exercise from a muscle group.
+    // Removes the listing only; the exercise stays in /api/exercises and under its other groups.
     @DeleteMapping("/{name}/exercises/{exercise}")
-    public ResponseEntity<MuscleGroup> deleteExercise(@PathVariable("name") String name, @PathVariable("exercise") String exercise) {
+    public ResponseEntity<MuscleGroupDTO> deleteExercise(@PathVariable("name") String name, @PathVariable("exercise") String exercise) {
         Optional<MuscleGroup> groupOpt = muscleGroupRepository.findByName(name);
         if (groupOpt.isEmpty()) {
             return ResponseEntity.notFound().build();
         }
         MuscleGroup group = groupOpt.get();
-        boolean removed = group.getExercises().removeIf(e -> e.equalsIgnoreCase(exercise));
-        if (!removed) {
+        Optional<MuscleGroupListing> listing =
+                muscleGroupListingRepository.findByMuscleGroupIdAndExerciseNameIgnoreCase(group.getId(), exercise);
+        if (listing.isEmpty()) {
             return ResponseEntity.notFound().build();
         }
-        MuscleGroup updated = muscleGroupRepository.save(group);
-        return ResponseEntity.ok(updated);
+        muscleGroupListingRepository.delete(listing.get());
+        catalogCache.invalidate();
+        return ResponseEntity.ok(toDto(group));
+    }
+
+    private MuscleGroupDTO toDto(MuscleGroup group) {
+        List<MuscleDTO> muscles = new ArrayList<>();
+        for (Muscle muscle : group.getMuscles()) {
+            muscles.add(new MuscleDTO(muscle.getId(), muscle.getName(), group.getId()));
+        }
+        return new MuscleGroupDTO(group.getId(), group.getName(), muscles,
+                muscleGroupListingRepository.findExerciseNamesByMuscleGroupId(group.getId()));
     }
 }
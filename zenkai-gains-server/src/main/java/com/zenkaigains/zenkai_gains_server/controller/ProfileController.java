@@ -2,17 +2,23 @@ package com.zenkaigains.zenkai_gains_server.controller;
 
 import com.zenkaigains.zenkai_gains_server.entity.User;
 import com.zenkaigains.zenkai_gains_server.repository.UserRepository;
+import com.zenkaigains.zenkai_gains_server.security.AuthenticatedUser;
+import com.zenkaigains.zenkai_gains_server.security.CurrentUser;
+import com.zenkaigains.zenkai_gains_server.service.PublicProfileCache;
 import com.zenkaigains.zenkai_gains_server.service.StorageService;
+import com.zenkaigains.zenkai_gains_server.service.UserAvailabilityService;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -26,13 +32,27 @@ public class ProfileController {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private PublicProfileCache publicProfileCache;
+
+    @Autowired
+    private UserAvailabilityService userAvailabilityService;
+
+    @Value("${storage.upload.max-bytes:10485760}")
+    private long maxUploadBytes;
+
+    @Value("${storage.upload.allowed-content-types:image/jpeg,image/png,image/webp,image/gif}")
+    private List<String> allowedContentTypes;
+
     /**
      * GET /api/profile
      */
     @GetMapping("/profile")
-    public ResponseEntity<?> getProfile() {
-        String email = getPrincipalEmail();
-        Optional<User> userOpt = userRepository.findByEmail(email);
+    public ResponseEntity<?> getProfile(@CurrentUser AuthenticatedUser principal) {
+        if (principal == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Unauthorized");
+        }
+        Optional<User> userOpt = userRepository.findById(principal.getId());
         if (userOpt.isEmpty()) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body("User not found");
         }
@@ -44,16 +64,26 @@ public class ProfileController {
      *  - updates user's username, bio, and/or profilePictureUrl
      */
     @PutMapping("/profile")
-    public ResponseEntity<?> updateProfile(@RequestBody Map<String, String> updates) {
-        String email = getPrincipalEmail();
-        Optional<User> userOpt = userRepository.findByEmail(email);
+    public ResponseEntity<?> updateProfile(@RequestBody Map<String, String> updates,
+                                           @CurrentUser AuthenticatedUser principal) {
+        if (principal == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Unauthorized");
+        }
+        Optional<User> userOpt = userRepository.findById(principal.getId());
         if (userOpt.isEmpty()) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body("User not found");
         }
 
         User user = userOpt.get();
         if (updates.containsKey("username")) {
-            user.setUsername(updates.get("username"));
+            String username = updates.get("username");
+            if (username == null || username.trim().isEmpty()) {
+                return ResponseEntity.badRequest().body("Username must not be empty");
+            }
+            if (userAvailabilityService.isUsernameTaken(username, user.getId())) {
+                return ResponseEntity.status(HttpStatus.CONFLICT).body("Username already taken");
+            }
+            user.setUsername(username);
         }
         if (updates.containsKey("bio")) {
             user.setBio(updates.get("bio"));
@@ -62,23 +92,64 @@ public class ProfileController {
             user.setProfilePictureUrl(updates.get("profilePictureUrl"));
         }
 
-        userRepository.save(user);
+        try {
+            userRepository.save(user);
+        } catch (DataIntegrityViolationException e) {
+            // Claimed by someone else between the check and the save
+            return ResponseEntity.status(HttpStatus.CONFLICT).body("Username already taken");
+        }
+        publicProfileCache.invalidateUser(user.getId());
+        userAvailabilityService.recordUser(user);
         return ResponseEntity.ok(user);
     }
 
+    /**
+     * GET /api/username-available?username=
+     *  - live check for the profile form; the caller's own username counts as available.
+     *    Names never seen are answered from the Bloom filter without a database query.
+     */
+    @GetMapping("/username-available")
+    public ResponseEntity<?> isUsernameAvailable(@RequestParam("username") String username,
+                                                 @CurrentUser AuthenticatedUser principal) {
+        if (username.trim().isEmpty()) {
+            return ResponseEntity.badRequest().body("Username must not be empty");
+        }
+        Integer exceptUserId = principal != null ? principal.getId() : null;
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("username", username);
+        body.put("available", !userAvailabilityService.isUsernameTaken(username, exceptUserId));
+        return ResponseEntity.ok(body);
+    }
+
     /**
      * POST /api/upload-profile-picture
      *  - upload a profile picture & store its public URL
      */
     @PostMapping("/upload-profile-picture")
-    public ResponseEntity<?> uploadProfilePicture(@RequestParam("profilePicture") MultipartFile file) {
+    public ResponseEntity<?> uploadProfilePicture(@RequestParam("profilePicture") MultipartFile file,
+                                                  @CurrentUser AuthenticatedUser principal) {
+        if (principal == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Unauthorized");
+        }
+        // Reject before any bytes are read from the part; the container already caps
+        // the request size (spring.servlet.multipart.*) and spools parts to disk.
+        if (file.isEmpty()) {
+            return ResponseEntity.badRequest().body("Profile picture is empty");
+        }
+        if (file.getSize() > maxUploadBytes) {
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE)
+                    .body("Profile picture must be at most " + maxUploadBytes + " bytes");
+        }
+        if (file.getContentType() == null || !allowedContentTypes.contains(file.getContentType())) {
+            return ResponseEntity.status(HttpStatus.UNSUPPORTED_MEDIA_TYPE)
+                    .body("Unsupported image type: " + file.getContentType());
+        }
         try {
-            // 1) Upload file
+            // 1) Upload file (streamed by the storage backend)
             String publicUrl = storageService.uploadFile(file);
 
-            // 2) Find user by email (principal)
-            String email = getPrincipalEmail();
-            Optional<User> userOpt = userRepository.findByEmail(email);
+            // 2) Find user by id (from the verified JWT)
+            Optional<User> userOpt = userRepository.findById(principal.getId());
             if (userOpt.isEmpty()) {
                 return ResponseEntity.status(HttpStatus.NOT_FOUND).body("User not found");
             }
@@ -87,6 +158,7 @@ public class ProfileController {
             User user = userOpt.get();
             user.setProfilePictureUrl(publicUrl);
             userRepository.save(user);
+            publicProfileCache.invalidateUser(user.getId());
 
             // 4) Return public URL
             return ResponseEntity.ok(Collections.singletonMap("publicUrl", publicUrl));
@@ -96,17 +168,4 @@ public class ProfileController {
                     .body("Error uploading file: " + e.getMessage());
         }
     }
-
-    /**
-     * Helper to get the currently-logged-in user's email from SecurityContext
-     */
-    private String getPrincipalEmail() {
-        Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-        if (principal instanceof UserDetails) {
-            // Usually the user's email is stored in UserDetails.getUsername()
-            return ((UserDetails) principal).getUsername();
-        } else {
-            return principal.toString();
-        }
-    }
 }
@@ -0,0 +1,89 @@
+package com.zenkaigains.zenkai_gains_server.controller;
+
+import com.zenkaigains.zenkai_gains_server.dto.ProgressPointDTO;
+import com.zenkaigains.zenkai_gains_server.entity.RollupPeriod;
+import com.zenkaigains.zenkai_gains_server.repository.ExerciseRollupRepository;
+import com.zenkaigains.zenkai_gains_server.security.AuthenticatedUser;
+import com.zenkaigains.zenkai_gains_server.security.CurrentUser;
+import com.zenkaigains.zenkai_gains_server.service.DateRange;
+import com.zenkaigains.zenkai_gains_server.service.ProgressRollupService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/progress")
+public class ProgressController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProgressController.class);
+
+    // Ranges longer than this default to weekly points
+    private static final long DAILY_MAX_DAYS = 180;
+
+    @Autowired
+    private ExerciseRollupRepository exerciseRollupRepository;
+
+    /**
+     * GET /api/progress/chart?exercise=Bench%20Press&granularity=week&from=2024-01-01&to=2024-12-31
+     * Per-day or per-week sets, reps, volume, best set and estimated 1RM for one exercise,
+     * read from the rollup tables (one row per point). granularity defaults to day for ranges
+     * up to 180 days and week otherwise; from and to are optional and inclusive.
+     */
+    @GetMapping("/chart")
+    public ResponseEntity<?> getChart(@RequestParam("exercise") String exercise,
+                                      @RequestParam(value = "granularity", required = false) String granularity,
+                                      @RequestParam(value = "from", required = false) String from,
+                                      @RequestParam(value = "to", required = false) String to,
+                                      @CurrentUser AuthenticatedUser principal) {
+        if (principal == null) {
+            return jsonError(HttpStatus.UNAUTHORIZED, "Unauthorized: invalid or missing token");
+        }
+        if (exercise.trim().isEmpty()) {
+            return jsonError(HttpStatus.BAD_REQUEST, "exercise is required");
+        }
+        DateRange range;
+        try {
+            range = DateRange.parse(from, to);
+        } catch (IllegalArgumentException e) {
+            return jsonError(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+        LocalDate fromDate = range.getFrom();
+        LocalDate toDate = range.getTo();
+
+        RollupPeriod period;
+        if (granularity == null || granularity.isEmpty()) {
+            boolean shortRange = fromDate != null
+                    && ChronoUnit.DAYS.between(fromDate, toDate != null ? toDate : LocalDate.now()) <= DAILY_MAX_DAYS;
+            period = shortRange ? RollupPeriod.DAY : RollupPeriod.WEEK;
+        } else if ("day".equalsIgnoreCase(granularity)) {
+            period = RollupPeriod.DAY;
+        } else if ("week".equalsIgnoreCase(granularity)) {
+            period = RollupPeriod.WEEK;
+        } else {
+            return jsonError(HttpStatus.BAD_REQUEST, "granularity must be day or week");
+        }
+        // A week is labelled by its Monday, so include the week that contains from
+        if (period == RollupPeriod.WEEK && fromDate != null) {
+            fromDate = ProgressRollupService.weekOf(fromDate);
+        }
+
+        List<ProgressPointDTO> points = exerciseRollupRepository.findSeries(principal.getId(),
+                ProgressRollupService.exerciseKey(exercise), period, fromDate, toDate);
+        logger.debug("Chart for user {} / {}: {} {} points", principal.getId(), exercise, points.size(), period);
+        return ResponseEntity.ok(points);
+    }
+
+    private ResponseEntity<?> jsonError(HttpStatus status, String errorMessage) {
+        logger.debug("Returning error ({}): {}", status, errorMessage);
+        return ResponseEntity.status(status)
+                .body(Collections.singletonMap("error", errorMessage));
+    }
+}
@@ -1,43 +1,109 @@
 package com.zenkaigains.zenkai_gains_server.controller;
 
-import com.zenkaigains.zenkai_gains_server.dto.UserPublicProfileDTO;
-import com.zenkaigains.zenkai_gains_server.entity.User;
+import com.zenkaigains.zenkai_gains_server.dto.LeaderboardEntryDTO;
 import com.zenkaigains.zenkai_gains_server.repository.UserRepository;
+import com.zenkaigains.zenkai_gains_server.service.PowerLeaderboard;
+import com.zenkaigains.zenkai_gains_server.service.PowerLevelService;
+import com.zenkaigains.zenkai_gains_server.service.PublicProfileCache;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 @RestController
 @RequestMapping("/api/public")
 public class PublicProfileController {
 
+    // Public data: shared caches may store it, but must check the ETag before every reuse
+    static final CacheControl PROFILE_CACHE_CONTROL =
+            CacheControl.maxAge(0, TimeUnit.SECONDS).cachePublic().mustRevalidate();
+
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private PowerLevelService powerLevelService;
+
+    @Autowired
+    private PublicProfileCache publicProfileCache;
+
+    /**
+     * GET /api/public/profile/{username}
+     * Served from PublicProfileCache. Browsers and proxies revalidate with If-None-Match
+     * and get a 304 while the ETag is unchanged.
+     */
     @GetMapping("/profile/{username}")
     public ResponseEntity<?> getPublicProfile(@PathVariable String username) {
-        Optional<User> userOpt = userRepository.findByUsername(username);
-        if (!userOpt.isPresent()) {
+        Optional<PublicProfileCache.CachedProfile> profile = publicProfileCache.get(username);
+        if (profile.isEmpty()) {
             return ResponseEntity
                     .status(HttpStatus.NOT_FOUND)
                     .body(Collections.singletonMap("error", "User not found"));
         }
-        User user = userOpt.get();
-
-        // Create and populate the DTO with only public data.
-        UserPublicProfileDTO dto = new UserPublicProfileDTO();
-        dto.setId(user.getId());                         // assuming you have an id field
-        dto.setUsername(user.getUsername());
-        dto.setProfilePictureUrl(user.getProfilePictureUrl());
-        dto.setBio(user.getBio());
-       // dto.setPowerLevel(user.getPowerLevel());         // if available Havent implemented yet
-        dto.setJoinedDate(user.getCreatedAt());          // assuming createdAt is used as joined date
-        //dto.setCompletedWorkouts(user.getCompletedWorkouts()); // if available havent implemented yet,
-
-        return ResponseEntity.ok(dto);
+        // Spring answers 304 itself when If-None-Match matches the ETag
+        return ResponseEntity.ok()
+                .cacheControl(PROFILE_CACHE_CONTROL)
+                .eTag(profile.get().getEtag())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(profile.get().getBody());
+    }
+
+    /**
+     * GET /api/public/leaderboard?offset=0&limit=20
+     * Highest power levels first. The ranking is served from memory; only the page's
+     * usernames and pictures are read, with one query.
+     */
+    @GetMapping("/leaderboard")
+    public ResponseEntity<?> getLeaderboard(@RequestParam(value = "offset", defaultValue = "0") int offset,
+                                            @RequestParam(value = "limit", defaultValue = "20") int limit) {
+        if (offset < 0 || limit < 1 || limit > PowerLevelService.MAX_PAGE_SIZE) {
+            return ResponseEntity
+                    .status(HttpStatus.BAD_REQUEST)
+                    .body(Collections.singletonMap("error",
+                            "offset must be 0 or more and limit between 1 and " + PowerLevelService.MAX_PAGE_SIZE));
+        }
+        Map<Integer, Object[]> users = new HashMap<>();
+        List<PowerLeaderboard.Standing> standings;
+        boolean removed;
+        do {
+            standings = powerLevelService.leaderboard(offset, limit);
+            List<Integer> ids = new ArrayList<>(standings.size());
+            for (PowerLeaderboard.Standing standing : standings) {
+                if (!users.containsKey(standing.getUserId())) {
+                    ids.add(standing.getUserId());
+                }
+            }
+            if (!ids.isEmpty()) {
+                for (Object[] row : userRepository.findPublicSummariesByIdIn(ids)) {
+                    users.put((Integer) row[0], row);
+                }
+            }
+            // Accounts deleted in the database since startup: drop them so later ranks close up, then re-read the page
+            removed = false;
+            for (Integer id : ids) {
+                if (!users.containsKey(id)) {
+                    powerLevelService.removeUser(id);
+                    removed = true;
+                }
+            }
+        } while (removed);
+
+        List<LeaderboardEntryDTO> entries = new ArrayList<>(standings.size());
+        for (PowerLeaderboard.Standing standing : standings) {
+            Object[] user = users.get(standing.getUserId());
+            entries.add(new LeaderboardEntryDTO(standing.getRank(), (String) user[1], (String) user[2],
+                    standing.getPowerLevel(), standing.getCompletedWorkouts()));
+        }
+        return ResponseEntity.ok(entries);
     }
 }
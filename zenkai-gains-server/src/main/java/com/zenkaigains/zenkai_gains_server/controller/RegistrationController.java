@@ -5,15 +5,22 @@ import com.zenkaigains.zenkai_gains_server.dto.RegistrationRequest;
 import com.zenkaigains.zenkai_gains_server.entity.User;
 import com.zenkaigains.zenkai_gains_server.repository.UserRepository;
 import com.zenkaigains.zenkai_gains_server.service.EmailVerificationService;
+import com.zenkaigains.zenkai_gains_server.service.PasswordHashingBusyException;
+import com.zenkaigains.zenkai_gains_server.service.PasswordHashingService;
+import com.zenkaigains.zenkai_gains_server.service.UserAvailabilityService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 @RestController
 @RequestMapping("/api")
@@ -26,34 +33,62 @@ public class RegistrationController {
     private UserRepository userRepository;
 
     @Autowired
-    private BCryptPasswordEncoder passwordEncoder;
+    private PasswordHashingService passwordHashingService;
 
+    @Autowired
+    private UserAvailabilityService userAvailabilityService;
+
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    private Executor applicationTaskExecutor;
+
+    /**
+     * Hashing runs on the password hashing pool; the user is saved once the hash is ready, on
+     * applicationTaskExecutor so the database and mail work never holds a hashing thread.
+     * Answers 503 when the hashing pool is saturated.
+     */
     @PostMapping("/register")
-    public ResponseEntity<?> registerUser(@RequestBody RegistrationRequest request) {
+    public CompletableFuture<ResponseEntity<?>> registerUser(@RequestBody RegistrationRequest request) {
         // Basic validation...
         if (request.getFirstName() == null || request.getFirstName().isEmpty() ||
                 request.getLastName() == null  || request.getLastName().isEmpty()  ||
                 request.getEmail() == null     || request.getEmail().isEmpty()     ||
                 request.getPassword() == null  || request.getPassword().isEmpty()) {
-            return ResponseEntity.badRequest().body("All fields are required.");
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().body("All fields are required."));
         }
 
-        // Check if email is in use
-        Optional<User> existingUser = userRepository.findByEmail(request.getEmail());
-        if (existingUser.isPresent()) {
-            return ResponseEntity.badRequest().body("Email already in use.");
+        // Check if email is in use; most fresh addresses are cleared by the Bloom filter without a query
+        if (userAvailabilityService.isEmailTaken(request.getEmail())) {
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().body("Email already in use."));
+        }
+
+        try {
+            return passwordHashingService.encode(request.getPassword())
+                    .thenApplyAsync(passwordHash -> createUser(request, passwordHash), applicationTaskExecutor);
+        } catch (PasswordHashingBusyException e) {
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body("Registration is busy right now. Please try again."));
         }
+    }
 
+    private ResponseEntity<?> createUser(RegistrationRequest request, String passwordHash) {
         // Create the user...
         User user = new User();
         user.setUsername(request.getEmail());
         user.setFirstName(request.getFirstName());
         user.setLastName(request.getLastName());
         user.setEmail(request.getEmail());
-        user.setPasswordHash(passwordEncoder.encode(request.getPassword()));
+        user.setPasswordHash(passwordHash);
         user.setIsVerified(false);
 
-        userRepository.save(user);
+        try {
+            userRepository.save(user);
+        } catch (DataIntegrityViolationException e) {
+            // Registered concurrently (or on another instance) after the availability check
+            return ResponseEntity.badRequest().body("Email already in use.");
+        }
+        userAvailabilityService.recordUser(user);
 
         // Send verification email...
         try {
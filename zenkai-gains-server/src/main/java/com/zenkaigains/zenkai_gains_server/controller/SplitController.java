@@ -1,4 +1,159 @@
 package com.zenkaigains.zenkai_gains_server.controller;
 
+import com.zenkaigains.zenkai_gains_server.dto.SplitBalanceDTO;
+import com.zenkaigains.zenkai_gains_server.dto.SplitDTO;
+import com.zenkaigains.zenkai_gains_server.dto.SplitRequest;
+import com.zenkaigains.zenkai_gains_server.entity.Split;
+import com.zenkaigains.zenkai_gains_server.security.AuthenticatedUser;
+import com.zenkaigains.zenkai_gains_server.security.CurrentUser;
+import com.zenkaigains.zenkai_gains_server.service.SplitService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+
+@RestController
+@RequestMapping("/api/splits")
 public class SplitController {
+
+    private static final Logger logger = LoggerFactory.getLogger(SplitController.class);
+
+    @Autowired
+    private SplitService splitService;
+
+    /**
+     * GET /api/splits
+     * The user's splits with their day labels and precomputed weekly volume per muscle.
+     */
+    @GetMapping
+    public ResponseEntity<?> getSplits(@CurrentUser AuthenticatedUser principal) {
+        if (principal == null) {
+            return jsonError(HttpStatus.UNAUTHORIZED, "Unauthorized: invalid or missing token");
+        }
+        List<Split> splits = splitService.findSplits(principal.getId());
+        List<SplitDTO> result = new ArrayList<>(splits.size());
+        for (Split split : splits) {
+            result.add(splitService.toDto(split, false));
+        }
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * GET /api/splits/{id}
+     * One split including the planned exercises of every day.
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<?> getSplit(@PathVariable("id") Long id,
+                                      @CurrentUser AuthenticatedUser principal) {
+        if (principal == null) {
+            return jsonError(HttpStatus.UNAUTHORIZED, "Unauthorized: invalid or missing token");
+        }
+        Optional<Split> split = splitService.findSplit(principal.getId(), id);
+        if (split.isEmpty()) {
+            return jsonError(HttpStatus.NOT_FOUND, "Split not found");
+        }
+        return ResponseEntity.ok(splitService.toDto(split.get(), true));
+    }
+
+    /**
+     * POST /api/splits
+     * Body: {"name": "PPL", "trainingDaysPerWeek": 6, "days": [{"name": "Push", "exercises":
+     * [{"exerciseId": 1, "sets": 4}]}]}. A plain {"name", "muscleGroups": ["Chest", "Back"]}
+     * is also accepted and creates one empty day per label.
+     */
+    @PostMapping
+    public ResponseEntity<?> createSplit(@RequestBody SplitRequest request,
+                                         @CurrentUser AuthenticatedUser principal) {
+        if (principal == null) {
+            return jsonError(HttpStatus.UNAUTHORIZED, "Unauthorized: invalid or missing token");
+        }
+        try {
+            Split split = splitService.create(principal.getId(), request);
+            logger.debug("User {} created split {}", principal.getId(), split.getId());
+            return ResponseEntity.status(HttpStatus.CREATED).body(splitService.toDto(split, true));
+        } catch (IllegalArgumentException e) {
+            return jsonError(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    /**
+     * PUT /api/splits/{id}
+     * Replaces the split with the request body (same shape as POST).
+     */
+    @PutMapping("/{id}")
+    public ResponseEntity<?> updateSplit(@PathVariable("id") Long id,
+                                         @RequestBody SplitRequest request,
+                                         @CurrentUser AuthenticatedUser principal) {
+        if (principal == null) {
+            return jsonError(HttpStatus.UNAUTHORIZED, "Unauthorized: invalid or missing token");
+        }
+        try {
+            Optional<Split> split = splitService.update(principal.getId(), id, request);
+            if (split.isEmpty()) {
+                return jsonError(HttpStatus.NOT_FOUND, "Split not found");
+            }
+            return ResponseEntity.ok(splitService.toDto(split.get(), true));
+        } catch (IllegalArgumentException e) {
+            return jsonError(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<?> deleteSplit(@PathVariable("id") Long id,
+                                         @CurrentUser AuthenticatedUser principal) {
+        if (principal == null) {
+            return jsonError(HttpStatus.UNAUTHORIZED, "Unauthorized: invalid or missing token");
+        }
+        if (!splitService.delete(principal.getId(), id)) {
+            return jsonError(HttpStatus.NOT_FOUND, "Split not found");
+        }
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * GET /api/splits/{id}/balance
+     * Weekly sets for every muscle in the catalog, flagged LOW, OK or HIGH.
+     */
+    @GetMapping("/{id}/balance")
+    public ResponseEntity<?> getBalance(@PathVariable("id") Long id,
+                                        @CurrentUser AuthenticatedUser principal) {
+        if (principal == null) {
+            return jsonError(HttpStatus.UNAUTHORIZED, "Unauthorized: invalid or missing token");
+        }
+        Optional<SplitBalanceDTO> balance = splitService.balance(principal.getId(), id);
+        if (balance.isEmpty()) {
+            return jsonError(HttpStatus.NOT_FOUND, "Split not found");
+        }
+        return ResponseEntity.ok(balance.get());
+    }
+
+    /**
+     * GET /api/splits/compare?ids=1,2,3
+     * Weekly sets per muscle for up to five splits side by side.
+     */
+    @GetMapping("/compare")
+    public ResponseEntity<?> compare(@RequestParam("ids") List<Long> ids,
+                                     @CurrentUser AuthenticatedUser principal) {
+        if (principal == null) {
+            return jsonError(HttpStatus.UNAUTHORIZED, "Unauthorized: invalid or missing token");
+        }
+        List<Long> distinct = new ArrayList<>(new LinkedHashSet<>(ids));
+        if (distinct.isEmpty() || distinct.size() > SplitService.MAX_COMPARED_SPLITS) {
+            return jsonError(HttpStatus.BAD_REQUEST,
+                    "Compare between 1 and " + SplitService.MAX_COMPARED_SPLITS + " splits");
+        }
+        return ResponseEntity.ok(splitService.compare(principal.getId(), distinct));
+    }
+
+    private ResponseEntity<?> jsonError(HttpStatus status, String message) {
+        return ResponseEntity.status(status).body(Collections.singletonMap("error", message));
+    }
 }
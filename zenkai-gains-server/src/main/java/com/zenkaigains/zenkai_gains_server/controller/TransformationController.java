@@ -1,27 +1,42 @@
 package com.zenkaigains.zenkai_gains_server.controller;
 
+import com.zenkaigains.zenkai_gains_server.dto.BatchImageUrlRequest;
+import com.zenkaigains.zenkai_gains_server.dto.BatchImageUrlResponse;
 import com.zenkaigains.zenkai_gains_server.dto.PresignedUrlRequest;
 import com.zenkaigains.zenkai_gains_server.dto.PresignedUrlResponse;
+import com.zenkaigains.zenkai_gains_server.dto.TransformationPageResponse;
 import com.zenkaigains.zenkai_gains_server.dto.TransformationRequest;
+import com.zenkaigains.zenkai_gains_server.dto.TransformationSummaryDTO;
 import com.zenkaigains.zenkai_gains_server.entity.Transformation;
 import com.zenkaigains.zenkai_gains_server.entity.User;
 import com.zenkaigains.zenkai_gains_server.repository.TransformationRepository;
 import com.zenkaigains.zenkai_gains_server.repository.UserRepository;
-import com.zenkaigains.zenkai_gains_server.service.JWTService;
+import com.zenkaigains.zenkai_gains_server.security.AuthenticatedUser;
+import com.zenkaigains.zenkai_gains_server.security.CurrentUser;
+import com.zenkaigains.zenkai_gains_server.service.ImageVariantService;
 import com.zenkaigains.zenkai_gains_server.service.StorageService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
-import jakarta.servlet.http.Cookie;
-import jakarta.servlet.http.HttpServletRequest;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 @RestController
 @RequestMapping("/api/transformation")
@@ -29,6 +44,10 @@ public class TransformationController {
 
     private static final Logger logger = LoggerFactory.getLogger(TransformationController.class);
 
+    private static final int DEFAULT_PAGE_SIZE = 30;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_BATCH_URLS = 100;
+
     @Autowired
     private StorageService storageService;
 
@@ -36,10 +55,14 @@ public class TransformationController {
     private TransformationRepository transformationRepository;
 
     @Autowired
-    private JWTService jwtService;
+    private UserRepository userRepository;
 
     @Autowired
-    private UserRepository userRepository;
+    private ImageVariantService imageVariantService;
+
+    @Autowired
+    @Qualifier("urlSigningExecutor")
+    private Executor urlSigningExecutor;
 
     /**
      * POST /api/transformation/upload-url
@@ -52,31 +75,28 @@ public class TransformationController {
             produces = "application/json"
     )
     public ResponseEntity<?> getSignedUrl(@RequestBody PresignedUrlRequest request,
-                                          HttpServletRequest httpRequest) {
+                                          @CurrentUser AuthenticatedUser principal) {
         logger.debug("Received request to generate signed URL for transformation upload.");
 
-        // 1) Validate token
-        String token = extractToken(httpRequest);
-        if (token == null || !jwtService.validateToken(token)) {
+        // 1) Caller identity comes straight from the verified JWT
+        if (principal == null) {
             logger.warn("Token missing or invalid.");
             return jsonError(HttpStatus.UNAUTHORIZED, "Unauthorized: invalid or missing token");
         }
-
-        // 2) Find the user
-        String email = jwtService.extractUsername(token);
-        Optional<User> userOpt = userRepository.findByEmail(email);
-        if (!userOpt.isPresent()) {
-            logger.warn("User not found for email: {}", email);
-            return jsonError(HttpStatus.NOT_FOUND, "User not found");
+        logger.debug("User: {} (ID: {})", principal.getUsername(), principal.getId());
+
+        // 2) Construct objectName (no uniqueness check; duplicates allowed).
+        //    The file name must be a bare name, so the object stays under the caller's own prefix.
+        String fileName = request.getFileName();
+        if (fileName == null || fileName.isBlank() || fileName.contains("/") || fileName.contains("\\")
+                || fileName.equals(".") || fileName.equals("..")) {
+            logger.warn("Rejected upload file name from user {}: {}", principal.getId(), fileName);
+            return jsonError(HttpStatus.BAD_REQUEST, "Invalid file name");
         }
-        User user = userOpt.get();
-        logger.debug("User found: {} (ID: {})", user.getUsername(), user.getId());
-
-        // 3) Construct objectName (no uniqueness check; duplicates allowed)
-        String objectName = "transformations/" + user.getId() + "/" + request.getFileName();
+        String objectName = "transformations/" + principal.getId() + "/" + fileName;
         logger.debug("Generated object name: {}", objectName);
 
-        // 4) Generate a PUT-signed URL for uploading
+        // 3) Generate a PUT-signed URL for uploading
         String uploadUrl = storageService.generateUploadUrl(
                 storageService.getTransformationBucketName(),
                 objectName,
@@ -84,7 +104,7 @@ public class TransformationController {
         );
         logger.debug("Generated signed upload URL: {}", uploadUrl);
 
-        // 5) Return that upload URL
+        // 4) Return that upload URL
         PresignedUrlResponse resp = new PresignedUrlResponse(uploadUrl, objectName);
         return ResponseEntity.ok(resp);
     }
@@ -95,26 +115,16 @@ public class TransformationController {
      */
     @PostMapping(consumes = "application/json", produces = "application/json")
     public ResponseEntity<?> saveTransformation(@RequestBody TransformationRequest req,
-                                                HttpServletRequest httpRequest) {
+                                                @CurrentUser AuthenticatedUser principal) {
         logger.debug("Received request to save transformation record.");
 
-        // 1) Validate token
-        String token = extractToken(httpRequest);
-        if (token == null || !jwtService.validateToken(token)) {
+        // 1) Caller identity comes straight from the verified JWT
+        if (principal == null) {
             logger.warn("Token missing or invalid while saving transformation.");
             return jsonError(HttpStatus.UNAUTHORIZED, "Unauthorized: invalid or missing token");
         }
 
-        // 2) Find user
-        String email = jwtService.extractUsername(token);
-        Optional<User> userOpt = userRepository.findByEmail(email);
-        if (!userOpt.isPresent()) {
-            logger.warn("User not found for email: {}", email);
-            return jsonError(HttpStatus.NOT_FOUND, "User not found");
-        }
-        User user = userOpt.get();
-
-        // 3) Parse date
+        // 2) Parse date
         LocalDate dateTaken;
         try {
             dateTaken = LocalDate.parse(req.getDate());
@@ -123,7 +133,9 @@ public class TransformationController {
             return jsonError(HttpStatus.BAD_REQUEST, "Invalid date format: " + req.getDate());
         }
 
-        // 4) Save transformation (duplicates allowed)
+        // 3) Save transformation (duplicates allowed).
+        //    A reference proxy is enough for the foreign key, so no SELECT on users is issued.
+        User user = userRepository.getReferenceById(principal.getId());
         Transformation transformation = new Transformation(
                 user,
                 req.getImageKey(),
@@ -131,98 +143,140 @@ public class TransformationController {
                 req.getPose()
         );
         transformationRepository.save(transformation);
-        logger.debug("Saved transformation record for user {}: {}", user.getUsername(), transformation.getGcsObjectName());
+        logger.debug("Saved transformation record for user {}: {}", principal.getId(), transformation.getGcsObjectName());
+
+        // 4) Resize in the background; the gallery serves the original until variants are ready
+        imageVariantService.generateVariantsAsync(transformation.getId(), transformation.getGcsObjectName());
 
         return ResponseEntity.ok(Collections.singletonMap("message", "Transformation saved"));
     }
 
     /**
      * GET /api/transformation
-     * Lists all transformations for the logged-in user.
+     * Lists all transformations for the logged-in user as slim summaries, newest first.
+     * Prefer GET /api/transformation/page for large galleries.
      */
     @GetMapping(produces = "application/json")
-    public ResponseEntity<?> listTransformations(HttpServletRequest httpRequest) {
+    public ResponseEntity<?> listTransformations(@CurrentUser AuthenticatedUser principal) {
         logger.debug("Received request to list transformations.");
 
-        // 1) Validate token
-        String token = extractToken(httpRequest);
-        if (token == null || !jwtService.validateToken(token)) {
+        // 1) Caller identity comes straight from the verified JWT
+        if (principal == null) {
             logger.warn("Token missing or invalid while listing transformations.");
             return jsonError(HttpStatus.UNAUTHORIZED, "Unauthorized: invalid or missing token");
         }
 
-        // 2) Find user
-        String email = jwtService.extractUsername(token);
-        Optional<User> userOpt = userRepository.findByEmail(email);
-        if (!userOpt.isPresent()) {
-            logger.warn("User not found for email: {}", email);
-            return jsonError(HttpStatus.NOT_FOUND, "User not found");
+        // 2) Return all transformations for that user
+        List<TransformationSummaryDTO> transformations = transformationRepository.findSummariesByUserId(principal.getId());
+        logger.debug("Found {} transformations for user {}", transformations.size(), principal.getId());
+        return ResponseEntity.ok(transformations);
+    }
+
+    /**
+     * GET /api/transformation/page?cursor=&limit=&pose=&from=&to=
+     * Keyset-paginated listing on (dateTaken, id) descending with optional pose and date filters.
+     * Honors If-None-Match and answers 304 when the page is unchanged.
+     */
+    @GetMapping(value = "/page", produces = "application/json")
+    public ResponseEntity<?> listTransformationPage(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit", required = false) Integer limit,
+            @RequestParam(value = "pose", required = false) String pose,
+            @RequestParam(value = "from", required = false) String from,
+            @RequestParam(value = "to", required = false) String to,
+            @CurrentUser AuthenticatedUser principal,
+            WebRequest webRequest
+    ) {
+        // 1) Caller identity comes straight from the verified JWT
+        if (principal == null) {
+            logger.warn("Token missing or invalid while paging transformations.");
+            return jsonError(HttpStatus.UNAUTHORIZED, "Unauthorized: invalid or missing token");
+        }
+
+        // 2) Parse filters and cursor
+        int pageSize = limit == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        LocalDate fromDate;
+        LocalDate toDate;
+        LocalDate cursorDate = null;
+        int cursorId = 0;
+        try {
+            fromDate = from == null || from.isEmpty() ? null : LocalDate.parse(from);
+            toDate = to == null || to.isEmpty() ? null : LocalDate.parse(to);
+            if (cursor != null && !cursor.isEmpty()) {
+                // Cursor format: "<dateTaken>_<id>" of the last item on the previous page
+                int sep = cursor.lastIndexOf('_');
+                cursorDate = LocalDate.parse(cursor.substring(0, sep));
+                cursorId = Integer.parseInt(cursor.substring(sep + 1));
+            }
+        } catch (Exception e) {
+            logger.debug("Invalid paging parameters: cursor={}, from={}, to={}", cursor, from, to);
+            return jsonError(HttpStatus.BAD_REQUEST, "Invalid cursor or date filter");
         }
-        User user = userOpt.get();
+        String poseFilter = pose == null || pose.isEmpty() ? null : pose;
 
-        // 3) Return all transformations for that user
-        List<Transformation> transformations = transformationRepository.findByUser(user);
-        logger.debug("Found {} transformations for user {}", transformations.size(), user.getUsername());
-        return ResponseEntity.ok(transformations);
+        // 3) Fetch one extra row to know whether another page exists
+        List<TransformationSummaryDTO> rows = transformationRepository.findPage(
+                principal.getId(), poseFilter, fromDate, toDate, cursorDate, cursorId,
+                PageRequest.of(0, pageSize + 1)
+        );
+        String nextCursor = null;
+        if (rows.size() > pageSize) {
+            rows = rows.subList(0, pageSize);
+            TransformationSummaryDTO last = rows.get(pageSize - 1);
+            nextCursor = last.getDateTaken() + "_" + last.getId();
+        }
+
+        // 4) Short-circuit with 304 when the client already has this exact page
+        String etag = pageEtag(rows, nextCursor);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .body(new TransformationPageResponse(rows, nextCursor));
     }
 
     /**
      * GET /api/transformation/image-url
      * Generates a signed GET URL for the transformation image (valid for 7 days).
+     * With a width, the URL points at the closest resized variant once it exists.
      */
     @GetMapping(value = "/image-url", produces = "application/json")
     public ResponseEntity<?> getImageUrl(
             @RequestParam("objectName") String objectName,
-            HttpServletRequest httpRequest
+            @RequestParam(value = "width", required = false) Integer width,
+            @CurrentUser AuthenticatedUser principal
     ) {
         logger.debug("Received request for image URL for object: {}", objectName);
 
-        // 1) Validate token
-        String token = extractToken(httpRequest);
-        if (token == null || !jwtService.validateToken(token)) {
+        // 1) Caller identity comes straight from the verified JWT
+        if (principal == null) {
             logger.warn("Token missing or invalid in image URL request.");
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                     .body(Collections.singletonMap("error", "Unauthorized"));
         }
 
-        // 2) Find user
-        String email = jwtService.extractUsername(token);
-        Optional<User> userOpt = userRepository.findByEmail(email);
-        if (!userOpt.isPresent()) {
-            logger.warn("User not found for email: {}", email);
-            return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                    .body(Collections.singletonMap("error", "User not found"));
-        }
-        User user = userOpt.get();
-
-        // 3) Find all transformations with that gcsObjectName
-        //    (Duplicates are allowed, so we just pick the first one that belongs to this user)
-        List<Transformation> transformations = transformationRepository.findByGcsObjectName(objectName);
-        if (transformations.isEmpty()) {
-            logger.warn("No transformation found for objectName: {}", objectName);
-            return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                    .body(Collections.singletonMap("error", "Transformation not found"));
-        }
-
-        // 4) Check ownership among all duplicates
-        //    If none belongs to this user, return 403
-        Transformation matching = null;
-        for (Transformation t : transformations) {
-            if (t.getUser().getId() == user.getId()) {
-                matching = t;
-                break;
+        // 2) Check ownership with a single indexed lookup
+        //    (Duplicates are allowed, so any matching row owned by this user is enough)
+        List<TransformationSummaryDTO> owned = transformationRepository.findOwnedSummariesByObjectNames(
+                principal.getId(), Collections.singleton(objectName));
+        if (owned.isEmpty()) {
+            // Only the failure path pays for a second query to tell 404 from 403
+            if (!transformationRepository.existsByGcsObjectName(objectName)) {
+                logger.warn("No transformation found for objectName: {}", objectName);
+                return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(Collections.singletonMap("error", "Transformation not found"));
             }
-        }
-        if (matching == null) {
-            logger.warn("User {} attempted to access transformations belonging to someone else.", user.getId());
+            logger.warn("User {} attempted to access transformations belonging to someone else.", principal.getId());
             return ResponseEntity.status(HttpStatus.FORBIDDEN)
                     .body(Collections.singletonMap("error", "Access denied"));
         }
 
-        // 5) Generate a GET-signed URL (valid for 7 days)
+        // 3) Generate a GET-signed URL (valid for 7 days)
         String signedUrl = storageService.generateGetUrl(
                 storageService.getTransformationBucketName(),
-                objectName
+                imageVariantService.objectNameForWidth(objectName, anyVariantsReady(owned), width)
         );
         logger.debug("Generated signed GET URL: {}", signedUrl);
 
@@ -230,23 +284,106 @@ public class TransformationController {
     }
 
     /**
-     * Extract JWT from cookie or Authorization header.
+     * POST /api/transformation/image-urls
+     * Batch version of /image-url: checks ownership of up to 100 object names and/or
+     * transformation ids in one query each, then signs all GET URLs in parallel.
      */
-    private String extractToken(HttpServletRequest request) {
-        if (request.getCookies() != null) {
-            for (Cookie cookie : request.getCookies()) {
-                if ("jwt".equals(cookie.getName())) {
-                    logger.debug("Extracted JWT from cookie.");
-                    return cookie.getValue();
+    @PostMapping(value = "/image-urls", consumes = "application/json", produces = "application/json")
+    public ResponseEntity<?> getImageUrls(@RequestBody BatchImageUrlRequest request,
+                                          @CurrentUser AuthenticatedUser principal) {
+        // 1) Caller identity comes straight from the verified JWT
+        if (principal == null) {
+            logger.warn("Token missing or invalid in batch image URL request.");
+            return jsonError(HttpStatus.UNAUTHORIZED, "Unauthorized: invalid or missing token");
+        }
+
+        Set<String> requestedNames = new LinkedHashSet<>();
+        if (request.getObjectNames() != null) {
+            requestedNames.addAll(request.getObjectNames());
+        }
+        Set<Integer> requestedIds = new LinkedHashSet<>();
+        if (request.getIds() != null) {
+            requestedIds.addAll(request.getIds());
+        }
+        if (requestedNames.isEmpty() && requestedIds.isEmpty()) {
+            return jsonError(HttpStatus.BAD_REQUEST, "Provide objectNames or ids");
+        }
+        if (requestedNames.size() + requestedIds.size() > MAX_BATCH_URLS) {
+            return jsonError(HttpStatus.BAD_REQUEST, "At most " + MAX_BATCH_URLS + " images per request");
+        }
+
+        // 2) Ownership: only objects belonging to this user are signed.
+        //    Values record whether resized variants exist for that object.
+        Map<String, Boolean> owned = new LinkedHashMap<>();
+        List<String> notFound = new ArrayList<>();
+        if (!requestedNames.isEmpty()) {
+            for (TransformationSummaryDTO t : transformationRepository.findOwnedSummariesByObjectNames(principal.getId(), requestedNames)) {
+                owned.merge(t.getGcsObjectName(), t.isVariantsReady(), Boolean::logicalOr);
+            }
+            for (String name : requestedNames) {
+                if (!owned.containsKey(name)) {
+                    notFound.add(name);
+                }
+            }
+        }
+        if (!requestedIds.isEmpty()) {
+            Set<Integer> foundIds = new LinkedHashSet<>();
+            for (TransformationSummaryDTO t : transformationRepository.findOwnedSummaries(principal.getId(), requestedIds)) {
+                owned.merge(t.getGcsObjectName(), t.isVariantsReady(), Boolean::logicalOr);
+                foundIds.add(t.getId());
+            }
+            for (Integer id : requestedIds) {
+                if (!foundIds.contains(id)) {
+                    notFound.add(String.valueOf(id));
                 }
             }
         }
-        String authHeader = request.getHeader("Authorization");
-        if (authHeader != null && authHeader.startsWith("Bearer ")) {
-            logger.debug("Extracted JWT from Authorization header.");
-            return authHeader.substring(7);
+
+        // 3) Sign every URL on the bounded signing pool, swapping in the requested variant
+        String bucket = storageService.getTransformationBucketName();
+        Map<String, CompletableFuture<String>> pending = new LinkedHashMap<>();
+        for (Map.Entry<String, Boolean> entry : owned.entrySet()) {
+            String target = imageVariantService.objectNameForWidth(entry.getKey(), entry.getValue(), request.getWidth());
+            pending.put(entry.getKey(), CompletableFuture.supplyAsync(
+                    () -> storageService.generateGetUrl(bucket, target), urlSigningExecutor));
+        }
+        Map<String, String> signedUrls = new LinkedHashMap<>();
+        try {
+            for (Map.Entry<String, CompletableFuture<String>> entry : pending.entrySet()) {
+                signedUrls.put(entry.getKey(), entry.getValue().join());
+            }
+        } catch (Exception e) {
+            logger.error("Failed to sign batch of {} URLs", pending.size(), e);
+            return jsonError(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to generate signed URLs");
+        }
+        logger.debug("Signed {} URLs for user {} ({} not found)", signedUrls.size(), principal.getId(), notFound.size());
+
+        return ResponseEntity.ok(new BatchImageUrlResponse(signedUrls, notFound));
+    }
+
+    /**
+     * Strong ETag over everything that is rendered for a page.
+     */
+    private String pageEtag(List<TransformationSummaryDTO> rows, String nextCursor) {
+        StringBuilder sb = new StringBuilder();
+        for (TransformationSummaryDTO row : rows) {
+            sb.append(row.getId()).append('|')
+                    .append(row.getGcsObjectName()).append('|')
+                    .append(row.getDateTaken()).append('|')
+                    .append(row.getPose()).append('|')
+                    .append(row.isVariantsReady()).append('\n');
+        }
+        sb.append(nextCursor);
+        return "\"" + DigestUtils.md5DigestAsHex(sb.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    private static boolean anyVariantsReady(List<TransformationSummaryDTO> rows) {
+        for (TransformationSummaryDTO row : rows) {
+            if (row.isVariantsReady()) {
+                return true;
+            }
         }
-        return null;
+        return false;
     }
 
     /**
@@ -0,0 +1,100 @@
+package com.zenkaigains.zenkai_gains_server.controller;
+
+import com.zenkaigains.zenkai_gains_server.dto.BodyMetricPointDTO;
+import com.zenkaigains.zenkai_gains_server.dto.WeightLogDTO;
+import com.zenkaigains.zenkai_gains_server.entity.BodyMetric;
+import com.zenkaigains.zenkai_gains_server.entity.BodyMetricEntry;
+import com.zenkaigains.zenkai_gains_server.security.AuthenticatedUser;
+import com.zenkaigains.zenkai_gains_server.security.CurrentUser;
+import com.zenkaigains.zenkai_gains_server.service.BodyMetricService;
+import com.zenkaigains.zenkai_gains_server.service.DateRange;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Body weight series for the progress page; stored as the WEIGHT body metric.
+ */
+@RestController
+@RequestMapping("/api/weightLogs")
+public class WeightLogController {
+
+    private static final Logger logger = LoggerFactory.getLogger(WeightLogController.class);
+
+    @Autowired
+    private BodyMetricService bodyMetricService;
+
+    /**
+     * GET /api/weightLogs?from=2023-01-01&to=2025-12-31&points=400
+     * Oldest first, downsampled to at most points readings. Dates are optional and inclusive.
+     */
+    @GetMapping
+    public ResponseEntity<?> listWeightLogs(@RequestParam(value = "from", required = false) String from,
+                                            @RequestParam(value = "to", required = false) String to,
+                                            @RequestParam(value = "points", defaultValue = "" + BodyMetricService.DEFAULT_POINTS) int points,
+                                            @CurrentUser AuthenticatedUser principal) {
+        if (principal == null) {
+            return jsonError(HttpStatus.UNAUTHORIZED, "Unauthorized: invalid or missing token");
+        }
+        DateRange range;
+        try {
+            range = DateRange.parse(from, to);
+        } catch (IllegalArgumentException e) {
+            return jsonError(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+        List<BodyMetricPointDTO> series = bodyMetricService.series(principal.getId(), BodyMetric.WEIGHT,
+                range.fromInstant(), range.toInstantExclusive(), points);
+        List<WeightLogDTO> logs = new ArrayList<>(series.size());
+        for (BodyMetricPointDTO point : series) {
+            logs.add(WeightLogDTO.from(point));
+        }
+        return ResponseEntity.ok(logs);
+    }
+
+    /**
+     * POST /api/weightLogs - { weight, date }
+     */
+    @PostMapping
+    public ResponseEntity<?> addWeightLog(@RequestBody WeightLogDTO request,
+                                          @CurrentUser AuthenticatedUser principal) {
+        if (principal == null) {
+            return jsonError(HttpStatus.UNAUTHORIZED, "Unauthorized: invalid or missing token");
+        }
+        try {
+            BodyMetricEntry saved = bodyMetricService.record(principal.getId(), request.getDate(),
+                    Collections.singletonMap("weight", request.getWeight())).get(0);
+            return ResponseEntity.ok(WeightLogDTO.from(
+                    new BodyMetricPointDTO(saved.getId(), saved.getMeasuredAt(), saved.getValue())));
+        } catch (IllegalArgumentException e) {
+            return jsonError(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    /**
+     * DELETE /api/weightLogs/{id}
+     */
+    @DeleteMapping("/{id}")
+    public ResponseEntity<?> deleteWeightLog(@PathVariable("id") Long id,
+                                             @CurrentUser AuthenticatedUser principal) {
+        if (principal == null) {
+            return jsonError(HttpStatus.UNAUTHORIZED, "Unauthorized: invalid or missing token");
+        }
+        if (!bodyMetricService.delete(principal.getId(), id)) {
+            return jsonError(HttpStatus.NOT_FOUND, "Weight log not found");
+        }
+        return ResponseEntity.ok(Collections.singletonMap("message", "Weight log deleted"));
+    }
+
+    private ResponseEntity<?> jsonError(HttpStatus status, String errorMessage) {
+        logger.debug("Returning error ({}): {}", status, errorMessage);
+        return ResponseEntity.status(status)
+                .body(Collections.singletonMap("error", errorMessage));
+    }
+}
@@ -0,0 +1,118 @@
+package com.zenkaigains.zenkai_gains_server.controller;
+
+import com.zenkaigains.zenkai_gains_server.dto.WorkoutLogDTO;
+import com.zenkaigains.zenkai_gains_server.dto.WorkoutLogRequest;
+import com.zenkaigains.zenkai_gains_server.dto.WorkoutSessionRequest;
+import com.zenkaigains.zenkai_gains_server.entity.WorkoutLog;
+import com.zenkaigains.zenkai_gains_server.security.AuthenticatedUser;
+import com.zenkaigains.zenkai_gains_server.security.CurrentUser;
+import com.zenkaigains.zenkai_gains_server.service.DateRange;
+import com.zenkaigains.zenkai_gains_server.service.WorkoutLogService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/workoutLogs")
+public class WorkoutLogController {
+
+    private static final Logger logger = LoggerFactory.getLogger(WorkoutLogController.class);
+
+    @Autowired
+    private WorkoutLogService workoutLogService;
+
+    /**
+     * GET /api/workoutLogs?from=2025-01-01&to=2025-03-31
+     * The caller's logs with all sets, oldest first. Both dates are optional and inclusive.
+     */
+    @GetMapping
+    public ResponseEntity<?> listLogs(@RequestParam(value = "from", required = false) String from,
+                                      @RequestParam(value = "to", required = false) String to,
+                                      @CurrentUser AuthenticatedUser principal) {
+        if (principal == null) {
+            return jsonError(HttpStatus.UNAUTHORIZED, "Unauthorized: invalid or missing token");
+        }
+        DateRange range;
+        try {
+            range = DateRange.parse(from, to);
+        } catch (IllegalArgumentException e) {
+            return jsonError(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+        return ResponseEntity.ok(toDtos(workoutLogService.findLogs(principal.getId(),
+                range.fromInstant(), range.toInstantExclusive())));
+    }
+
+    /**
+     * POST /api/workoutLogs
+     * Saves one exercise entry: { muscleGroup, exercise, sets, reps, weight, notes, date }.
+     */
+    @PostMapping
+    public ResponseEntity<?> addLog(@RequestBody WorkoutLogRequest request,
+                                    @CurrentUser AuthenticatedUser principal) {
+        if (principal == null) {
+            return jsonError(HttpStatus.UNAUTHORIZED, "Unauthorized: invalid or missing token");
+        }
+        try {
+            List<WorkoutLog> saved = workoutLogService.saveSession(principal.getId(), null,
+                    Collections.singletonList(request));
+            return ResponseEntity.ok(WorkoutLogDTO.from(saved.get(0)));
+        } catch (IllegalArgumentException e) {
+            return jsonError(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    /**
+     * POST /api/workoutLogs/bulk
+     * Saves a whole session in one request and one transaction: { date, logs: [ ... ] }.
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<?> addSession(@RequestBody WorkoutSessionRequest request,
+                                        @CurrentUser AuthenticatedUser principal) {
+        if (principal == null) {
+            return jsonError(HttpStatus.UNAUTHORIZED, "Unauthorized: invalid or missing token");
+        }
+        try {
+            List<WorkoutLog> saved = workoutLogService.saveSession(principal.getId(), request.getDate(),
+                    request.getLogs());
+            return ResponseEntity.ok(toDtos(saved));
+        } catch (IllegalArgumentException e) {
+            return jsonError(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    /**
+     * DELETE /api/workoutLogs/{id}
+     */
+    @DeleteMapping("/{id}")
+    public ResponseEntity<?> deleteLog(@PathVariable("id") Long id,
+                                       @CurrentUser AuthenticatedUser principal) {
+        if (principal == null) {
+            return jsonError(HttpStatus.UNAUTHORIZED, "Unauthorized: invalid or missing token");
+        }
+        if (!workoutLogService.deleteLog(principal.getId(), id)) {
+            return jsonError(HttpStatus.NOT_FOUND, "Workout log not found");
+        }
+        return ResponseEntity.ok(Collections.singletonMap("message", "Workout log deleted"));
+    }
+
+    private static List<WorkoutLogDTO> toDtos(List<WorkoutLog> logs) {
+        List<WorkoutLogDTO> dtos = new ArrayList<>(logs.size());
+        for (WorkoutLog log : logs) {
+            dtos.add(WorkoutLogDTO.from(log));
+        }
+        return dtos;
+    }
+
+    private ResponseEntity<?> jsonError(HttpStatus status, String errorMessage) {
+        logger.debug("Returning error ({}): {}", status, errorMessage);
+        return ResponseEntity.status(status)
+                .body(Collections.singletonMap("error", errorMessage));
+    }
+}
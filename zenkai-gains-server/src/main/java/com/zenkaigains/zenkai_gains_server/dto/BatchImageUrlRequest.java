@@ -0,0 +1,44 @@
+package com.zenkaigains.zenkai_gains_server.dto;
+
+import java.util.List;
+
+/**
+ * Request body for POST /api/transformation/image-urls.
+ * Supply object names, transformation ids, or both. With a display width, URLs point at the
+ * closest resized variant when one exists; responses are still keyed by the original object name.
+ */
+public class BatchImageUrlRequest {
+
+    private List<String> objectNames;
+    private List<Integer> ids;
+    private Integer width;
+
+    public BatchImageUrlRequest() {
+    }
+
+    // GETTERS
+    public List<String> getObjectNames() {
+        return objectNames;
+    }
+
+    public List<Integer> getIds() {
+        return ids;
+    }
+
+    public Integer getWidth() {
+        return width;
+    }
+
+    // SETTERS
+    public void setObjectNames(List<String> objectNames) {
+        this.objectNames = objectNames;
+    }
+
+    public void setIds(List<Integer> ids) {
+        this.ids = ids;
+    }
+
+    public void setWidth(Integer width) {
+        this.width = width;
+    }
+}
@@ -0,0 +1,27 @@
+package com.zenkaigains.zenkai_gains_server.dto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Signed GET URLs keyed by object name, plus the requested object names or ids
+ * that were not found among the caller's transformations.
+ */
+public class BatchImageUrlResponse {
+
+    private Map<String, String> signedUrls;
+    private List<String> notFound;
+
+    public BatchImageUrlResponse(Map<String, String> signedUrls, List<String> notFound) {
+        this.signedUrls = signedUrls;
+        this.notFound = notFound;
+    }
+
+    public Map<String, String> getSignedUrls() {
+        return signedUrls;
+    }
+
+    public List<String> getNotFound() {
+        return notFound;
+    }
+}
@@ -0,0 +1,50 @@
+package com.zenkaigains.zenkai_gains_server.dto;
+
+import java.time.Instant;
+
+/**
+ * One reading of a body metric series, as read for charts.
+ */
+public class BodyMetricPointDTO {
+
+    private Long id;
+    private Instant date;
+    private double value;
+
+    public BodyMetricPointDTO() {
+    }
+
+    // Used by the JPQL constructor projection in BodyMetricEntryRepository
+    public BodyMetricPointDTO(Long id, Instant date, float value) {
+        this.id = id;
+        this.date = date;
+        // Via the decimal string, so 80.1f reads back as 80.1 rather than 80.0999984741211
+        this.value = Double.parseDouble(Float.toString(value));
+    }
+
+    // GETTERS
+    public Long getId() {
+        return id;
+    }
+
+    public Instant getDate() {
+        return date;
+    }
+
+    public double getValue() {
+        return value;
+    }
+
+    // SETTERS
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public void setDate(Instant date) {
+        this.date = date;
+    }
+
+    public void setValue(double value) {
+        this.value = value;
+    }
+}
@@ -1,4 +1,93 @@
 package com.zenkaigains.zenkai_gains_server.dto;
 
+import com.zenkaigains.zenkai_gains_server.entity.Exercise;
+import com.zenkaigains.zenkai_gains_server.entity.ExerciseMuscleTarget;
+
+import java.util.ArrayList;
+import java.util.List;
+
 public class ExerciseDTO {
+
+    private Long id;
+    private String name;
+    private String description;
+    private Long muscleGroupId;
+    private List<ExerciseMuscleTargetDTO> targets;
+    private List<String> aliases;
+
+    public ExerciseDTO() {
+    }
+
+    public ExerciseDTO(Long id, String name, String description, Long muscleGroupId,
+                       List<ExerciseMuscleTargetDTO> targets, List<String> aliases) {
+        this.id = id;
+        this.name = name;
+        this.description = description;
+        this.muscleGroupId = muscleGroupId;
+        this.targets = targets;
+        this.aliases = aliases;
+    }
+
+    /**
+     * Expects targets and their muscles to be fetched already (see ExerciseRepository.findAllWithTargets).
+     */
+    public static ExerciseDTO from(Exercise exercise) {
+        List<ExerciseMuscleTargetDTO> targets = new ArrayList<>(exercise.getTargets().size());
+        for (ExerciseMuscleTarget target : exercise.getTargets()) {
+            targets.add(ExerciseMuscleTargetDTO.from(target));
+        }
+        Long groupId = exercise.getMuscleGroup() != null ? exercise.getMuscleGroup().getId() : null;
+        return new ExerciseDTO(exercise.getId(), exercise.getName(), exercise.getDescription(), groupId, targets,
+                new ArrayList<>(exercise.getAliases()));
+    }
+
+    // GETTERS
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public Long getMuscleGroupId() {
+        return muscleGroupId;
+    }
+
+    public List<ExerciseMuscleTargetDTO> getTargets() {
+        return targets;
+    }
+
+    public List<String> getAliases() {
+        return aliases;
+    }
+
+    // SETTERS
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public void setMuscleGroupId(Long muscleGroupId) {
+        this.muscleGroupId = muscleGroupId;
+    }
+
+    public void setTargets(List<ExerciseMuscleTargetDTO> targets) {
+        this.targets = targets;
+    }
+
+    public void setAliases(List<String> aliases) {
+        this.aliases = aliases;
+    }
 }
@@ -1,4 +1,39 @@
 package com.zenkaigains.zenkai_gains_server.dto;
 
+import com.zenkaigains.zenkai_gains_server.entity.ExerciseMuscleTarget;
+
 public class ExerciseMuscleTargetDTO {
+
+    private MuscleDTO muscle;
+    private int percentage;
+
+    public ExerciseMuscleTargetDTO() {
+    }
+
+    public ExerciseMuscleTargetDTO(MuscleDTO muscle, int percentage) {
+        this.muscle = muscle;
+        this.percentage = percentage;
+    }
+
+    public static ExerciseMuscleTargetDTO from(ExerciseMuscleTarget target) {
+        return new ExerciseMuscleTargetDTO(MuscleDTO.from(target.getMuscle()), target.getPercentage());
+    }
+
+    // GETTERS
+    public MuscleDTO getMuscle() {
+        return muscle;
+    }
+
+    public int getPercentage() {
+        return percentage;
+    }
+
+    // SETTERS
+    public void setMuscle(MuscleDTO muscle) {
+        this.muscle = muscle;
+    }
+
+    public void setPercentage(int percentage) {
+        this.percentage = percentage;
+    }
 }
@@ -1,4 +1,72 @@
 package com.zenkaigains.zenkai_gains_server.dto;
 
+import java.util.List;
+
+/**
+ * Request body for POST/PUT /api/exercises.
+ */
 public class ExerciseRequest {
+
+    private String name;
+    private String description;
+    private List<Target> targets;
+    private List<String> aliases;
+
+    public ExerciseRequest() {
+    }
+
+    // GETTERS
+    public String getName() {
+        return name;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public List<Target> getTargets() {
+        return targets;
+    }
+
+    public List<String> getAliases() {
+        return aliases;
+    }
+
+    // SETTERS
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public void setTargets(List<Target> targets) {
+        this.targets = targets;
+    }
+
+    public void setAliases(List<String> aliases) {
+        this.aliases = aliases;
+    }
+
+    public static class Target {
+        private Long muscleId;
+        private int percentage;
+
+        public Long getMuscleId() {
+            return muscleId;
+        }
+
+        public void setMuscleId(Long muscleId) {
+            this.muscleId = muscleId;
+        }
+
+        public int getPercentage() {
+            return percentage;
+        }
+
+        public void setPercentage(int percentage) {
+            this.percentage = percentage;
+        }
+    }
 }
@@ -0,0 +1,57 @@
+package com.zenkaigains.zenkai_gains_server.dto;
+
+/**
+ * One typeahead hit from GET /api/exercises/search. Percentage is the share of the
+ * filtered muscle, or null when the search is not filtered by muscle.
+ */
+public class ExerciseSuggestionDTO {
+
+    private Long id;
+    private String name;
+    private Long muscleGroupId;
+    private Integer percentage;
+
+    public ExerciseSuggestionDTO() {
+    }
+
+    public ExerciseSuggestionDTO(Long id, String name, Long muscleGroupId, Integer percentage) {
+        this.id = id;
+        this.name = name;
+        this.muscleGroupId = muscleGroupId;
+        this.percentage = percentage;
+    }
+
+    // GETTERS
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Long getMuscleGroupId() {
+        return muscleGroupId;
+    }
+
+    public Integer getPercentage() {
+        return percentage;
+    }
+
+    // SETTERS
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public void setMuscleGroupId(Long muscleGroupId) {
+        this.muscleGroupId = muscleGroupId;
+    }
+
+    public void setPercentage(Integer percentage) {
+        this.percentage = percentage;
+    }
+}
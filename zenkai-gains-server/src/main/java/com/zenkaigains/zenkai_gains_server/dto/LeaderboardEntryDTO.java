@@ -0,0 +1,67 @@
+package com.zenkaigains.zenkai_gains_server.dto;
+
+/**
+ * One row of GET /api/public/leaderboard.
+ */
+public class LeaderboardEntryDTO {
+
+    private int rank;
+    private String username;
+    private String profilePictureUrl;
+    private long powerLevel;
+    private int completedWorkouts;
+
+    public LeaderboardEntryDTO() {
+    }
+
+    public LeaderboardEntryDTO(int rank, String username, String profilePictureUrl,
+                               long powerLevel, int completedWorkouts) {
+        this.rank = rank;
+        this.username = username;
+        this.profilePictureUrl = profilePictureUrl;
+        this.powerLevel = powerLevel;
+        this.completedWorkouts = completedWorkouts;
+    }
+
+    // GETTERS
+    public int getRank() {
+        return rank;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public String getProfilePictureUrl() {
+        return profilePictureUrl;
+    }
+
+    public long getPowerLevel() {
+        return powerLevel;
+    }
+
+    public int getCompletedWorkouts() {
+        return completedWorkouts;
+    }
+
+    // SETTERS
+    public void setRank(int rank) {
+        this.rank = rank;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    public void setProfilePictureUrl(String profilePictureUrl) {
+        this.profilePictureUrl = profilePictureUrl;
+    }
+
+    public void setPowerLevel(long powerLevel) {
+        this.powerLevel = powerLevel;
+    }
+
+    public void setCompletedWorkouts(int completedWorkouts) {
+        this.completedWorkouts = completedWorkouts;
+    }
+}
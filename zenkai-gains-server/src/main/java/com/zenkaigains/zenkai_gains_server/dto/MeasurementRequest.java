@@ -0,0 +1,33 @@
+package com.zenkaigains.zenkai_gains_server.dto;
+
+import java.util.Map;
+
+/**
+ * Request body for POST /api/measurements: { "date": ..., "values": { "waist": 82.5, "chest": 104 } }.
+ */
+public class MeasurementRequest {
+
+    private String date;
+    private Map<String, Double> values;
+
+    public MeasurementRequest() {
+    }
+
+    // GETTERS
+    public String getDate() {
+        return date;
+    }
+
+    public Map<String, Double> getValues() {
+        return values;
+    }
+
+    // SETTERS
+    public void setDate(String date) {
+        this.date = date;
+    }
+
+    public void setValues(Map<String, Double> values) {
+        this.values = values;
+    }
+}
@@ -1,4 +1,52 @@
 package com.zenkaigains.zenkai_gains_server.dto;
 
+import com.zenkaigains.zenkai_gains_server.entity.Muscle;
+
+/**
+ * Muscle as returned by /api/muscles; also the request body for creating and renaming one.
+ */
 public class MuscleDTO {
+
+    private Long id;
+    private String name;
+    private Long muscleGroupId;
+
+    public MuscleDTO() {
+    }
+
+    public MuscleDTO(Long id, String name, Long muscleGroupId) {
+        this.id = id;
+        this.name = name;
+        this.muscleGroupId = muscleGroupId;
+    }
+
+    public static MuscleDTO from(Muscle muscle) {
+        return new MuscleDTO(muscle.getId(), muscle.getName(), muscle.getMuscleGroup().getId());
+    }
+
+    // GETTERS
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Long getMuscleGroupId() {
+        return muscleGroupId;
+    }
+
+    // SETTERS
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public void setMuscleGroupId(Long muscleGroupId) {
+        this.muscleGroupId = muscleGroupId;
+    }
 }
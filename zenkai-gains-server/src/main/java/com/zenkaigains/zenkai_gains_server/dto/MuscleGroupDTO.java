@@ -1,4 +1,59 @@
 package com.zenkaigains.zenkai_gains_server.dto;
 
+import java.util.List;
+
+/**
+ * Catalog entry served by /api/workouts: a muscle group, its muscles and the names of
+ * the exercises listed under it.
+ */
 public class MuscleGroupDTO {
+
+    private Long id;
+    private String name;
+    private List<MuscleDTO> muscles;
+    private List<String> exercises;
+
+    public MuscleGroupDTO() {
+    }
+
+    public MuscleGroupDTO(Long id, String name, List<MuscleDTO> muscles, List<String> exercises) {
+        this.id = id;
+        this.name = name;
+        this.muscles = muscles;
+        this.exercises = exercises;
+    }
+
+    // GETTERS
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public List<MuscleDTO> getMuscles() {
+        return muscles;
+    }
+
+    public List<String> getExercises() {
+        return exercises;
+    }
+
+    // SETTERS
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public void setMuscles(List<MuscleDTO> muscles) {
+        this.muscles = muscles;
+    }
+
+    public void setExercises(List<String> exercises) {
+        this.exercises = exercises;
+    }
 }
@@ -0,0 +1,67 @@
+package com.zenkaigains.zenkai_gains_server.dto;
+
+/**
+ * Weekly working sets for one muscle. status (LOW, OK or HIGH) is only set by the balance view.
+ */
+public class MuscleVolumeDTO {
+
+    private Long muscleId;
+    private Long muscleGroupId;
+    private String name;
+    private double sets;
+    private String status;
+
+    public MuscleVolumeDTO() {
+    }
+
+    public MuscleVolumeDTO(Long muscleId, Long muscleGroupId, String name, double sets, String status) {
+        this.muscleId = muscleId;
+        this.muscleGroupId = muscleGroupId;
+        this.name = name;
+        // One decimal is plenty for a set count
+        this.sets = Math.round(sets * 10) / 10.0;
+        this.status = status;
+    }
+
+    // GETTERS
+    public Long getMuscleId() {
+        return muscleId;
+    }
+
+    public Long getMuscleGroupId() {
+        return muscleGroupId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public double getSets() {
+        return sets;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    // SETTERS
+    public void setMuscleId(Long muscleId) {
+        this.muscleId = muscleId;
+    }
+
+    public void setMuscleGroupId(Long muscleGroupId) {
+        this.muscleGroupId = muscleGroupId;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public void setSets(double sets) {
+        this.sets = sets;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+}
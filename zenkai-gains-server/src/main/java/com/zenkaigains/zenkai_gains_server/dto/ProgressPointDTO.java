@@ -0,0 +1,90 @@
+package com.zenkaigains.zenkai_gains_server.dto;
+
+import java.time.LocalDate;
+
+/**
+ * One point of GET /api/progress/chart: a day or the week starting on date.
+ */
+public class ProgressPointDTO {
+
+    private LocalDate date;
+    private int sets;
+    private long reps;
+    private double volume;
+    private double bestWeight;
+    private int bestReps;
+    private double estimatedOneRepMax;
+
+    public ProgressPointDTO() {
+    }
+
+    // Used by the JPQL constructor projection in ExerciseRollupRepository
+    public ProgressPointDTO(LocalDate date, int sets, long reps, double volume,
+                            double bestWeight, int bestReps, double estimatedOneRepMax) {
+        this.date = date;
+        this.sets = sets;
+        this.reps = reps;
+        this.volume = volume;
+        this.bestWeight = bestWeight;
+        this.bestReps = bestReps;
+        this.estimatedOneRepMax = estimatedOneRepMax;
+    }
+
+    // GETTERS
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public int getSets() {
+        return sets;
+    }
+
+    public long getReps() {
+        return reps;
+    }
+
+    public double getVolume() {
+        return volume;
+    }
+
+    public double getBestWeight() {
+        return bestWeight;
+    }
+
+    public int getBestReps() {
+        return bestReps;
+    }
+
+    public double getEstimatedOneRepMax() {
+        return estimatedOneRepMax;
+    }
+
+    // SETTERS
+    public void setDate(LocalDate date) {
+        this.date = date;
+    }
+
+    public void setSets(int sets) {
+        this.sets = sets;
+    }
+
+    public void setReps(long reps) {
+        this.reps = reps;
+    }
+
+    public void setVolume(double volume) {
+        this.volume = volume;
+    }
+
+    public void setBestWeight(double bestWeight) {
+        this.bestWeight = bestWeight;
+    }
+
+    public void setBestReps(int bestReps) {
+        this.bestReps = bestReps;
+    }
+
+    public void setEstimatedOneRepMax(double estimatedOneRepMax) {
+        this.estimatedOneRepMax = estimatedOneRepMax;
+    }
+}
@@ -0,0 +1,39 @@
+package com.zenkaigains.zenkai_gains_server.dto;
+
+import com.zenkaigains.zenkai_gains_server.entity.SetEntry;
+
+public class SetEntryDTO {
+
+    private int reps;
+    private double weight;
+
+    public SetEntryDTO() {
+    }
+
+    public SetEntryDTO(int reps, double weight) {
+        this.reps = reps;
+        this.weight = weight;
+    }
+
+    public static SetEntryDTO from(SetEntry set) {
+        return new SetEntryDTO(set.getReps(), set.getWeight());
+    }
+
+    // GETTERS
+    public int getReps() {
+        return reps;
+    }
+
+    public double getWeight() {
+        return weight;
+    }
+
+    // SETTERS
+    public void setReps(int reps) {
+        this.reps = reps;
+    }
+
+    public void setWeight(double weight) {
+        this.weight = weight;
+    }
+}
@@ -0,0 +1,81 @@
+package com.zenkaigains.zenkai_gains_server.dto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * GET /api/splits/{id}/balance: weekly sets for every catalog muscle, flagged against the
+ * configured range, plus totals per muscle group name.
+ */
+public class SplitBalanceDTO {
+
+    private Long splitId;
+    private double totalSets;
+    private int minWeeklySets;
+    private int maxWeeklySets;
+    private List<MuscleVolumeDTO> muscles;
+    private Map<String, Double> groupSets;
+
+    public SplitBalanceDTO() {
+    }
+
+    public SplitBalanceDTO(Long splitId, double totalSets, int minWeeklySets, int maxWeeklySets,
+                           List<MuscleVolumeDTO> muscles, Map<String, Double> groupSets) {
+        this.splitId = splitId;
+        this.totalSets = totalSets;
+        this.minWeeklySets = minWeeklySets;
+        this.maxWeeklySets = maxWeeklySets;
+        this.muscles = muscles;
+        this.groupSets = groupSets;
+    }
+
+    // GETTERS
+    public Long getSplitId() {
+        return splitId;
+    }
+
+    public double getTotalSets() {
+        return totalSets;
+    }
+
+    public int getMinWeeklySets() {
+        return minWeeklySets;
+    }
+
+    public int getMaxWeeklySets() {
+        return maxWeeklySets;
+    }
+
+    public List<MuscleVolumeDTO> getMuscles() {
+        return muscles;
+    }
+
+    public Map<String, Double> getGroupSets() {
+        return groupSets;
+    }
+
+    // SETTERS
+    public void setSplitId(Long splitId) {
+        this.splitId = splitId;
+    }
+
+    public void setTotalSets(double totalSets) {
+        this.totalSets = totalSets;
+    }
+
+    public void setMinWeeklySets(int minWeeklySets) {
+        this.minWeeklySets = minWeeklySets;
+    }
+
+    public void setMaxWeeklySets(int maxWeeklySets) {
+        this.maxWeeklySets = maxWeeklySets;
+    }
+
+    public void setMuscles(List<MuscleVolumeDTO> muscles) {
+        this.muscles = muscles;
+    }
+
+    public void setGroupSets(Map<String, Double> groupSets) {
+        this.groupSets = groupSets;
+    }
+}
@@ -0,0 +1,87 @@
+package com.zenkaigains.zenkai_gains_server.dto;
+
+import java.util.List;
+
+/**
+ * GET /api/splits/compare: weekly sets per muscle side by side; sets[i] belongs to splits[i].
+ */
+public class SplitComparisonDTO {
+
+    private List<SplitDTO> splits;
+    private List<Row> muscles;
+
+    public SplitComparisonDTO() {
+    }
+
+    public SplitComparisonDTO(List<SplitDTO> splits, List<Row> muscles) {
+        this.splits = splits;
+        this.muscles = muscles;
+    }
+
+    // GETTERS
+    public List<SplitDTO> getSplits() {
+        return splits;
+    }
+
+    public List<Row> getMuscles() {
+        return muscles;
+    }
+
+    // SETTERS
+    public void setSplits(List<SplitDTO> splits) {
+        this.splits = splits;
+    }
+
+    public void setMuscles(List<Row> muscles) {
+        this.muscles = muscles;
+    }
+
+    public static class Row {
+        private Long muscleId;
+        private Long muscleGroupId;
+        private String name;
+        private List<Double> sets;
+
+        public Row() {
+        }
+
+        public Row(Long muscleId, Long muscleGroupId, String name, List<Double> sets) {
+            this.muscleId = muscleId;
+            this.muscleGroupId = muscleGroupId;
+            this.name = name;
+            this.sets = sets;
+        }
+
+        public Long getMuscleId() {
+            return muscleId;
+        }
+
+        public void setMuscleId(Long muscleId) {
+            this.muscleId = muscleId;
+        }
+
+        public Long getMuscleGroupId() {
+            return muscleGroupId;
+        }
+
+        public void setMuscleGroupId(Long muscleGroupId) {
+            this.muscleGroupId = muscleGroupId;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public List<Double> getSets() {
+            return sets;
+        }
+
+        public void setSets(List<Double> sets) {
+            this.sets = sets;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.zenkaigains.zenkai_gains_server.dto;
+
+import java.util.List;
+
+/**
+ * Split as read by the splits page. muscleGroups holds the day labels in order;
+ * days (with planned exercises) is only filled for a single split.
+ */
+public class SplitDTO {
+
+    private Long id;
+    private String name;
+    private int trainingDaysPerWeek;
+    private List<String> muscleGroups;
+    private List<SplitRequest.Day> days;
+    private List<MuscleVolumeDTO> weeklyVolume;
+
+    public SplitDTO() {
+    }
+
+    public SplitDTO(Long id, String name, int trainingDaysPerWeek, List<String> muscleGroups,
+                    List<SplitRequest.Day> days, List<MuscleVolumeDTO> weeklyVolume) {
+        this.id = id;
+        this.name = name;
+        this.trainingDaysPerWeek = trainingDaysPerWeek;
+        this.muscleGroups = muscleGroups;
+        this.days = days;
+        this.weeklyVolume = weeklyVolume;
+    }
+
+    // GETTERS
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getTrainingDaysPerWeek() {
+        return trainingDaysPerWeek;
+    }
+
+    public List<String> getMuscleGroups() {
+        return muscleGroups;
+    }
+
+    public List<SplitRequest.Day> getDays() {
+        return days;
+    }
+
+    public List<MuscleVolumeDTO> getWeeklyVolume() {
+        return weeklyVolume;
+    }
+
+    // SETTERS
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public void setTrainingDaysPerWeek(int trainingDaysPerWeek) {
+        this.trainingDaysPerWeek = trainingDaysPerWeek;
+    }
+
+    public void setMuscleGroups(List<String> muscleGroups) {
+        this.muscleGroups = muscleGroups;
+    }
+
+    public void setDays(List<SplitRequest.Day> days) {
+        this.days = days;
+    }
+
+    public void setWeeklyVolume(List<MuscleVolumeDTO> weeklyVolume) {
+        this.weeklyVolume = weeklyVolume;
+    }
+}
@@ -1,4 +1,120 @@
 package com.zenkaigains.zenkai_gains_server.dto;
 
+import java.util.List;
+
+/**
+ * Request body for POST/PUT /api/splits.
+ * Either days (with planned exercises) or just muscleGroups, the day labels the splits page sends.
+ */
 public class SplitRequest {
+
+    private String name;
+    private Integer trainingDaysPerWeek;
+    private List<String> muscleGroups;
+    private List<Day> days;
+
+    public SplitRequest() {
+    }
+
+    // GETTERS
+    public String getName() {
+        return name;
+    }
+
+    public Integer getTrainingDaysPerWeek() {
+        return trainingDaysPerWeek;
+    }
+
+    public List<String> getMuscleGroups() {
+        return muscleGroups;
+    }
+
+    public List<Day> getDays() {
+        return days;
+    }
+
+    // SETTERS
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public void setTrainingDaysPerWeek(Integer trainingDaysPerWeek) {
+        this.trainingDaysPerWeek = trainingDaysPerWeek;
+    }
+
+    public void setMuscleGroups(List<String> muscleGroups) {
+        this.muscleGroups = muscleGroups;
+    }
+
+    public void setDays(List<Day> days) {
+        this.days = days;
+    }
+
+    public static class Day {
+        private String name;
+        private Long muscleGroupId;
+        private List<PlannedExercise> exercises;
+
+        public Day() {
+        }
+
+        public Day(String name, Long muscleGroupId, List<PlannedExercise> exercises) {
+            this.name = name;
+            this.muscleGroupId = muscleGroupId;
+            this.exercises = exercises;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public Long getMuscleGroupId() {
+            return muscleGroupId;
+        }
+
+        public void setMuscleGroupId(Long muscleGroupId) {
+            this.muscleGroupId = muscleGroupId;
+        }
+
+        public List<PlannedExercise> getExercises() {
+            return exercises;
+        }
+
+        public void setExercises(List<PlannedExercise> exercises) {
+            this.exercises = exercises;
+        }
+    }
+
+    public static class PlannedExercise {
+        private Long exerciseId;
+        private int sets;
+
+        public PlannedExercise() {
+        }
+
+        public PlannedExercise(Long exerciseId, int sets) {
+            this.exerciseId = exerciseId;
+            this.sets = sets;
+        }
+
+        public Long getExerciseId() {
+            return exerciseId;
+        }
+
+        public void setExerciseId(Long exerciseId) {
+            this.exerciseId = exerciseId;
+        }
+
+        public int getSets() {
+            return sets;
+        }
+
+        public void setSets(int sets) {
+            this.sets = sets;
+        }
+    }
 }
@@ -0,0 +1,26 @@
+package com.zenkaigains.zenkai_gains_server.dto;
+
+import java.util.List;
+
+/**
+ * One page of a user's transformations, newest first.
+ * nextCursor is null on the last page; otherwise pass it back as ?cursor= to continue.
+ */
+public class TransformationPageResponse {
+
+    private List<TransformationSummaryDTO> items;
+    private String nextCursor;
+
+    public TransformationPageResponse(List<TransformationSummaryDTO> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<TransformationSummaryDTO> getItems() {
+        return items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+}
@@ -0,0 +1,51 @@
+package com.zenkaigains.zenkai_gains_server.dto;
+
+import java.time.LocalDate;
+
+/**
+ * Slim view of a Transformation for gallery listings: no owner, no user graph.
+ */
+public class TransformationSummaryDTO {
+
+    private int id;
+    private String gcsObjectName;
+    private LocalDate dateTaken;
+    private String pose;
+    private boolean variantsReady;
+
+    public TransformationSummaryDTO() {
+    }
+
+    // Used by JPQL constructor projections in TransformationRepository
+    public TransformationSummaryDTO(int id, String gcsObjectName, LocalDate dateTaken, String pose, Boolean variantsReady) {
+        this.id = id;
+        this.gcsObjectName = gcsObjectName;
+        this.dateTaken = dateTaken;
+        this.pose = pose;
+        this.variantsReady = Boolean.TRUE.equals(variantsReady);
+    }
+
+    // GETTERS
+    public int getId() {
+        return id;
+    }
+
+    public String getGcsObjectName() {
+        return gcsObjectName;
+    }
+
+    public LocalDate getDateTaken() {
+        return dateTaken;
+    }
+
+    public String getPose() {
+        return pose;
+    }
+
+    /**
+     * True when resized thumbnails exist; request them via /image-urls with a width.
+     */
+    public boolean isVariantsReady() {
+        return variantsReady;
+    }
+}
@@ -10,6 +10,18 @@ public class UserPublicProfileDTO {
     private LocalDateTime joinedDate;
     private int powerLevel; // adjust type as needed
     private int completedWorkouts; // adjust type as needed
+    private Integer rank; // leaderboard position, null until something is logged
+
+    public UserPublicProfileDTO() {
+    }
+
+    public UserPublicProfileDTO(int id, String username, String bio, String profilePictureUrl, LocalDateTime joinedDate) {
+        this.id = id;
+        this.username = username;
+        this.bio = bio;
+        this.profilePictureUrl = profilePictureUrl;
+        this.joinedDate = joinedDate;
+    }
 
     // Getters and setters
 
@@ -55,4 +67,10 @@ public class UserPublicProfileDTO {
     public void setCompletedWorkouts(int completedWorkouts) {
         this.completedWorkouts = completedWorkouts;
     }
+    public Integer getRank() {
+        return rank;
+    }
+    public void setRank(Integer rank) {
+        this.rank = rank;
+    }
 }
@@ -0,0 +1,50 @@
+package com.zenkaigains.zenkai_gains_server.dto;
+
+/**
+ * Body weight reading in the shape the progress page reads and posts: { id, weight, date }.
+ */
+public class WeightLogDTO {
+
+    private Long id;
+    private Double weight;
+    private String date;
+
+    public WeightLogDTO() {
+    }
+
+    public WeightLogDTO(Long id, Double weight, String date) {
+        this.id = id;
+        this.weight = weight;
+        this.date = date;
+    }
+
+    public static WeightLogDTO from(BodyMetricPointDTO point) {
+        return new WeightLogDTO(point.getId(), point.getValue(), point.getDate().toString());
+    }
+
+    // GETTERS
+    public Long getId() {
+        return id;
+    }
+
+    public Double getWeight() {
+        return weight;
+    }
+
+    public String getDate() {
+        return date;
+    }
+
+    // SETTERS
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public void setWeight(Double weight) {
+        this.weight = weight;
+    }
+
+    public void setDate(String date) {
+        this.date = date;
+    }
+}
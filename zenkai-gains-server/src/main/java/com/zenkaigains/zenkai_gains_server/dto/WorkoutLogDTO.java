@@ -0,0 +1,137 @@
+package com.zenkaigains.zenkai_gains_server.dto;
+
+import com.zenkaigains.zenkai_gains_server.entity.SetEntry;
+import com.zenkaigains.zenkai_gains_server.entity.WorkoutLog;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Workout log in the shape the progress page reads. sets is the set count and reps/weight
+ * describe the top (heaviest) set; setEntries has every set.
+ */
+public class WorkoutLogDTO {
+
+    private Long id;
+    private String muscleGroup;
+    private String exercise;
+    private Long exerciseId;
+    private int sets;
+    private int reps;
+    private double weight;
+    private String notes;
+    private String date;
+    private List<SetEntryDTO> setEntries;
+
+    public WorkoutLogDTO() {
+    }
+
+    /**
+     * Expects the sets to be fetched already (see WorkoutLogRepository.findByUserIdWithSets).
+     */
+    public static WorkoutLogDTO from(WorkoutLog log) {
+        WorkoutLogDTO dto = new WorkoutLogDTO();
+        dto.id = log.getId();
+        dto.muscleGroup = log.getMuscleGroupName();
+        dto.exercise = log.getExerciseName();
+        dto.exerciseId = log.getExercise() != null ? log.getExercise().getId() : null;
+        dto.notes = log.getNotes();
+        dto.date = log.getPerformedAt().toString();
+        dto.setEntries = new ArrayList<>(log.getSets().size());
+        SetEntry top = null;
+        for (SetEntry set : log.getSets()) {
+            dto.setEntries.add(SetEntryDTO.from(set));
+            if (top == null || set.getWeight() > top.getWeight()) {
+                top = set;
+            }
+        }
+        dto.sets = log.getSets().size();
+        if (top != null) {
+            dto.reps = top.getReps();
+            dto.weight = top.getWeight();
+        }
+        return dto;
+    }
+
+    // GETTERS
+    public Long getId() {
+        return id;
+    }
+
+    public String getMuscleGroup() {
+        return muscleGroup;
+    }
+
+    public String getExercise() {
+        return exercise;
+    }
+
+    public Long getExerciseId() {
+        return exerciseId;
+    }
+
+    public int getSets() {
+        return sets;
+    }
+
+    public int getReps() {
+        return reps;
+    }
+
+    public double getWeight() {
+        return weight;
+    }
+
+    public String getNotes() {
+        return notes;
+    }
+
+    public String getDate() {
+        return date;
+    }
+
+    public List<SetEntryDTO> getSetEntries() {
+        return setEntries;
+    }
+
+    // SETTERS
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public void setMuscleGroup(String muscleGroup) {
+        this.muscleGroup = muscleGroup;
+    }
+
+    public void setExercise(String exercise) {
+        this.exercise = exercise;
+    }
+
+    public void setExerciseId(Long exerciseId) {
+        this.exerciseId = exerciseId;
+    }
+
+    public void setSets(int sets) {
+        this.sets = sets;
+    }
+
+    public void setReps(int reps) {
+        this.reps = reps;
+    }
+
+    public void setWeight(double weight) {
+        this.weight = weight;
+    }
+
+    public void setNotes(String notes) {
+        this.notes = notes;
+    }
+
+    public void setDate(String date) {
+        this.date = date;
+    }
+
+    public void setSetEntries(List<SetEntryDTO> setEntries) {
+        this.setEntries = setEntries;
+    }
+}
@@ -0,0 +1,88 @@
+package com.zenkaigains.zenkai_gains_server.dto;
+
+import java.util.List;
+
+/**
+ * Request body for POST /api/workoutLogs, as sent by the progress page.
+ * Either give sets/reps/weight for identical sets, or setEntries for one entry per set.
+ */
+public class WorkoutLogRequest {
+
+    private String muscleGroup;
+    private String exercise;
+    private Integer sets;
+    private Integer reps;
+    private Double weight;
+    private String notes;
+    private String date;
+    private List<SetEntryDTO> setEntries;
+
+    public WorkoutLogRequest() {
+    }
+
+    // GETTERS
+    public String getMuscleGroup() {
+        return muscleGroup;
+    }
+
+    public String getExercise() {
+        return exercise;
+    }
+
+    public Integer getSets() {
+        return sets;
+    }
+
+    public Integer getReps() {
+        return reps;
+    }
+
+    public Double getWeight() {
+        return weight;
+    }
+
+    public String getNotes() {
+        return notes;
+    }
+
+    public String getDate() {
+        return date;
+    }
+
+    public List<SetEntryDTO> getSetEntries() {
+        return setEntries;
+    }
+
+    // SETTERS
+    public void setMuscleGroup(String muscleGroup) {
+        this.muscleGroup = muscleGroup;
+    }
+
+    public void setExercise(String exercise) {
+        this.exercise = exercise;
+    }
+
+    public void setSets(Integer sets) {
+        this.sets = sets;
+    }
+
+    public void setReps(Integer reps) {
+        this.reps = reps;
+    }
+
+    public void setWeight(Double weight) {
+        this.weight = weight;
+    }
+
+    public void setNotes(String notes) {
+        this.notes = notes;
+    }
+
+    public void setDate(String date) {
+        this.date = date;
+    }
+
+    public void setSetEntries(List<SetEntryDTO> setEntries) {
+        this.setEntries = setEntries;
+    }
+}
@@ -0,0 +1,34 @@
+package com.zenkaigains.zenkai_gains_server.dto;
+
+import java.util.List;
+
+/**
+ * Request body for POST /api/workoutLogs/bulk: every exercise of one session.
+ * The session date applies to logs that do not carry their own.
+ */
+public class WorkoutSessionRequest {
+
+    private String date;
+    private List<WorkoutLogRequest> logs;
+
+    public WorkoutSessionRequest() {
+    }
+
+    // GETTERS
+    public String getDate() {
+        return date;
+    }
+
+    public List<WorkoutLogRequest> getLogs() {
+        return logs;
+    }
+
+    // SETTERS
+    public void setDate(String date) {
+        this.date = date;
+    }
+
+    public void setLogs(List<WorkoutLogRequest> logs) {
+        this.logs = logs;
+    }
+}
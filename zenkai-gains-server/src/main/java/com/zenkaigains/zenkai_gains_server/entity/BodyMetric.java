@@ -0,0 +1,38 @@
+package com.zenkaigains.zenkai_gains_server.entity;
+
+/**
+ * Tracked body measurements with the range of values accepted for each.
+ * Weight is in kilograms, body fat in percent and circumferences in centimetres.
+ */
+public enum BodyMetric {
+    WEIGHT(20, 400),
+    BODY_FAT(1, 75),
+    NECK(10, 100),
+    CHEST(40, 250),
+    WAIST(40, 250),
+    HIPS(40, 250),
+    ARM(10, 100),
+    FOREARM(10, 80),
+    THIGH(20, 150),
+    CALF(10, 100);
+
+    private final double min;
+    private final double max;
+
+    BodyMetric(double min, double max) {
+        this.min = min;
+        this.max = max;
+    }
+
+    public boolean accepts(double value) {
+        return value >= min && value <= max;
+    }
+
+    public double getMin() {
+        return min;
+    }
+
+    public double getMax() {
+        return max;
+    }
+}
@@ -0,0 +1,68 @@
+package com.zenkaigains.zenkai_gains_server.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.Instant;
+
+/**
+ * One body weight or measurement reading. Rows are kept narrow (float value, no text) and
+ * clustered for range reads by idx_body_metrics_series.
+ */
+@Entity
+@Table(name = "body_metric_entries",
+        indexes = @Index(name = "idx_body_metrics_series", columnList = "user_id, metric, measured_at"))
+public class BodyMetricEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "body_metric_seq")
+    @SequenceGenerator(name = "body_metric_seq", sequenceName = "body_metric_seq", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private User user;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 12, nullable = false)
+    private BodyMetric metric;
+
+    @Column(name = "measured_at", nullable = false)
+    private Instant measuredAt;
+
+    @Column(name = "metric_value", nullable = false)
+    private float value;
+
+    public BodyMetricEntry() {}
+
+    public BodyMetricEntry(User user, BodyMetric metric, Instant measuredAt, float value) {
+        this.user = user;
+        this.metric = metric;
+        this.measuredAt = measuredAt;
+        this.value = value;
+    }
+
+    // Getters
+
+    public Long getId() {
+        return id;
+    }
+
+    public User getUser() {
+        return user;
+    }
+
+    public BodyMetric getMetric() {
+        return metric;
+    }
+
+    public Instant getMeasuredAt() {
+        return measuredAt;
+    }
+
+    public float getValue() {
+        return value;
+    }
+}
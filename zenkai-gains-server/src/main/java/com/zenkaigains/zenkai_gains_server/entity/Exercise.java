@@ -1,4 +1,99 @@
 package com.zenkaigains.zenkai_gains_server.entity;
 
+import jakarta.persistence.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+@Entity
+@Table(name = "exercises",
+        uniqueConstraints = @UniqueConstraint(name = "uk_exercises_name", columnNames = "name"),
+        indexes = @Index(name = "idx_exercises_group", columnList = "muscle_group_id"))
 public class Exercise {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String name;
+
+    @Column(length = 2048)
+    private String description;
+
+    // Group of the primary target muscle, shown with the exercise; cleared if that group is deleted.
+    // The groups it is listed under in /api/workouts are MuscleGroupListing rows.
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "muscle_group_id")
+    @OnDelete(action = OnDeleteAction.SET_NULL)
+    private MuscleGroup muscleGroup;
+
+    @OneToMany(mappedBy = "exercise", cascade = CascadeType.ALL, orphanRemoval = true)
+    private List<ExerciseMuscleTarget> targets = new ArrayList<>();
+
+    // Alternate names matched by exercise search, e.g. "RDL" for Romanian Deadlift
+    @ElementCollection
+    @CollectionTable(name = "exercise_aliases", joinColumns = @JoinColumn(name = "exercise_id"))
+    @Column(name = "alias", nullable = false)
+    @BatchSize(size = 100)
+    private Set<String> aliases = new LinkedHashSet<>();
+
+    public Exercise() {}
+
+    public Exercise(String name, String description, MuscleGroup muscleGroup) {
+        this.name = name;
+        this.description = description;
+        this.muscleGroup = muscleGroup;
+    }
+
+    // Getters and setters
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public MuscleGroup getMuscleGroup() {
+        return muscleGroup;
+    }
+
+    public void setMuscleGroup(MuscleGroup muscleGroup) {
+        this.muscleGroup = muscleGroup;
+    }
+
+    public List<ExerciseMuscleTarget> getTargets() {
+        return targets;
+    }
+
+    public void setTargets(List<ExerciseMuscleTarget> targets) {
+        this.targets = targets;
+    }
+
+    public Set<String> getAliases() {
+        return aliases;
+    }
+
+    public void setAliases(Set<String> aliases) {
+        this.aliases = aliases;
+    }
 }
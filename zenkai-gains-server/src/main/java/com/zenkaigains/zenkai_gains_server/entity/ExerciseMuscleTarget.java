@@ -1,4 +1,71 @@
 package com.zenkaigains.zenkai_gains_server.entity;
 
+import jakarta.persistence.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+/**
+ * How much of an exercise's work lands on one muscle, in percent.
+ */
+@Entity
+@Table(name = "exercise_muscle_targets",
+        uniqueConstraints = @UniqueConstraint(name = "uk_targets_exercise_muscle", columnNames = {"exercise_id", "muscle_id"}),
+        indexes = @Index(name = "idx_targets_muscle", columnList = "muscle_id"))
 public class ExerciseMuscleTarget {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "exercise_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Exercise exercise;
+
+    // Deleting a muscle removes the targets that point at it
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "muscle_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Muscle muscle;
+
+    @Column(nullable = false)
+    private int percentage;
+
+    public ExerciseMuscleTarget() {}
+
+    public ExerciseMuscleTarget(Exercise exercise, Muscle muscle, int percentage) {
+        this.exercise = exercise;
+        this.muscle = muscle;
+        this.percentage = percentage;
+    }
+
+    // Getters and setters
+
+    public Long getId() {
+        return id;
+    }
+
+    public Exercise getExercise() {
+        return exercise;
+    }
+
+    public void setExercise(Exercise exercise) {
+        this.exercise = exercise;
+    }
+
+    public Muscle getMuscle() {
+        return muscle;
+    }
+
+    public void setMuscle(Muscle muscle) {
+        this.muscle = muscle;
+    }
+
+    public int getPercentage() {
+        return percentage;
+    }
+
+    public void setPercentage(int percentage) {
+        this.percentage = percentage;
+    }
 }
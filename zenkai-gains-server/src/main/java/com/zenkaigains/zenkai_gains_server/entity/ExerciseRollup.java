@@ -0,0 +1,110 @@
+package com.zenkaigains.zenkai_gains_server.entity;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDate;
+
+/**
+ * Per user, exercise and day or ISO week (starting Monday, UTC): set count, reps, volume and the best set.
+ * Maintained incrementally by ProgressRollupService so charts never scan set_entries.
+ * Rows are written with native upserts keyed by uk_exercise_rollups, which also serves chart range reads.
+ */
+@Entity
+@Table(name = "exercise_rollups",
+        uniqueConstraints = @UniqueConstraint(name = "uk_exercise_rollups",
+                columnNames = {"user_id", "exercise_key", "period", "period_start"}))
+public class ExerciseRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @JsonIgnore
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private User user;
+
+    // Lower-cased exercise name, so renamed or uncatalogued exercises still chart
+    @Column(name = "exercise_key", nullable = false)
+    private String exerciseKey;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 4, nullable = false)
+    private RollupPeriod period;
+
+    @Column(name = "period_start", nullable = false)
+    private LocalDate periodStart;
+
+    @Column(name = "set_count", nullable = false)
+    private int setCount;
+
+    @Column(name = "total_reps", nullable = false)
+    private long totalReps;
+
+    // Sum of reps x weight, in kilograms
+    @Column(name = "total_volume", nullable = false)
+    private double totalVolume;
+
+    // Heaviest set and its reps (most reps among equally heavy sets)
+    @Column(name = "best_weight", nullable = false)
+    private double bestWeight;
+
+    @Column(name = "best_reps", nullable = false)
+    private int bestReps;
+
+    // Highest Epley estimated one-rep max of any set
+    @Column(name = "best_e1rm", nullable = false)
+    private double bestE1rm;
+
+    public ExerciseRollup() {}
+
+    // Getters
+
+    public Long getId() {
+        return id;
+    }
+
+    public User getUser() {
+        return user;
+    }
+
+    public String getExerciseKey() {
+        return exerciseKey;
+    }
+
+    public RollupPeriod getPeriod() {
+        return period;
+    }
+
+    public LocalDate getPeriodStart() {
+        return periodStart;
+    }
+
+    public int getSetCount() {
+        return setCount;
+    }
+
+    public long getTotalReps() {
+        return totalReps;
+    }
+
+    public double getTotalVolume() {
+        return totalVolume;
+    }
+
+    public double getBestWeight() {
+        return bestWeight;
+    }
+
+    public int getBestReps() {
+        return bestReps;
+    }
+
+    public double getBestE1rm() {
+        return bestE1rm;
+    }
+}
@@ -1,4 +1,54 @@
 package com.zenkaigains.zenkai_gains_server.entity;
 
+import jakarta.persistence.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+@Entity
+@Table(name = "muscles",
+        uniqueConstraints = @UniqueConstraint(name = "uk_muscles_group_name", columnNames = {"muscle_group_id", "name"}),
+        indexes = @Index(name = "idx_muscles_group", columnList = "muscle_group_id"))
 public class Muscle {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String name;
+
+    // Deleting a muscle group removes its muscles in the database
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "muscle_group_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private MuscleGroup muscleGroup;
+
+    public Muscle() {}
+
+    public Muscle(String name, MuscleGroup muscleGroup) {
+        this.name = name;
+        this.muscleGroup = muscleGroup;
+    }
+
+    // Getters and setters
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public MuscleGroup getMuscleGroup() {
+        return muscleGroup;
+    }
+
+    public void setMuscleGroup(MuscleGroup muscleGroup) {
+        this.muscleGroup = muscleGroup;
+    }
 }
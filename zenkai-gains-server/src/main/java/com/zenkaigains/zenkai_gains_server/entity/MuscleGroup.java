@@ -15,10 +15,10 @@ public class MuscleGroup {
     @Column(unique = true, nullable = false)
     private String name;
 
-    @ElementCollection
-    @CollectionTable(name = "muscle_group_exercises", joinColumns = @JoinColumn(name = "muscle_group_id"))
-    @Column(name = "exercise")
-    private List<String> exercises = new ArrayList<>();
+    // Exercises are listed through MuscleGroupListing rows, not a collection here
+    @OneToMany(mappedBy = "muscleGroup")
+    @OrderBy("name")
+    private List<Muscle> muscles = new ArrayList<>();
 
     public MuscleGroup() {}
 
@@ -40,11 +40,11 @@ public class MuscleGroup {
         this.name = name;
     }
 
-    public List<String> getExercises() {
-        return exercises;
+    public List<Muscle> getMuscles() {
+        return muscles;
     }
 
-    public void setExercises(List<String> exercises) {
-        this.exercises = exercises;
+    public void setMuscles(List<Muscle> muscles) {
+        this.muscles = muscles;
     }
 }
@@ -0,0 +1,58 @@
+package com.zenkaigains.zenkai_gains_server.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+/**
+ * An exercise listed under a muscle group in /api/workouts. An exercise can be listed under several groups.
+ */
+@Entity
+@Table(name = "muscle_group_listings",
+        uniqueConstraints = @UniqueConstraint(name = "uk_listings_group_exercise", columnNames = {"muscle_group_id", "exercise_id"}),
+        indexes = @Index(name = "idx_listings_exercise", columnList = "exercise_id"))
+public class MuscleGroupListing {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "muscle_group_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private MuscleGroup muscleGroup;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "exercise_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Exercise exercise;
+
+    public MuscleGroupListing() {}
+
+    public MuscleGroupListing(MuscleGroup muscleGroup, Exercise exercise) {
+        this.muscleGroup = muscleGroup;
+        this.exercise = exercise;
+    }
+
+    // Getters and setters
+
+    public Long getId() {
+        return id;
+    }
+
+    public MuscleGroup getMuscleGroup() {
+        return muscleGroup;
+    }
+
+    public void setMuscleGroup(MuscleGroup muscleGroup) {
+        this.muscleGroup = muscleGroup;
+    }
+
+    public Exercise getExercise() {
+        return exercise;
+    }
+
+    public void setExercise(Exercise exercise) {
+        this.exercise = exercise;
+    }
+}
@@ -0,0 +1,8 @@
+package com.zenkaigains.zenkai_gains_server.entity;
+
+public enum OutboundMailStatus {
+    PENDING,
+    SENDING,
+    SENT,
+    FAILED
+}
@@ -0,0 +1,6 @@
+package com.zenkaigains.zenkai_gains_server.entity;
+
+public enum OutboundMailType {
+    VERIFICATION,
+    PASSWORD_RESET
+}
@@ -0,0 +1,66 @@
+package com.zenkaigains.zenkai_gains_server.entity;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+/**
+ * A user's running power level and number of training days, one row per user.
+ * Maintained incrementally by PowerLevelService with native upserts, and loaded into the
+ * in-memory leaderboard at startup, so neither profiles nor rankings aggregate workout_logs.
+ */
+@Entity
+@Table(name = "power_levels")
+public class PowerLevel {
+
+    @Id
+    @Column(name = "user_id")
+    private int userId;
+
+    @JsonIgnore
+    @MapsId
+    @OneToOne(optional = false, fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private User user;
+
+    @Column(name = "power_level", nullable = false)
+    private long powerLevel;
+
+    // Distinct UTC days with at least one logged exercise
+    @Column(name = "completed_workouts", nullable = false)
+    private int completedWorkouts;
+
+    public PowerLevel() {}
+
+    // Getters and setters
+
+    public int getUserId() {
+        return userId;
+    }
+
+    public User getUser() {
+        return user;
+    }
+
+    public void setUser(User user) {
+        this.user = user;
+    }
+
+    public long getPowerLevel() {
+        return powerLevel;
+    }
+
+    public void setPowerLevel(long powerLevel) {
+        this.powerLevel = powerLevel;
+    }
+
+    public int getCompletedWorkouts() {
+        return completedWorkouts;
+    }
+
+    public void setCompletedWorkouts(int completedWorkouts) {
+        this.completedWorkouts = completedWorkouts;
+    }
+}
@@ -0,0 +1,79 @@
+package com.zenkaigains.zenkai_gains_server.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+@Entity
+@Table(name = "set_entries",
+        indexes = @Index(name = "idx_set_entries_log", columnList = "workout_log_id"))
+public class SetEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "set_entry_seq")
+    @SequenceGenerator(name = "set_entry_seq", sequenceName = "set_entry_seq", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
+    @JoinColumn(name = "workout_log_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private WorkoutLog workoutLog;
+
+    // 1-based position within the workout log
+    @Column(name = "set_number", nullable = false)
+    private int setNumber;
+
+    @Column(nullable = false)
+    private int reps;
+
+    // Kilograms
+    @Column(nullable = false)
+    private double weight;
+
+    public SetEntry() {}
+
+    public SetEntry(WorkoutLog workoutLog, int setNumber, int reps, double weight) {
+        this.workoutLog = workoutLog;
+        this.setNumber = setNumber;
+        this.reps = reps;
+        this.weight = weight;
+    }
+
+    // Getters and setters
+
+    public Long getId() {
+        return id;
+    }
+
+    public WorkoutLog getWorkoutLog() {
+        return workoutLog;
+    }
+
+    public void setWorkoutLog(WorkoutLog workoutLog) {
+        this.workoutLog = workoutLog;
+    }
+
+    public int getSetNumber() {
+        return setNumber;
+    }
+
+    public void setSetNumber(int setNumber) {
+        this.setNumber = setNumber;
+    }
+
+    public int getReps() {
+        return reps;
+    }
+
+    public void setReps(int reps) {
+        this.reps = reps;
+    }
+
+    public double getWeight() {
+        return weight;
+    }
+
+    public void setWeight(double weight) {
+        this.weight = weight;
+    }
+}
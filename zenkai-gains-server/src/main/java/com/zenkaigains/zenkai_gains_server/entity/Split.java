@@ -1,4 +1,89 @@
 package com.zenkaigains.zenkai_gains_server.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A user's training split: ordered days, how many of them are trained per week, and the
+ * resulting weekly sets per muscle. The volume vector is computed when the split is saved
+ * (see SplitService) so balance and comparison views read this row alone.
+ */
+@Entity
+@Table(name = "splits",
+        indexes = @Index(name = "idx_splits_user", columnList = "user_id"))
 public class Split {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @JsonIgnore
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private User user;
+
+    @Column(nullable = false)
+    private String name;
+
+    @Column(name = "training_days_per_week", nullable = false)
+    private int trainingDaysPerWeek;
+
+    @OneToMany(mappedBy = "split", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderColumn(name = "position")
+    private List<SplitMuscleGroup> days = new ArrayList<>();
+
+    // MuscleVolumeVector.encode(): 12 bytes per trained muscle
+    @Column(name = "volume_vector", length = 4096)
+    private byte[] volumeVector;
+
+    public Split() {}
+
+    public Split(User user, String name) {
+        this.user = user;
+        this.name = name;
+    }
+
+    // Getters and setters
+
+    public Long getId() {
+        return id;
+    }
+
+    public User getUser() {
+        return user;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public int getTrainingDaysPerWeek() {
+        return trainingDaysPerWeek;
+    }
+
+    public void setTrainingDaysPerWeek(int trainingDaysPerWeek) {
+        this.trainingDaysPerWeek = trainingDaysPerWeek;
+    }
+
+    public List<SplitMuscleGroup> getDays() {
+        return days;
+    }
+
+    public byte[] getVolumeVector() {
+        return volumeVector;
+    }
+
+    public void setVolumeVector(byte[] volumeVector) {
+        this.volumeVector = volumeVector;
+    }
 }
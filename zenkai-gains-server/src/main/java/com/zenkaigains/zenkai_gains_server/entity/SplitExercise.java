@@ -0,0 +1,32 @@
+package com.zenkaigains.zenkai_gains_server.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+/**
+ * A planned exercise on a split day: catalog exercise id and working sets.
+ */
+@Embeddable
+public class SplitExercise {
+
+    @Column(name = "exercise_id", nullable = false)
+    private Long exerciseId;
+
+    @Column(nullable = false)
+    private int sets;
+
+    public SplitExercise() {}
+
+    public SplitExercise(Long exerciseId, int sets) {
+        this.exerciseId = exerciseId;
+        this.sets = sets;
+    }
+
+    public Long getExerciseId() {
+        return exerciseId;
+    }
+
+    public int getSets() {
+        return sets;
+    }
+}
@@ -1,4 +1,79 @@
 package com.zenkaigains.zenkai_gains_server.entity;
 
+import jakarta.persistence.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One day of a split, e.g. "Push", optionally tied to a catalog muscle group, with its planned exercises.
+ */
+@Entity
+@Table(name = "split_muscle_groups")
 public class SplitMuscleGroup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
+    @JoinColumn(name = "split_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Split split;
+
+    @Column(nullable = false)
+    private String name;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "muscle_group_id")
+    @OnDelete(action = OnDeleteAction.SET_NULL)
+    private MuscleGroup muscleGroup;
+
+    @ElementCollection
+    @CollectionTable(name = "split_exercises", joinColumns = @JoinColumn(name = "split_muscle_group_id"),
+            indexes = @Index(name = "idx_split_exercises_exercise", columnList = "exercise_id"))
+    @OrderColumn(name = "position")
+    @BatchSize(size = 50)
+    private List<SplitExercise> exercises = new ArrayList<>();
+
+    public SplitMuscleGroup() {}
+
+    public SplitMuscleGroup(Split split, String name, MuscleGroup muscleGroup) {
+        this.split = split;
+        this.name = name;
+        this.muscleGroup = muscleGroup;
+    }
+
+    // Getters and setters
+
+    public Long getId() {
+        return id;
+    }
+
+    public Split getSplit() {
+        return split;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public MuscleGroup getMuscleGroup() {
+        return muscleGroup;
+    }
+
+    public void setMuscleGroup(MuscleGroup muscleGroup) {
+        this.muscleGroup = muscleGroup;
+    }
+
+    public List<SplitExercise> getExercises() {
+        return exercises;
+    }
 }
@@ -1,18 +1,24 @@
 package com.zenkaigains.zenkai_gains_server.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "transformations")
+@Table(name = "transformations", indexes = {
+        // Backs the keyset-paginated gallery listing and per-user ownership checks
+        @Index(name = "idx_transformations_user_date", columnList = "user_id, date_taken, id"),
+        @Index(name = "idx_transformations_object", columnList = "gcs_object_name")
+})
 public class Transformation {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private int id;
 
-    // The user who owns this transformation
-    @ManyToOne(optional = false)
+    // The user who owns this transformation (never serialized: it would expose the password hash)
+    @JsonIgnore
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
@@ -25,6 +31,10 @@ public class Transformation {
     @Column(nullable = false)
     private String pose;
 
+    // Set once ImageVariantService has stored the resized thumbnails next to the original
+    @Column(name = "variants_ready")
+    private Boolean variantsReady = false;
+
     // Default constructor
     public Transformation() { }
 
@@ -78,4 +88,12 @@ public class Transformation {
     public void setPose(String pose) {
         this.pose = pose;
     }
+
+    public Boolean getVariantsReady() {
+        return variantsReady;
+    }
+
+    public void setVariantsReady(Boolean variantsReady) {
+        this.variantsReady = variantsReady;
+    }
 }
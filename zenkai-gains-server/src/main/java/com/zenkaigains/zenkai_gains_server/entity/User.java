@@ -11,6 +11,10 @@ import java.util.Set;
 @Table(name = "users")
 public class User {
 
+    // Stored as password_hash for accounts created through OAuth; no encoder ever produces it,
+    // so password login is impossible and no hash needs to be computed
+    public static final String NO_PASSWORD = "!";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private int id;
@@ -105,6 +109,10 @@ public class User {
         this.passwordHash = passwordHash;
     }
 
+    public boolean hasPassword() {
+        return passwordHash != null && !NO_PASSWORD.equals(passwordHash);
+    }
+
     public Boolean getIsVerified() {
         return isVerified;
     }
@@ -0,0 +1,132 @@
+package com.zenkaigains.zenkai_gains_server.entity;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One exercise performed in a workout, with its sets as SetEntry rows.
+ * Ids come from a pooled sequence rather than IDENTITY so Hibernate can batch the inserts
+ * of a whole session (MySQL emulates the sequence with a one-row table).
+ */
+@Entity
+@Table(name = "workout_logs",
+        indexes = @Index(name = "idx_workout_logs_user_date", columnList = "user_id, performed_at"))
+public class WorkoutLog {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "workout_log_seq")
+    @SequenceGenerator(name = "workout_log_seq", sequenceName = "workout_log_seq", allocationSize = 50)
+    private Long id;
+
+    @JsonIgnore
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private User user;
+
+    // Catalog entry when the name matched one; the names below are kept either way
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "exercise_id")
+    @OnDelete(action = OnDeleteAction.SET_NULL)
+    private Exercise exercise;
+
+    @Column(name = "exercise_name", nullable = false)
+    private String exerciseName;
+
+    @Column(name = "muscle_group_name")
+    private String muscleGroupName;
+
+    @Column(name = "performed_at", nullable = false)
+    private Instant performedAt;
+
+    @Column(length = 1024)
+    private String notes;
+
+    @OneToMany(mappedBy = "workoutLog", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderBy("setNumber")
+    private List<SetEntry> sets = new ArrayList<>();
+
+    public WorkoutLog() {}
+
+    public WorkoutLog(User user, Exercise exercise, String exerciseName, String muscleGroupName,
+                      Instant performedAt, String notes) {
+        this.user = user;
+        this.exercise = exercise;
+        this.exerciseName = exerciseName;
+        this.muscleGroupName = muscleGroupName;
+        this.performedAt = performedAt;
+        this.notes = notes;
+    }
+
+    public void addSet(int reps, double weight) {
+        sets.add(new SetEntry(this, sets.size() + 1, reps, weight));
+    }
+
+    // Getters and setters
+
+    public Long getId() {
+        return id;
+    }
+
+    public User getUser() {
+        return user;
+    }
+
+    public void setUser(User user) {
+        this.user = user;
+    }
+
+    public Exercise getExercise() {
+        return exercise;
+    }
+
+    public void setExercise(Exercise exercise) {
+        this.exercise = exercise;
+    }
+
+    public String getExerciseName() {
+        return exerciseName;
+    }
+
+    public void setExerciseName(String exerciseName) {
+        this.exerciseName = exerciseName;
+    }
+
+    public String getMuscleGroupName() {
+        return muscleGroupName;
+    }
+
+    public void setMuscleGroupName(String muscleGroupName) {
+        this.muscleGroupName = muscleGroupName;
+    }
+
+    public Instant getPerformedAt() {
+        return performedAt;
+    }
+
+    public void setPerformedAt(Instant performedAt) {
+        this.performedAt = performedAt;
+    }
+
+    public String getNotes() {
+        return notes;
+    }
+
+    public void setNotes(String notes) {
+        this.notes = notes;
+    }
+
+    public List<SetEntry> getSets() {
+        return sets;
+    }
+
+    public void setSets(List<SetEntry> sets) {
+        this.sets = sets;
+    }
+}
@@ -0,0 +1,36 @@
+package com.zenkaigains.zenkai_gains_server.repository;
+
+import com.zenkaigains.zenkai_gains_server.dto.BodyMetricPointDTO;
+import com.zenkaigains.zenkai_gains_server.entity.BodyMetric;
+import com.zenkaigains.zenkai_gains_server.entity.BodyMetricEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface BodyMetricEntryRepository extends JpaRepository<BodyMetricEntry, Long> {
+
+    /**
+     * One series, oldest first, as a range scan on idx_body_metrics_series. Bounds are optional; to is exclusive.
+     */
+    @Query("SELECT new com.zenkaigains.zenkai_gains_server.dto.BodyMetricPointDTO(e.id, e.measuredAt, e.value) " +
+            "FROM BodyMetricEntry e WHERE e.user.id = :userId AND e.metric = :metric " +
+            "AND (:from IS NULL OR e.measuredAt >= :from) " +
+            "AND (:to IS NULL OR e.measuredAt < :to) " +
+            "ORDER BY e.measuredAt, e.id")
+    List<BodyMetricPointDTO> findSeries(@Param("userId") int userId,
+                                        @Param("metric") BodyMetric metric,
+                                        @Param("from") Instant from,
+                                        @Param("to") Instant to);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM BodyMetricEntry e WHERE e.id = :id AND e.user.id = :userId")
+    int deleteOwned(@Param("id") Long id, @Param("userId") int userId);
+}
@@ -1,4 +1,17 @@
 package com.zenkaigains.zenkai_gains_server.repository;
 
-public class ExerciseMuscleTargetRepository {
+import com.zenkaigains.zenkai_gains_server.entity.ExerciseMuscleTarget;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ExerciseMuscleTargetRepository extends JpaRepository<ExerciseMuscleTarget, Long> {
+
+    @Query("SELECT DISTINCT t.exercise.id FROM ExerciseMuscleTarget t WHERE t.muscle.id IN :muscleIds")
+    List<Long> findExerciseIdsByMuscleIdIn(@Param("muscleIds") Collection<Long> muscleIds);
 }
@@ -1,4 +1,38 @@
 package com.zenkaigains.zenkai_gains_server.repository;
 
-public class ExerciseRepository {
+import com.zenkaigains.zenkai_gains_server.entity.Exercise;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ExerciseRepository extends JpaRepository<Exercise, Long> {
+    Optional<Exercise> findByNameIgnoreCase(String name);
+
+    /**
+     * Every exercise with its targets and their muscles in one query.
+     */
+    @Query("SELECT DISTINCT e FROM Exercise e " +
+            "LEFT JOIN FETCH e.targets t LEFT JOIN FETCH t.muscle " +
+            "ORDER BY e.name")
+    List<Exercise> findAllWithTargets();
+
+    @Query("SELECT DISTINCT e FROM Exercise e LEFT JOIN FETCH e.targets t LEFT JOIN FETCH t.muscle WHERE e.id IN :ids")
+    List<Exercise> findAllWithTargetsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT e FROM Exercise e LEFT JOIN FETCH e.targets t LEFT JOIN FETCH t.muscle WHERE e.id = :id")
+    Optional<Exercise> findByIdWithTargets(@Param("id") Long id);
+
+    // Catalog lookup for logged exercise names; pass the names lower-cased
+    @Query("SELECT e FROM Exercise e WHERE LOWER(e.name) IN :names")
+    List<Exercise> findByLowerCaseNameIn(@Param("names") Collection<String> names);
+
+    // (exerciseId, alias) pairs for the search index
+    @Query("SELECT e.id, a FROM Exercise e JOIN e.aliases a")
+    List<Object[]> findAllAliases();
 }
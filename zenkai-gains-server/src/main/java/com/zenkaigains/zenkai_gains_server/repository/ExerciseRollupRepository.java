@@ -0,0 +1,33 @@
+package com.zenkaigains.zenkai_gains_server.repository;
+
+import com.zenkaigains.zenkai_gains_server.dto.ProgressPointDTO;
+import com.zenkaigains.zenkai_gains_server.entity.ExerciseRollup;
+import com.zenkaigains.zenkai_gains_server.entity.RollupPeriod;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface ExerciseRollupRepository extends JpaRepository<ExerciseRollup, Long> {
+
+    /**
+     * Chart series, oldest first: a range scan on uk_exercise_rollups returning one row per point.
+     * Both bounds are optional and inclusive.
+     */
+    @Query("SELECT new com.zenkaigains.zenkai_gains_server.dto.ProgressPointDTO(" +
+            "r.periodStart, r.setCount, r.totalReps, r.totalVolume, r.bestWeight, r.bestReps, r.bestE1rm) " +
+            "FROM ExerciseRollup r WHERE r.user.id = :userId AND r.exerciseKey = :exerciseKey " +
+            "AND r.period = :period " +
+            "AND (:from IS NULL OR r.periodStart >= :from) " +
+            "AND (:to IS NULL OR r.periodStart <= :to) " +
+            "ORDER BY r.periodStart")
+    List<ProgressPointDTO> findSeries(@Param("userId") int userId,
+                                      @Param("exerciseKey") String exerciseKey,
+                                      @Param("period") RollupPeriod period,
+                                      @Param("from") LocalDate from,
+                                      @Param("to") LocalDate to);
+}
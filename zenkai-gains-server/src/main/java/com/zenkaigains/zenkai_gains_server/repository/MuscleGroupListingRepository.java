@@ -0,0 +1,23 @@
+package com.zenkaigains.zenkai_gains_server.repository;
+
+import com.zenkaigains.zenkai_gains_server.entity.MuscleGroupListing;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface MuscleGroupListingRepository extends JpaRepository<MuscleGroupListing, Long> {
+    boolean existsByMuscleGroupIdAndExerciseId(Long muscleGroupId, Long exerciseId);
+    Optional<MuscleGroupListing> findByMuscleGroupIdAndExerciseNameIgnoreCase(Long muscleGroupId, String name);
+
+    // (muscleGroupId, exercise name) pairs for the /api/workouts catalog
+    @Query("SELECT l.muscleGroup.id, l.exercise.name FROM MuscleGroupListing l ORDER BY l.exercise.name")
+    List<Object[]> findGroupedExerciseNames();
+
+    @Query("SELECT l.exercise.name FROM MuscleGroupListing l WHERE l.muscleGroup.id = :groupId ORDER BY l.exercise.name")
+    List<String> findExerciseNamesByMuscleGroupId(@Param("groupId") Long groupId);
+}
@@ -2,11 +2,18 @@ package com.zenkaigains.zenkai_gains_server.repository;
 
 import com.zenkaigains.zenkai_gains_server.entity.MuscleGroup;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface MuscleGroupRepository extends JpaRepository<MuscleGroup, Long> {
     Optional<MuscleGroup> findByName(String name);
     void deleteByName(String name);
+
+    // All groups with their muscles in one query instead of one muscle query per group
+    @Query("SELECT DISTINCT g FROM MuscleGroup g LEFT JOIN FETCH g.muscles ORDER BY g.id")
+    List<MuscleGroup> findAllWithMuscles();
 }
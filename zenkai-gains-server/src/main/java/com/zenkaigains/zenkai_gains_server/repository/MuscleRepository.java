@@ -1,4 +1,21 @@
 package com.zenkaigains.zenkai_gains_server.repository;
 
-public class MuscleRepository {
+import com.zenkaigains.zenkai_gains_server.entity.Muscle;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface MuscleRepository extends JpaRepository<Muscle, Long> {
+    boolean existsByMuscleGroupIdAndNameIgnoreCase(Long muscleGroupId, String name);
+
+    @Query("SELECT m FROM Muscle m JOIN FETCH m.muscleGroup ORDER BY m.muscleGroup.id, m.name")
+    List<Muscle> findAllWithGroup();
+
+    @Query("SELECT m FROM Muscle m JOIN FETCH m.muscleGroup WHERE m.id IN :ids")
+    List<Muscle> findAllWithGroupByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,43 @@
+package com.zenkaigains.zenkai_gains_server.repository;
+
+import com.zenkaigains.zenkai_gains_server.entity.OutboundMail;
+import com.zenkaigains.zenkai_gains_server.entity.OutboundMailStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface OutboundMailRepository extends JpaRepository<OutboundMail, Integer> {
+
+    // Served by idx_outbound_mail_due
+    @Query("SELECT m FROM OutboundMail m WHERE m.status = :status AND m.nextAttemptAt <= :now " +
+            "ORDER BY m.nextAttemptAt ASC")
+    List<OutboundMail> findDue(@Param("status") OutboundMailStatus status,
+                               @Param("now") LocalDateTime now,
+                               Pageable pageable);
+
+    /**
+     * Moves one PENDING row to SENDING. Returns 0 if another worker claimed it first.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE OutboundMail m SET m.status = com.zenkaigains.zenkai_gains_server.entity.OutboundMailStatus.SENDING, " +
+            "m.claimedAt = :now WHERE m.id = :id " +
+            "AND m.status = com.zenkaigains.zenkai_gains_server.entity.OutboundMailStatus.PENDING")
+    int claim(@Param("id") int id, @Param("now") LocalDateTime now);
+
+    /**
+     * Returns rows stuck in SENDING (worker died mid-batch) to the queue.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE OutboundMail m SET m.status = com.zenkaigains.zenkai_gains_server.entity.OutboundMailStatus.PENDING " +
+            "WHERE m.status = com.zenkaigains.zenkai_gains_server.entity.OutboundMailStatus.SENDING " +
+            "AND m.claimedAt < :claimedBefore")
+    int releaseStale(@Param("claimedBefore") LocalDateTime claimedBefore);
+}
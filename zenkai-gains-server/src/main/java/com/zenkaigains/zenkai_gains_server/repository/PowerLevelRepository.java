@@ -0,0 +1,16 @@
+package com.zenkaigains.zenkai_gains_server.repository;
+
+import com.zenkaigains.zenkai_gains_server.entity.PowerLevel;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface PowerLevelRepository extends JpaRepository<PowerLevel, Integer> {
+
+    // (userId, powerLevel, completedWorkouts) rows for the startup leaderboard load
+    @Query("SELECT p.userId, p.powerLevel, p.completedWorkouts FROM PowerLevel p")
+    List<Object[]> findAllStandings();
+}
@@ -1,4 +1,9 @@
 package com.zenkaigains.zenkai_gains_server.repository;
 
-public class SplitMuscleGroupRepository {
+import com.zenkaigains.zenkai_gains_server.entity.SplitMuscleGroup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SplitMuscleGroupRepository extends JpaRepository<SplitMuscleGroup, Long> {
 }
@@ -1,4 +1,32 @@
 package com.zenkaigains.zenkai_gains_server.repository;
 
-public class SplitRepository {
+import com.zenkaigains.zenkai_gains_server.entity.Split;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface SplitRepository extends JpaRepository<Split, Long> {
+
+    @Query("SELECT DISTINCT s FROM Split s LEFT JOIN FETCH s.days WHERE s.user.id = :userId ORDER BY s.id")
+    List<Split> findByUserIdWithDays(@Param("userId") int userId);
+
+    @Query("SELECT s FROM Split s LEFT JOIN FETCH s.days WHERE s.id = :id AND s.user.id = :userId")
+    Optional<Split> findOwnedWithDays(@Param("id") Long id, @Param("userId") int userId);
+
+    // Split rows only; balance and comparison read nothing but the stored volume vector
+    @Query("SELECT s FROM Split s WHERE s.id IN :ids AND s.user.id = :userId")
+    List<Split> findOwned(@Param("ids") Collection<Long> ids, @Param("userId") int userId);
+
+    @Query("SELECT DISTINCT s FROM Split s LEFT JOIN FETCH s.days WHERE s.id IN :ids")
+    List<Split> findAllWithDaysByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Splits planning any of the exercises, served by idx_split_exercises_exercise
+    @Query("SELECT DISTINCT d.split.id FROM SplitMuscleGroup d JOIN d.exercises e WHERE e.exerciseId IN :exerciseIds")
+    List<Long> findIdsByExerciseIdIn(@Param("exerciseIds") Collection<Long> exerciseIds);
 }
@@ -1,12 +1,66 @@
 package com.zenkaigains.zenkai_gains_server.repository;
 
+import com.zenkaigains.zenkai_gains_server.dto.TransformationSummaryDTO;
 import com.zenkaigains.zenkai_gains_server.entity.Transformation;
 import com.zenkaigains.zenkai_gains_server.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 public interface TransformationRepository extends JpaRepository<Transformation, Long> {
     List<Transformation> findByUser(User user);
     List<Transformation> findByGcsObjectName(String gcsObjectName);
-}
\ No newline at end of file
+    boolean existsByGcsObjectName(String gcsObjectName);
+
+    // Batch ownership checks for signed-URL generation: one query per batch
+    @Query("SELECT new com.zenkaigains.zenkai_gains_server.dto.TransformationSummaryDTO(" +
+            "t.id, t.gcsObjectName, t.dateTaken, t.pose, t.variantsReady) " +
+            "FROM Transformation t WHERE t.user.id = :userId AND t.gcsObjectName IN :objectNames")
+    List<TransformationSummaryDTO> findOwnedSummariesByObjectNames(@Param("userId") int userId,
+                                                                   @Param("objectNames") Collection<String> objectNames);
+
+    @Query("SELECT new com.zenkaigains.zenkai_gains_server.dto.TransformationSummaryDTO(" +
+            "t.id, t.gcsObjectName, t.dateTaken, t.pose, t.variantsReady) " +
+            "FROM Transformation t WHERE t.user.id = :userId AND t.id IN :ids")
+    List<TransformationSummaryDTO> findOwnedSummaries(@Param("userId") int userId,
+                                                      @Param("ids") Collection<Integer> ids);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Transformation t SET t.variantsReady = true WHERE t.id = :id")
+    int markVariantsReady(@Param("id") int id);
+
+    @Query("SELECT new com.zenkaigains.zenkai_gains_server.dto.TransformationSummaryDTO(" +
+            "t.id, t.gcsObjectName, t.dateTaken, t.pose, t.variantsReady) " +
+            "FROM Transformation t WHERE t.user.id = :userId " +
+            "ORDER BY t.dateTaken DESC, t.id DESC")
+    List<TransformationSummaryDTO> findSummariesByUserId(@Param("userId") int userId);
+
+    /**
+     * Keyset page over (dateTaken, id) descending, served by idx_transformations_user_date.
+     * Pass a null cursorDate for the first page; every filter is optional.
+     */
+    @Query("SELECT new com.zenkaigains.zenkai_gains_server.dto.TransformationSummaryDTO(" +
+            "t.id, t.gcsObjectName, t.dateTaken, t.pose, t.variantsReady) " +
+            "FROM Transformation t WHERE t.user.id = :userId " +
+            "AND (:pose IS NULL OR t.pose = :pose) " +
+            "AND (:fromDate IS NULL OR t.dateTaken >= :fromDate) " +
+            "AND (:toDate IS NULL OR t.dateTaken <= :toDate) " +
+            "AND (:cursorDate IS NULL OR t.dateTaken < :cursorDate " +
+            "     OR (t.dateTaken = :cursorDate AND t.id < :cursorId)) " +
+            "ORDER BY t.dateTaken DESC, t.id DESC")
+    List<TransformationSummaryDTO> findPage(@Param("userId") int userId,
+                                            @Param("pose") String pose,
+                                            @Param("fromDate") LocalDate fromDate,
+                                            @Param("toDate") LocalDate toDate,
+                                            @Param("cursorDate") LocalDate cursorDate,
+                                            @Param("cursorId") int cursorId,
+                                            Pageable pageable);
+}
@@ -1,13 +1,45 @@
 package com.zenkaigains.zenkai_gains_server.repository;
 
+import com.zenkaigains.zenkai_gains_server.dto.UserPublicProfileDTO;
 import com.zenkaigains.zenkai_gains_server.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Integer> {
     Optional<User> findByEmail(String email);
     Optional<User> findByUsername(String username);
+    boolean existsByEmail(String email);
+    boolean existsByUsername(String username);
+    boolean existsByUsernameAndIdNot(String username, int id);
+
+    // (username, email) of every user, to seed the availability Bloom filters
+    @Query("SELECT u.username, u.email FROM User u")
+    List<Object[]> findAllUsernamesAndEmails();
+
+    // The public fields only, so roles are not loaded
+    @Query("SELECT new com.zenkaigains.zenkai_gains_server.dto.UserPublicProfileDTO(" +
+            "u.id, u.username, u.bio, u.profilePictureUrl, u.createdAt) FROM User u WHERE u.username = :username")
+    Optional<UserPublicProfileDTO> findPublicProfileByUsername(@Param("username") String username);
+
+    // (id, username, profilePictureUrl) rows for leaderboard pages, without loading roles
+    @Query("SELECT u.id, u.username, u.profilePictureUrl FROM User u WHERE u.id IN :ids")
+    List<Object[]> findPublicSummariesByIdIn(@Param("ids") Collection<Integer> ids);
+
+    /**
+     * Replaces a password hash only if it is still the one that was verified,
+     * so a rehash never overwrites a concurrent password change.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.passwordHash = :newHash WHERE u.id = :id AND u.passwordHash = :oldHash")
+    int replacePasswordHash(@Param("id") int id, @Param("oldHash") String oldHash, @Param("newHash") String newHash);
 }
@@ -0,0 +1,60 @@
+package com.zenkaigains.zenkai_gains_server.repository;
+
+import com.zenkaigains.zenkai_gains_server.entity.WorkoutLog;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface WorkoutLogRepository extends JpaRepository<WorkoutLog, Long> {
+
+    /**
+     * The user's logs with their sets in one query, oldest first, served by idx_workout_logs_user_date.
+     * Both bounds are optional; to is exclusive.
+     */
+    @Query("SELECT DISTINCT w FROM WorkoutLog w LEFT JOIN FETCH w.sets " +
+            "WHERE w.user.id = :userId " +
+            "AND (:from IS NULL OR w.performedAt >= :from) " +
+            "AND (:to IS NULL OR w.performedAt < :to) " +
+            "ORDER BY w.performedAt, w.id")
+    List<WorkoutLog> findByUserIdWithSets(@Param("userId") int userId,
+                                          @Param("from") Instant from,
+                                          @Param("to") Instant to);
+
+    /**
+     * Same rows as findByUserIdWithSets with both bounds set, read with shared locks (SELECT ... FOR SHARE):
+     * a current read rather than the transaction's snapshot, which also blocks inserts into the range.
+     */
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT DISTINCT w FROM WorkoutLog w LEFT JOIN FETCH w.sets " +
+            "WHERE w.user.id = :userId AND w.performedAt >= :from AND w.performedAt < :to " +
+            "ORDER BY w.performedAt, w.id")
+    List<WorkoutLog> findByUserIdWithSetsForShare(@Param("userId") int userId,
+                                                  @Param("from") Instant from,
+                                                  @Param("to") Instant to);
+
+    /**
+     * The user's logs in [from, to) without their sets, read with shared locks: logs committed after the
+     * transaction's snapshot are seen. Used to tell new training days from ones already logged.
+     */
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT w FROM WorkoutLog w " +
+            "WHERE w.user.id = :userId AND w.performedAt >= :from AND w.performedAt < :to")
+    List<WorkoutLog> findByUserIdForShare(@Param("userId") int userId,
+                                          @Param("from") Instant from,
+                                          @Param("to") Instant to);
+
+    // Set entries go with it through ON DELETE CASCADE
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM WorkoutLog w WHERE w.id = :id AND w.user.id = :userId")
+    int deleteOwned(@Param("id") Long id, @Param("userId") int userId);
+}
@@ -0,0 +1,44 @@
+package com.zenkaigains.zenkai_gains_server.security;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Lightweight identity of the caller, built from JWT claims rather than a User entity.
+ * Inject it into controller methods with @CurrentUser.
+ */
+public class AuthenticatedUser {
+
+    private final int id;
+    private final String email;
+    private final String username;
+    private final List<String> roles;
+
+    public AuthenticatedUser(int id, String email, String username, List<String> roles) {
+        this.id = id;
+        this.email = email;
+        this.username = username;
+        this.roles = roles != null ? Collections.unmodifiableList(roles) : Collections.emptyList();
+    }
+
+    // Getters
+
+    public int getId() {
+        return id;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    /**
+     * The username as of when the token was issued; it may lag a later profile rename.
+     */
+    public String getUsername() {
+        return username;
+    }
+
+    public List<String> getRoles() {
+        return roles;
+    }
+}
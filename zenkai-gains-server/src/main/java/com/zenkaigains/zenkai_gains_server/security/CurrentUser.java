@@ -0,0 +1,15 @@
+package com.zenkaigains.zenkai_gains_server.security;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a controller parameter of type AuthenticatedUser to be filled from the verified JWT.
+ * The parameter is null when the request carries no valid token.
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CurrentUser {
+}
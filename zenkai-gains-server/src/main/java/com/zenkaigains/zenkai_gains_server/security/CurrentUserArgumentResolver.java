@@ -0,0 +1,56 @@
+package com.zenkaigains.zenkai_gains_server.security;
+
+import com.zenkaigains.zenkai_gains_server.entity.User;
+import com.zenkaigains.zenkai_gains_server.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.MethodParameter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+import java.util.Optional;
+
+/**
+ * Resolves @CurrentUser AuthenticatedUser parameters from the VerifiedJwt stored by
+ * JWTAuthenticationFilter. Tokens carrying a "uid" claim never touch the database;
+ * older tokens fall back to a single findByEmail lookup.
+ */
+@Component
+public class CurrentUserArgumentResolver implements HandlerMethodArgumentResolver {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(CurrentUser.class)
+                && AuthenticatedUser.class.isAssignableFrom(parameter.getParameterType());
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter,
+                                  ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest,
+                                  WebDataBinderFactory binderFactory) {
+        Object attribute = webRequest.getAttribute(VerifiedJwt.REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (!(attribute instanceof VerifiedJwt)) {
+            return null;
+        }
+        VerifiedJwt jwt = (VerifiedJwt) attribute;
+
+        if (jwt.getUserId() != null) {
+            return new AuthenticatedUser(jwt.getUserId(), jwt.getSubject(), jwt.getUsername(), jwt.getRoles());
+        }
+
+        // Token issued before the "uid" claim was added
+        Optional<User> userOpt = userRepository.findByEmail(jwt.getSubject());
+        if (userOpt.isEmpty()) {
+            return null;
+        }
+        User user = userOpt.get();
+        return new AuthenticatedUser(user.getId(), user.getEmail(), user.getUsername(), jwt.getRoles());
+    }
+}
@@ -38,19 +38,19 @@ public class JWTAuthenticationFilter extends OncePerRequestFilter {
         String requestURI = request.getRequestURI();
         logger.debug("Processing request for URI: {}", requestURI);
 
-        String token = extractTokenFromCookies(request);
+        String token = extractToken(request);
         if (!StringUtils.hasText(token)) {
-            logger.debug("No JWT token found in cookies.");
+            logger.debug("No JWT token found in cookies or Authorization header.");
         } else {
             logger.debug("JWT token found (masked): {}", maskToken(token));
         }
 
-        if (StringUtils.hasText(token) && jwtService.validateToken(token)) {
-            String username = jwtService.extractUsername(token);
+        // Verify the signature exactly once; everything downstream reuses the result.
+        VerifiedJwt verified = jwtService.verify(token);
+        if (verified != null) {
+            String username = verified.getSubject();
             logger.debug("Token valid, extracted username: {}", username);
-            // Extract roles using our helper method in JWTService
-            List<String> roleStrings = jwtService.extractRoles(token);
-            List<SimpleGrantedAuthority> authorities = roleStrings.stream()
+            List<SimpleGrantedAuthority> authorities = verified.getRoles().stream()
                     .map(SimpleGrantedAuthority::new)
                     .collect(Collectors.toList());
 
@@ -58,13 +58,17 @@ public class JWTAuthenticationFilter extends OncePerRequestFilter {
                     new UsernamePasswordAuthenticationToken(username, null, authorities);
             authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
             SecurityContextHolder.getContext().setAuthentication(authentication);
+            request.setAttribute(VerifiedJwt.REQUEST_ATTRIBUTE, verified);
         } else {
             logger.debug("Token is invalid or missing.");
         }
         filterChain.doFilter(request, response);
     }
 
-    private String extractTokenFromCookies(HttpServletRequest request) {
+    /**
+     * Reads the JWT from the "jwt" cookie, falling back to a Bearer Authorization header.
+     */
+    private String extractToken(HttpServletRequest request) {
         if (request.getCookies() != null) {
             for (Cookie cookie : request.getCookies()) {
                 if ("jwt".equals(cookie.getName())) {
@@ -72,6 +76,10 @@ public class JWTAuthenticationFilter extends OncePerRequestFilter {
                 }
             }
         }
+        String authHeader = request.getHeader("Authorization");
+        if (authHeader != null && authHeader.startsWith("Bearer ")) {
+            return authHeader.substring(7);
+        }
         return null;
     }
 
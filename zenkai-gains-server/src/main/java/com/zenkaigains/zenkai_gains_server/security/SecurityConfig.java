@@ -37,8 +37,12 @@ public class SecurityConfig {
                                 "/api/transformation",
                                 "/api/transformation/upload-url",
                                 "/api/workouts",        // Allow the workouts mapping
-                                "/api/workouts/**"       // Allow all sub-mappings for workouts (e.g., exercises)
+                                "/api/workouts/**",      // Allow all sub-mappings for workouts (e.g., exercises)
+                                "/local-storage/**"      // Local blob store; requests are authorized by URL signature
                         ).permitAll()
+                        // Health stays open to any signed-in caller; metrics and the rest are admin-only
+                        .requestMatchers("/actuator/health", "/actuator/health/**").authenticated()
+                        .requestMatchers("/actuator/**").hasAuthority("ROLE_ADMIN")
                         .anyRequest().authenticated()
                 )
                 .formLogin(form -> form.disable())
@@ -0,0 +1,64 @@
+package com.zenkaigains.zenkai_gains_server.security;
+
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * The claims of a JWT whose signature has already been checked.
+ * Built once per request by JWTAuthenticationFilter and stored as a request
+ * attribute, so controllers never have to parse the token again.
+ */
+public class VerifiedJwt {
+
+    /**
+     * Request attribute under which the filter stores the verified token.
+     * Controllers can read it with @RequestAttribute(VerifiedJwt.REQUEST_ATTRIBUTE).
+     */
+    public static final String REQUEST_ATTRIBUTE = "zenkai.verifiedJwt";
+
+    private final String subject;
+    private final Integer userId;
+    private final String username;
+    private final List<String> roles;
+    private final Date expiration;
+
+    public VerifiedJwt(String subject, Integer userId, String username, List<String> roles, Date expiration) {
+        this.subject = subject;
+        this.userId = userId;
+        this.username = username;
+        this.roles = roles != null ? Collections.unmodifiableList(roles) : Collections.emptyList();
+        this.expiration = expiration;
+    }
+
+    // Getters
+
+    /**
+     * The token subject, which is the user's email.
+     */
+    public String getSubject() {
+        return subject;
+    }
+
+    /**
+     * The "uid" claim, or null for tokens issued before the claim existed.
+     */
+    public Integer getUserId() {
+        return userId;
+    }
+
+    /**
+     * The "username" claim as of when the token was issued.
+     */
+    public String getUsername() {
+        return username;
+    }
+
+    public List<String> getRoles() {
+        return roles;
+    }
+
+    public Date getExpiration() {
+        return expiration;
+    }
+}
@@ -0,0 +1,87 @@
+package com.zenkaigains.zenkai_gains_server.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Size-bounded cache of already-verified JWTs, keyed by the SHA-256 of the raw token.
+ * An entry is only served until the token's own "exp" claim, so a cached hit can never
+ * outlive the signature check it replaces.
+ */
+public class VerifiedTokenCache {
+
+    private final int maxSize;
+    private final Map<String, VerifiedJwt> entries = new ConcurrentHashMap<>();
+
+    public VerifiedTokenCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns the cached claims for this token, or null if absent or already expired.
+     */
+    public VerifiedJwt get(String token) {
+        String key = keyOf(token);
+        VerifiedJwt cached = entries.get(key);
+        if (cached == null) {
+            return null;
+        }
+        if (isExpired(cached, System.currentTimeMillis())) {
+            entries.remove(key, cached);
+            return null;
+        }
+        return cached;
+    }
+
+    public void put(String token, VerifiedJwt verified) {
+        if (maxSize <= 0 || verified.getExpiration() == null) {
+            return;
+        }
+        if (entries.size() >= maxSize) {
+            evict();
+        }
+        entries.put(keyOf(token), verified);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Drops expired entries first; if the cache is still full, frees an arbitrary tenth of it.
+     * Evicted tokens are simply re-verified on their next use.
+     */
+    private void evict() {
+        long now = System.currentTimeMillis();
+        entries.values().removeIf(v -> isExpired(v, now));
+        if (entries.size() < maxSize) {
+            return;
+        }
+        int toRemove = Math.max(1, maxSize / 10);
+        Iterator<String> it = entries.keySet().iterator();
+        while (it.hasNext() && toRemove-- > 0) {
+            it.next();
+            it.remove();
+        }
+    }
+
+    private static boolean isExpired(VerifiedJwt verified, long now) {
+        return verified.getExpiration().getTime() <= now;
+    }
+
+    private static String keyOf(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            // Every JVM is required to ship SHA-256.
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.zenkaigains.zenkai_gains_server.service;
+
+import com.zenkaigains.zenkai_gains_server.dto.BodyMetricPointDTO;
+import com.zenkaigains.zenkai_gains_server.entity.BodyMetric;
+import com.zenkaigains.zenkai_gains_server.entity.BodyMetricEntry;
+import com.zenkaigains.zenkai_gains_server.entity.User;
+import com.zenkaigains.zenkai_gains_server.repository.BodyMetricEntryRepository;
+import com.zenkaigains.zenkai_gains_server.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Body weight and measurement series. Reads are downsampled with LTTB to the number of points
+ * the chart can draw, so multi-year histories cost a few hundred points on the wire.
+ */
+@Service
+public class BodyMetricService {
+
+    public static final int DEFAULT_POINTS = 400;
+    public static final int MAX_POINTS = 2000;
+
+    @Autowired
+    private BodyMetricEntryRepository bodyMetricEntryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    /**
+     * Saves one reading per metric, all with the same timestamp (null means now).
+     *
+     * @throws IllegalArgumentException with a client-facing message if a metric or value is invalid
+     */
+    @Transactional
+    public List<BodyMetricEntry> record(int userId, String date, Map<String, Double> values) {
+        if (values == null || values.isEmpty()) {
+            throw new IllegalArgumentException("At least one measurement is required");
+        }
+        Instant measuredAt = date == null || date.isEmpty() ? Instant.now() : WorkoutLogService.parseDate(date);
+        User user = userRepository.getReferenceById(userId);
+        List<BodyMetricEntry> entries = new ArrayList<>(values.size());
+        for (Map.Entry<String, Double> value : values.entrySet()) {
+            BodyMetric metric = parseMetric(value.getKey());
+            if (value.getValue() == null || !metric.accepts(value.getValue())) {
+                throw new IllegalArgumentException(value.getKey() + " must be between "
+                        + metric.getMin() + " and " + metric.getMax());
+            }
+            entries.add(new BodyMetricEntry(user, metric, measuredAt, value.getValue().floatValue()));
+        }
+        return bodyMetricEntryRepository.saveAll(entries);
+    }
+
+    /**
+     * Readings in [from, to), oldest first, reduced to at most maxPoints. Both bounds are optional.
+     */
+    public List<BodyMetricPointDTO> series(int userId, BodyMetric metric, Instant from, Instant to, int maxPoints) {
+        List<BodyMetricPointDTO> points = bodyMetricEntryRepository.findSeries(userId, metric, from, to);
+        int threshold = Math.max(3, Math.min(maxPoints, MAX_POINTS));
+        if (points.size() <= threshold) {
+            return points;
+        }
+        double[] x = new double[points.size()];
+        double[] y = new double[points.size()];
+        long origin = points.get(0).getDate().getEpochSecond();
+        for (int i = 0; i < points.size(); i++) {
+            x[i] = points.get(i).getDate().getEpochSecond() - origin;
+            y[i] = points.get(i).getValue();
+        }
+        int[] kept = TimeSeriesDownsampler.lttb(x, y, threshold);
+        List<BodyMetricPointDTO> sampled = new ArrayList<>(kept.length);
+        for (int index : kept) {
+            sampled.add(points.get(index));
+        }
+        return sampled;
+    }
+
+    /**
+     * True if the reading existed and belonged to the user.
+     */
+    public boolean delete(int userId, Long entryId) {
+        return bodyMetricEntryRepository.deleteOwned(entryId, userId) > 0;
+    }
+
+    /**
+     * Accepts enum names in any case, with '-' or ' ' for '_' ("body-fat").
+     */
+    public static BodyMetric parseMetric(String name) {
+        if (name == null) {
+            throw new IllegalArgumentException("metric is required");
+        }
+        try {
+            return BodyMetric.valueOf(name.trim().toUpperCase(Locale.ROOT).replace('-', '_').replace(' ', '_'));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown metric: " + name);
+        }
+    }
+}
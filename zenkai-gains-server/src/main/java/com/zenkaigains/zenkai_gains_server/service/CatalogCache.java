@@ -0,0 +1,144 @@
+package com.zenkaigains.zenkai_gains_server.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zenkaigains.zenkai_gains_server.dto.MuscleDTO;
+import com.zenkaigains.zenkai_gains_server.dto.MuscleGroupDTO;
+import com.zenkaigains.zenkai_gains_server.entity.Muscle;
+import com.zenkaigains.zenkai_gains_server.entity.MuscleGroup;
+import com.zenkaigains.zenkai_gains_server.repository.MuscleGroupListingRepository;
+import com.zenkaigains.zenkai_gains_server.repository.MuscleGroupRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Read-through cache of the exercise catalog served by GET /api/workouts.
+ * The catalog is loaded with two queries (groups with muscles, exercise names by group)
+ * and kept as pre-serialized JSON plus a
+ * strong ETag, so reads cost no queries and no serialization. Every catalog write calls
+ * invalidate(); the next read rebuilds it, and a CatalogChangedEvent tells other
+ * catalog views (the exercise search index) to refresh.
+ */
+@Service
+public class CatalogCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(CatalogCache.class);
+
+    @Autowired
+    private MuscleGroupRepository muscleGroupRepository;
+
+    @Autowired
+    private MuscleGroupListingRepository muscleGroupListingRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    // Bumped by every invalidation so a rebuild that raced with a write is not cached
+    private final AtomicLong generation = new AtomicLong();
+    private final Object loadLock = new Object();
+    private volatile Snapshot snapshot;
+
+    public Snapshot get() {
+        Snapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        // One rebuild at a time; concurrent readers wait for it instead of all hitting the database
+        synchronized (loadLock) {
+            current = snapshot;
+            if (current != null) {
+                return current;
+            }
+            long loadedGeneration = generation.get();
+            current = load();
+            if (generation.get() == loadedGeneration) {
+                snapshot = current;
+            }
+            return current;
+        }
+    }
+
+    /**
+     * For writes that change no exercise targets and rename or delete no muscle.
+     */
+    public void invalidate() {
+        invalidate(Collections.emptySet(), Collections.emptySet());
+    }
+
+    /**
+     * For writes that change what exercises target; see CatalogChangedEvent for which ids to pass.
+     * Deletes must look up the affected exercises before the database cascade removes their targets.
+     */
+    public void invalidate(Collection<Long> exerciseIds, Collection<Long> muscleIds) {
+        generation.incrementAndGet();
+        snapshot = null;
+        logger.debug("Catalog cache invalidated");
+        eventPublisher.publishEvent(new CatalogChangedEvent(exerciseIds, muscleIds));
+    }
+
+    private Snapshot load() {
+        Map<Long, List<String>> exercisesByGroup = new HashMap<>();
+        for (Object[] row : muscleGroupListingRepository.findGroupedExerciseNames()) {
+            exercisesByGroup.computeIfAbsent((Long) row[0], k -> new ArrayList<>()).add((String) row[1]);
+        }
+
+        List<MuscleGroupDTO> groups = new ArrayList<>();
+        for (MuscleGroup group : muscleGroupRepository.findAllWithMuscles()) {
+            List<MuscleDTO> muscles = new ArrayList<>(group.getMuscles().size());
+            for (Muscle muscle : group.getMuscles()) {
+                muscles.add(new MuscleDTO(muscle.getId(), muscle.getName(), group.getId()));
+            }
+            groups.add(new MuscleGroupDTO(group.getId(), group.getName(), muscles,
+                    exercisesByGroup.getOrDefault(group.getId(), new ArrayList<>())));
+        }
+
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(groups);
+            String etag = "\"" + DigestUtils.md5DigestAsHex(json) + "\"";
+            logger.debug("Catalog cache rebuilt: {} muscle groups, {} bytes", groups.size(), json.length);
+            return new Snapshot(json, etag, Collections.unmodifiableList(groups));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize exercise catalog", e);
+        }
+    }
+
+    public static final class Snapshot {
+        private final byte[] json;
+        private final String etag;
+        private final List<MuscleGroupDTO> groups;
+
+        Snapshot(byte[] json, String etag, List<MuscleGroupDTO> groups) {
+            this.json = json;
+            this.etag = etag;
+            this.groups = groups;
+        }
+
+        public byte[] getJson() {
+            return json;
+        }
+
+        public String getEtag() {
+            return etag;
+        }
+
+        // Same catalog as the JSON, for server-side lookups; treat as read-only
+        public List<MuscleGroupDTO> getGroups() {
+            return groups;
+        }
+    }
+}
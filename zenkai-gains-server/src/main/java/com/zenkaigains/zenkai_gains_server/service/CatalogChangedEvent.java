@@ -0,0 +1,32 @@
+package com.zenkaigains.zenkai_gains_server.service;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Published by CatalogCache.invalidate() after any write to muscle groups, muscles or exercises.
+ *
+ * exerciseIds are the exercises whose muscle targets changed or went away (updated or deleted
+ * exercises, and exercises that targeted a deleted muscle); muscleIds are muscles that were renamed
+ * or deleted. Both are empty for writes that only add rows or touch group names and listings.
+ */
+public class CatalogChangedEvent {
+
+    private final Set<Long> exerciseIds;
+    private final Set<Long> muscleIds;
+
+    public CatalogChangedEvent(Collection<Long> exerciseIds, Collection<Long> muscleIds) {
+        this.exerciseIds = Collections.unmodifiableSet(new TreeSet<>(exerciseIds));
+        this.muscleIds = Collections.unmodifiableSet(new TreeSet<>(muscleIds));
+    }
+
+    public Set<Long> getExerciseIds() {
+        return exerciseIds;
+    }
+
+    public Set<Long> getMuscleIds() {
+        return muscleIds;
+    }
+}
@@ -0,0 +1,57 @@
+package com.zenkaigains.zenkai_gains_server.service;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+
+/**
+ * The optional, inclusive from/to query parameters (yyyy-MM-dd) of the series and history endpoints.
+ * Days are UTC calendar days, as in ProgressRollupService.dayOf.
+ */
+public final class DateRange {
+
+    private final LocalDate from;
+    private final LocalDate to;
+
+    private DateRange(LocalDate from, LocalDate to) {
+        this.from = from;
+        this.to = to;
+    }
+
+    /**
+     * Null or empty values leave that side open.
+     *
+     * @throws IllegalArgumentException with a client-facing message if a date is malformed
+     */
+    public static DateRange parse(String from, String to) {
+        try {
+            return new DateRange(from == null || from.isEmpty() ? null : LocalDate.parse(from),
+                    to == null || to.isEmpty() ? null : LocalDate.parse(to));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Dates must be formatted as yyyy-MM-dd");
+        }
+    }
+
+    public LocalDate getFrom() {
+        return from;
+    }
+
+    public LocalDate getTo() {
+        return to;
+    }
+
+    /**
+     * Start of the from day, or null if open.
+     */
+    public Instant fromInstant() {
+        return from == null ? null : from.atStartOfDay(ZoneOffset.UTC).toInstant();
+    }
+
+    /**
+     * Start of the day after to (an exclusive bound), or null if open.
+     */
+    public Instant toInstantExclusive() {
+        return to == null ? null : to.plusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant();
+    }
+}
@@ -44,7 +44,7 @@ public class EmailVerificationService {
         verificationToken.setExpiryDate(LocalDateTime.now().plusHours(24));
         tokenRepository.save(verificationToken);
 
-        //Seding verification email
+        // Queue the verification email; delivery happens in the background
         String verifylink = "http://localhost:8080/auth/verify-email?token=" + token;
         mailservice.sendVerificationEmail(user.getEmail(),verifylink);
 
@@ -0,0 +1,363 @@
+package com.zenkaigains.zenkai_gains_server.service;
+
+import com.zenkaigains.zenkai_gains_server.dto.ExerciseSuggestionDTO;
+import com.zenkaigains.zenkai_gains_server.entity.Exercise;
+import com.zenkaigains.zenkai_gains_server.entity.ExerciseMuscleTarget;
+import com.zenkaigains.zenkai_gains_server.repository.ExerciseRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * In-memory typeahead index over exercise names and aliases, so search never touches the database.
+ *
+ * Names and aliases are normalized (lower case, accents and punctuation stripped) and split into
+ * tokens. Tokens live in a sorted dictionary with a posting list of exercises each, so a prefix
+ * lookup is two binary searches. A query token with no prefix hit falls back to a scan of the
+ * dictionary with a bounded edit distance (1 edit, 2 from six characters), which absorbs typos.
+ * Every query token must match for an exercise to be returned.
+ *
+ * The index is an immutable snapshot swapped in whole. It is built at startup and again after
+ * each CatalogChangedEvent.
+ */
+@Service
+public class ExerciseSearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExerciseSearchIndex.class);
+
+    public static final int MAX_LIMIT = 50;
+
+    private static final int NO_MATCH = Integer.MAX_VALUE;
+
+    @Autowired
+    private ExerciseRepository exerciseRepository;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void onStartup() {
+        rebuild();
+    }
+
+    // Runs after the writing transaction commits, or straight away for writes made outside one
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        rebuild();
+    }
+
+    /**
+     * Ranked matches for the query, optionally limited to exercises targeting muscleId.
+     * An empty query with a muscle filter lists that muscle's exercises by target percentage.
+     */
+    public List<ExerciseSuggestionDTO> search(String query, Long muscleId, int limit) {
+        Snapshot index = snapshot;
+        int max = Math.max(1, Math.min(limit, MAX_LIMIT));
+        String normalized = normalize(query);
+
+        if (normalized.isEmpty()) {
+            if (muscleId == null) {
+                return Collections.emptyList();
+            }
+            List<Hit> hits = new ArrayList<>();
+            for (Entry entry : index.entries) {
+                int percentage = entry.percentageFor(muscleId);
+                if (percentage > 0) {
+                    hits.add(new Hit(entry, -percentage));
+                }
+            }
+            return toSuggestions(hits, muscleId, max);
+        }
+
+        String[] queryTokens = normalized.split(" ");
+        int[] penalty = new int[index.entries.length];
+        int[] best = new int[index.entries.length];
+        for (String queryToken : queryTokens) {
+            Arrays.fill(best, NO_MATCH);
+            index.match(queryToken, best);
+            for (int doc = 0; doc < penalty.length; doc++) {
+                if (best[doc] == NO_MATCH || penalty[doc] == NO_MATCH) {
+                    penalty[doc] = NO_MATCH;
+                } else {
+                    penalty[doc] += best[doc];
+                }
+            }
+        }
+
+        List<Hit> hits = new ArrayList<>();
+        for (int doc = 0; doc < penalty.length; doc++) {
+            Entry entry = index.entries[doc];
+            if (penalty[doc] == NO_MATCH || (muscleId != null && entry.percentageFor(muscleId) == 0)) {
+                continue;
+            }
+            // Whole-name prefix matches rank above matches on a later word or an alias
+            hits.add(new Hit(entry, penalty[doc] * 2 + (entry.normalizedName.startsWith(normalized) ? 0 : 1)));
+        }
+        return toSuggestions(hits, muscleId, max);
+    }
+
+    public int size() {
+        return snapshot.entries.length;
+    }
+
+    private void rebuild() {
+        long start = System.nanoTime();
+        try {
+            Snapshot built = build();
+            snapshot = built;
+            logger.debug("Exercise search index rebuilt: {} exercises, {} tokens in {} ms",
+                    built.entries.length, built.tokens.length, (System.nanoTime() - start) / 1_000_000);
+        } catch (RuntimeException e) {
+            // Keep serving the previous snapshot
+            logger.error("Failed to rebuild exercise search index", e);
+        }
+    }
+
+    private Snapshot build() {
+        List<Exercise> exercises = exerciseRepository.findAllWithTargets();
+        Map<Long, List<String>> aliasesById = new HashMap<>();
+        for (Object[] row : exerciseRepository.findAllAliases()) {
+            aliasesById.computeIfAbsent((Long) row[0], k -> new ArrayList<>()).add((String) row[1]);
+        }
+
+        Entry[] entries = new Entry[exercises.size()];
+        TreeMap<String, Set<Integer>> postings = new TreeMap<>();
+        for (int doc = 0; doc < entries.length; doc++) {
+            Exercise exercise = exercises.get(doc);
+            entries[doc] = Entry.of(exercise);
+
+            List<String> terms = new ArrayList<>();
+            terms.add(entries[doc].normalizedName);
+            for (String alias : aliasesById.getOrDefault(exercise.getId(), Collections.emptyList())) {
+                terms.add(normalize(alias));
+            }
+            for (String term : terms) {
+                if (term.isEmpty()) {
+                    continue;
+                }
+                for (String token : term.split(" ")) {
+                    postings.computeIfAbsent(token, k -> new LinkedHashSet<>()).add(doc);
+                }
+                // "pullup" should find "Pull Up" and the other way round
+                if (term.indexOf(' ') >= 0) {
+                    postings.computeIfAbsent(term.replace(" ", ""), k -> new LinkedHashSet<>()).add(doc);
+                }
+            }
+        }
+
+        String[] tokens = new String[postings.size()];
+        int[][] docs = new int[postings.size()][];
+        int i = 0;
+        for (Map.Entry<String, Set<Integer>> posting : postings.entrySet()) {
+            tokens[i] = posting.getKey();
+            docs[i] = posting.getValue().stream().mapToInt(Integer::intValue).toArray();
+            i++;
+        }
+        return new Snapshot(entries, tokens, docs);
+    }
+
+    private static List<ExerciseSuggestionDTO> toSuggestions(List<Hit> hits, Long muscleId, int max) {
+        // Lower rank first, then shorter and alphabetically earlier names
+        hits.sort(Comparator.comparingInt((Hit h) -> h.rank)
+                .thenComparingInt(h -> h.entry.name.length())
+                .thenComparing(h -> h.entry.name));
+        List<ExerciseSuggestionDTO> suggestions = new ArrayList<>(Math.min(hits.size(), max));
+        for (Hit hit : hits.subList(0, Math.min(hits.size(), max))) {
+            Entry entry = hit.entry;
+            Integer percentage = muscleId != null ? entry.percentageFor(muscleId) : null;
+            suggestions.add(new ExerciseSuggestionDTO(entry.id, entry.name, entry.muscleGroupId, percentage));
+        }
+        return suggestions;
+    }
+
+    /**
+     * Lower case, accents removed, runs of anything but letters and digits collapsed to one space.
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        StringBuilder sb = new StringBuilder(decomposed.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = decomposed.charAt(i);
+            if (Character.getType(c) == Character.NON_SPACING_MARK) {
+                continue;
+            }
+            if (Character.isLetterOrDigit(c)) {
+                if (pendingSpace && sb.length() > 0) {
+                    sb.append(' ');
+                }
+                pendingSpace = false;
+                sb.append(Character.toLowerCase(c));
+            } else {
+                pendingSpace = true;
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Edit distance between a and b counting insertions, deletions, substitutions and adjacent
+     * transpositions ("benhc" is one edit from "bench"), or max + 1 as soon as it must exceed max.
+     */
+    static int boundedDistance(String a, String b, int max) {
+        if (Math.abs(a.length() - b.length()) > max) {
+            return max + 1;
+        }
+        int[] twoBack = new int[b.length() + 1];
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        int previousMin = 0;
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                int value = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    value = Math.min(value, twoBack[j - 2] + 1);
+                }
+                current[j] = value;
+                rowMin = Math.min(rowMin, value);
+            }
+            // A transposition can reach back two rows, so both must already be over the bound
+            if (rowMin > max && previousMin > max) {
+                return max + 1;
+            }
+            previousMin = rowMin;
+            int[] recycled = twoBack;
+            twoBack = previous;
+            previous = current;
+            current = recycled;
+        }
+        return Math.min(previous[b.length()], max + 1);
+    }
+
+    private static final class Snapshot {
+        static final Snapshot EMPTY = new Snapshot(new Entry[0], new String[0], new int[0][]);
+
+        final Entry[] entries;
+        // Sorted token dictionary; docs[i] lists the entries containing tokens[i]
+        final String[] tokens;
+        final int[][] docs;
+
+        Snapshot(Entry[] entries, String[] tokens, int[][] docs) {
+            this.entries = entries;
+            this.tokens = tokens;
+            this.docs = docs;
+        }
+
+        /**
+         * Records into best[doc] the lowest penalty with which queryToken matches each entry:
+         * 0 exact token, 1 prefix, 3 or more for a fuzzy match.
+         */
+        void match(String queryToken, int[] best) {
+            int from = lowerBound(queryToken);
+            int to = lowerBound(queryToken + Character.MAX_VALUE);
+            for (int t = from; t < to; t++) {
+                int penalty = tokens[t].length() == queryToken.length() ? 0 : 1;
+                for (int doc : docs[t]) {
+                    best[doc] = Math.min(best[doc], penalty);
+                }
+            }
+            if (from < to || queryToken.length() < 3) {
+                return;
+            }
+
+            int maxEdits = queryToken.length() >= 6 ? 2 : 1;
+            for (int t = 0; t < tokens.length; t++) {
+                String token = tokens[t];
+                if (token.length() < queryToken.length() - maxEdits) {
+                    continue;
+                }
+                // Compare against the token's leading characters as well, since the user may still be typing
+                int distance = boundedDistance(queryToken, token, maxEdits);
+                if (token.length() > queryToken.length()) {
+                    distance = Math.min(distance,
+                            boundedDistance(queryToken, token.substring(0, queryToken.length()), maxEdits));
+                }
+                if (distance <= maxEdits) {
+                    for (int doc : docs[t]) {
+                        best[doc] = Math.min(best[doc], 1 + 2 * distance);
+                    }
+                }
+            }
+        }
+
+        private int lowerBound(String key) {
+            int index = Arrays.binarySearch(tokens, key);
+            return index >= 0 ? index : -index - 1;
+        }
+    }
+
+    private static final class Entry {
+        final Long id;
+        final String name;
+        final String normalizedName;
+        final Long muscleGroupId;
+        // Sorted muscle ids with their percentages at the same positions
+        final long[] muscleIds;
+        final int[] percentages;
+
+        private Entry(Long id, String name, Long muscleGroupId, long[] muscleIds, int[] percentages) {
+            this.id = id;
+            this.name = name;
+            this.normalizedName = normalize(name);
+            this.muscleGroupId = muscleGroupId;
+            this.muscleIds = muscleIds;
+            this.percentages = percentages;
+        }
+
+        static Entry of(Exercise exercise) {
+            List<ExerciseMuscleTarget> targets = new ArrayList<>(exercise.getTargets());
+            targets.sort(Comparator.comparing(t -> t.getMuscle().getId()));
+            long[] muscleIds = new long[targets.size()];
+            int[] percentages = new int[targets.size()];
+            for (int i = 0; i < targets.size(); i++) {
+                muscleIds[i] = targets.get(i).getMuscle().getId();
+                percentages[i] = targets.get(i).getPercentage();
+            }
+            Long groupId = exercise.getMuscleGroup() != null ? exercise.getMuscleGroup().getId() : null;
+            return new Entry(exercise.getId(), exercise.getName(), groupId, muscleIds, percentages);
+        }
+
+        int percentageFor(long muscleId) {
+            int index = Arrays.binarySearch(muscleIds, muscleId);
+            return index >= 0 ? percentages[index] : 0;
+        }
+    }
+
+    private static final class Hit {
+        final Entry entry;
+        final int rank;
+
+        Hit(Entry entry, int rank) {
+            this.entry = entry;
+            this.rank = rank;
+        }
+    }
+}
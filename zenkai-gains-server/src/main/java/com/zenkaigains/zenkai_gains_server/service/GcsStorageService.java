@@ -0,0 +1,329 @@
+package com.zenkaigains.zenkai_gains_server.service;
+
+import com.google.auth.oauth2.GoogleCredentials;
+import com.google.cloud.ReadChannel;
+import com.google.cloud.WriteChannel;
+import com.google.cloud.storage.Blob;
+import com.google.cloud.storage.BlobId;
+import com.google.cloud.storage.BlobInfo;
+import com.google.cloud.storage.HttpMethod;
+import com.google.cloud.storage.Storage;
+import com.google.cloud.storage.StorageOptions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.annotation.PostConstruct;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * StorageService backed by Google Cloud Storage. Active unless storage.backend is set to something else.
+ */
+@Service
+@ConditionalOnProperty(name = "storage.backend", havingValue = "gcs", matchIfMissing = true)
+public class GcsStorageService implements StorageService {
+
+    private static final Logger logger = LoggerFactory.getLogger(GcsStorageService.class);
+
+    // Resumable upload chunk size (must be a multiple of 256 KiB) and the copy buffer that feeds it
+    private static final int UPLOAD_CHUNK_SIZE = 1024 * 1024;
+    private static final int COPY_BUFFER_SIZE = 256 * 1024;
+    private static final int MAX_POOLED_BUFFERS = 16;
+
+    @Value("${gcs.project-id}")
+    private String projectId;
+
+    @Value("${gcs.client-email}")
+    private String clientEmail;
+
+    @Value("${gcs.private-key}")
+    private String privateKey;
+
+    // Use separate properties for the two buckets
+    @Value("${gcs.bucket-profile-picture}")
+    private String profileBucketName;
+
+    // Changed property key to reflect correct spelling ("transformation")
+    @Value("${gcs.bucket-transformation-picture}")
+    private String transformationBucketName;
+
+    @Value("${gcs.private-key-id}")
+    private String privateKeyId;
+
+    @Value("${gcs.client-id}")
+    private String clientId;
+
+    // Fraction of a GET URL's 7-day validity after which a fresh one is signed
+    @Value("${gcs.signed-url.refresh-fraction:0.5}")
+    private double signedUrlRefreshFraction;
+
+    @Value("${gcs.signed-url.cache-max-size:10000}")
+    private int signedUrlCacheMaxSize;
+
+    private Storage storage;
+
+    // Signed GET URLs keyed by bucket + "/" + objectName. Reusing the same URL saves an RSA
+    // signature per view and lets browsers/CDNs cache the image under a stable URL.
+    private final Map<String, CachedUrl> getUrlCache = new ConcurrentHashMap<>();
+
+    // Reusable copy buffers so an upload costs a fixed amount of heap whatever the file size
+    private final BlockingQueue<ByteBuffer> copyBuffers = new ArrayBlockingQueue<>(MAX_POOLED_BUFFERS);
+
+    @Autowired
+    private UploadMetrics uploadMetrics;
+
+    @PostConstruct
+    public void init() throws IOException {
+        logger.debug("Initializing StorageService...");
+        // Above 1 the cache would hand out expired URLs; at 0 or below it would never reuse one
+        if (!(signedUrlRefreshFraction > 0 && signedUrlRefreshFraction <= 1)) {
+            throw new IllegalStateException("gcs.signed-url.refresh-fraction must be in (0, 1], got "
+                    + signedUrlRefreshFraction);
+        }
+        // Replace escaped newline characters in the private key.
+        String formattedPrivateKey = privateKey.replace("\\n", "\n");
+        logger.debug("Formatted private key prepared.");
+
+        // Build a JSON credentials string with all required fields.
+        String jsonCredentials = String.format(
+                "{\n" +
+                        "  \"type\": \"service_account\",\n" +
+                        "  \"project_id\": \"%s\",\n" +
+                        "  \"private_key_id\": \"%s\",\n" +
+                        "  \"private_key\": \"%s\",\n" +
+                        "  \"client_email\": \"%s\",\n" +
+                        "  \"client_id\": \"%s\"\n" +
+                        "}",
+                projectId, privateKeyId, formattedPrivateKey, clientEmail, clientId
+        );
+        logger.debug("JSON credentials constructed: {}...",
+                jsonCredentials.substring(0, Math.min(100, jsonCredentials.length())));
+
+        GoogleCredentials credentials = GoogleCredentials.fromStream(
+                new ByteArrayInputStream(jsonCredentials.getBytes(StandardCharsets.UTF_8))
+        );
+        storage = StorageOptions.newBuilder()
+                .setProjectId(projectId)
+                .setCredentials(credentials)
+                .build()
+                .getService();
+        logger.debug("Google Cloud Storage service initialized for project: {}", projectId);
+    }
+
+    /**
+     * Uploads a file (profile picture) to the profile bucket.
+     * The part is streamed through a resumable WriteChannel with a pooled fixed-size buffer,
+     * so it is never loaded onto the heap in full.
+     * Generates a signed URL valid for 7 days.
+     */
+    @Override
+    public String uploadFile(MultipartFile file) throws IOException {
+        String fileName = "profile-pictures/" + System.currentTimeMillis() + "_" + file.getOriginalFilename();
+        logger.debug("Uploading file: {} to bucket: {}", fileName, profileBucketName);
+
+        BlobId blobId = BlobId.of(profileBucketName, fileName);
+        BlobInfo blobInfo = BlobInfo.newBuilder(blobId)
+                .setContentType(file.getContentType())
+                .build();
+
+        long start = System.nanoTime();
+        long written = 0;
+        ByteBuffer buffer = acquireBuffer();
+        try (InputStream in = file.getInputStream();
+             ReadableByteChannel source = Channels.newChannel(in);
+             WriteChannel writer = storage.writer(blobInfo)) {
+            writer.setChunkSize(UPLOAD_CHUNK_SIZE);
+            while (source.read(buffer) != -1) {
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    written += writer.write(buffer);
+                }
+                buffer.clear();
+            }
+        } finally {
+            releaseBuffer(buffer);
+        }
+        uploadMetrics.record("gcs", written, System.nanoTime() - start);
+        logger.debug("File uploaded to bucket ({} bytes).", written);
+
+        // Generate a signed URL valid for 7 days (maximum for V4 signatures)
+        URL signedUrl = storage.signUrl(blobInfo, 7, TimeUnit.DAYS, Storage.SignUrlOption.withV4Signature());
+        logger.debug("Generated signed URL (7 days): {}", signedUrl.toString());
+        return signedUrl.toString();
+    }
+
+    /**
+     * Generates a signed URL for uploading a transformation file.
+     * This URL is valid for 15 minutes and must be used with a PUT request.
+     * The client must use the exact same Content-Type header as specified here.
+     */
+    @Override
+    public String generateSignedUrl(String bucket, String objectName, String contentType) {
+        logger.debug("Generating signed URL for bucket: {}, object: {}, contentType: {}", bucket, objectName, contentType);
+        // Build the BlobInfo with the expected content type
+        BlobInfo blobInfo = BlobInfo.newBuilder(bucket, objectName)
+                .setContentType(contentType)
+                .build();
+
+        // Generate a signed URL for a PUT request (but WITHOUT withContentType)
+        URL signedUrl = storage.signUrl(
+                blobInfo,
+                15, // 15 minutes validity
+                TimeUnit.MINUTES,
+                Storage.SignUrlOption.httpMethod(HttpMethod.PUT),
+                // Storage.SignUrlOption.withContentType(),  // ❌ remove this line
+                Storage.SignUrlOption.withV4Signature()
+        );
+
+        logger.debug("Generated signed URL (15 minutes): {}", signedUrl.toString());
+        return signedUrl.toString();
+    }
+
+    @Override
+    public String generateUploadUrl(String bucket, String objectName, String contentType) {
+        logger.debug("Generating signed URL for PUT: bucket={}, object={}, contentType={}", bucket, objectName, contentType);
+        BlobInfo blobInfo = BlobInfo.newBuilder(bucket, objectName)
+                .setContentType(contentType)
+                .build();
+
+        URL signedUrl = storage.signUrl(
+                blobInfo,
+                15, // 15 minutes validity
+                TimeUnit.MINUTES,
+                Storage.SignUrlOption.httpMethod(HttpMethod.PUT),
+                Storage.SignUrlOption.withV4Signature()
+        );
+
+        logger.debug("Generated signed PUT URL (15 minutes): {}", signedUrl);
+        return signedUrl.toString();
+    }
+
+    @Override
+    public String generateGetUrl(String bucket, String objectName) {
+        String key = bucket + "/" + objectName;
+        long now = System.currentTimeMillis();
+        CachedUrl cached = getUrlCache.get(key);
+        if (cached != null && now < cached.refreshAt) {
+            logger.debug("Reusing cached signed GET URL: bucket={}, object={}", bucket, objectName);
+            return cached.url;
+        }
+
+        logger.debug("Generating signed URL for GET: bucket={}, object={}", bucket, objectName);
+        BlobInfo blobInfo = BlobInfo.newBuilder(bucket, objectName).build();
+
+        URL signedUrl = storage.signUrl(
+                blobInfo,
+                7, // 7 days validity
+                TimeUnit.DAYS,
+                Storage.SignUrlOption.httpMethod(HttpMethod.GET),
+                Storage.SignUrlOption.withV4Signature()
+        );
+
+        logger.debug("Generated signed GET URL (7 days): {}", signedUrl);
+        cacheGetUrl(key, signedUrl.toString(), now, TimeUnit.DAYS.toMillis(7));
+        return signedUrl.toString();
+    }
+
+    /**
+     * Drops any cached GET URL for an object, e.g. after it has been overwritten or deleted.
+     */
+    @Override
+    public void evictGetUrl(String bucket, String objectName) {
+        getUrlCache.remove(bucket + "/" + objectName);
+    }
+
+    private void cacheGetUrl(String key, String url, long signedAt, long validityMillis) {
+        if (signedUrlCacheMaxSize <= 0) {
+            return;
+        }
+        if (getUrlCache.size() >= signedUrlCacheMaxSize) {
+            // Drop URLs that are already due for refresh; if still full, free an arbitrary tenth.
+            long now = System.currentTimeMillis();
+            getUrlCache.values().removeIf(c -> now >= c.refreshAt);
+            int toRemove = getUrlCache.size() >= signedUrlCacheMaxSize ? Math.max(1, signedUrlCacheMaxSize / 10) : 0;
+            Iterator<String> it = getUrlCache.keySet().iterator();
+            while (it.hasNext() && toRemove-- > 0) {
+                it.next();
+                it.remove();
+            }
+        }
+        long refreshAt = signedAt + (long) (validityMillis * signedUrlRefreshFraction);
+        getUrlCache.put(key, new CachedUrl(url, refreshAt));
+    }
+
+    private ByteBuffer acquireBuffer() {
+        ByteBuffer buffer = copyBuffers.poll();
+        return buffer != null ? buffer : ByteBuffer.allocate(COPY_BUFFER_SIZE);
+    }
+
+    private void releaseBuffer(ByteBuffer buffer) {
+        buffer.clear();
+        // Surplus buffers beyond the pool size are simply left for GC
+        copyBuffers.offer(buffer);
+    }
+
+    /**
+     * A signed URL and the moment it should stop being handed out.
+     */
+    private static final class CachedUrl {
+        private final String url;
+        private final long refreshAt;
+
+        private CachedUrl(String url, long refreshAt) {
+            this.url = url;
+            this.refreshAt = refreshAt;
+        }
+    }
+
+    @Override
+    public InputStream openObject(String bucket, String objectName) throws IOException {
+        ReadChannel reader = storage.reader(BlobId.of(bucket, objectName));
+        reader.setChunkSize(UPLOAD_CHUNK_SIZE);
+        return Channels.newInputStream(reader);
+    }
+
+    @Override
+    public long size(String bucket, String objectName) {
+        Blob blob = storage.get(BlobId.of(bucket, objectName));
+        return blob == null ? -1 : blob.getSize();
+    }
+
+    @Override
+    public void writeObject(String bucket, String objectName, String contentType, byte[] content) throws IOException {
+        BlobInfo blobInfo = BlobInfo.newBuilder(bucket, objectName)
+                .setContentType(contentType)
+                .build();
+        storage.create(blobInfo, content);
+        evictGetUrl(bucket, objectName);
+        logger.debug("Wrote object {}/{} ({} bytes)", bucket, objectName, content.length);
+    }
+
+    // Getters for the bucket names
+
+    @Override
+    public String getProfileBucketName() {
+        return profileBucketName;
+    }
+
+    @Override
+    public String getTransformationBucketName() {
+        return transformationBucketName;
+    }
+}
@@ -0,0 +1,219 @@
+package com.zenkaigains.zenkai_gains_server.service;
+
+import com.zenkaigains.zenkai_gains_server.repository.TransformationRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * Produces downscaled JPEG variants of transformation photos so the gallery does not
+ * download full camera-resolution originals. Variants are stored next to the original as
+ * "{objectName}__w{width}.jpg" and the row is flagged once all of them exist.
+ */
+@Service
+public class ImageVariantService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImageVariantService.class);
+
+    private static final String VARIANT_CONTENT_TYPE = "image/jpeg";
+
+    private final List<Integer> variantWidths;
+    private final float jpegQuality;
+    private final long maxPixels;
+    private final long maxObjectBytes;
+
+    @Autowired
+    private StorageService storageService;
+
+    @Autowired
+    private TransformationRepository transformationRepository;
+
+    @Autowired
+    @Qualifier("imageProcessingExecutor")
+    private Executor imageProcessingExecutor;
+
+    public ImageVariantService(@Value("${images.variant-widths:256,768,1280}") List<Integer> variantWidths,
+                               @Value("${images.jpeg-quality:0.8}") float jpegQuality,
+                               @Value("${images.max-pixels:40000000}") long maxPixels,
+                               @Value("${storage.upload.max-bytes:10485760}") long maxObjectBytes) {
+        List<Integer> widths = new ArrayList<>(variantWidths);
+        Collections.sort(widths);
+        this.variantWidths = Collections.unmodifiableList(widths);
+        this.jpegQuality = jpegQuality;
+        this.maxPixels = maxPixels;
+        this.maxObjectBytes = maxObjectBytes;
+    }
+
+    /**
+     * Queues variant generation on the image pool and returns immediately.
+     */
+    public void generateVariantsAsync(int transformationId, String objectName) {
+        imageProcessingExecutor.execute(() -> {
+            try {
+                generateVariants(transformationId, objectName);
+            } catch (Exception e) {
+                // The original stays usable; the gallery just keeps serving it
+                logger.error("Failed to generate variants for {}", objectName, e);
+            }
+        });
+    }
+
+    /**
+     * Decodes the original once and writes every configured width that is smaller than it.
+     */
+    public void generateVariants(int transformationId, String objectName) throws IOException {
+        String bucket = storageService.getTransformationBucketName();
+        long start = System.nanoTime();
+
+        // Uploads go straight to storage with a signed URL, so neither the size nor the dimensions were checked
+        long bytes = storageService.size(bucket, objectName);
+        if (bytes < 0 || bytes > maxObjectBytes) {
+            logger.warn("Object {} is missing or larger than {} bytes ({}); no variants generated",
+                    objectName, maxObjectBytes, bytes);
+            return;
+        }
+
+        BufferedImage original;
+        try (InputStream in = storageService.openObject(bucket, objectName);
+             ImageInputStream stream = ImageIO.createImageInputStream(in)) {
+            Iterator<ImageReader> readers = stream == null ? Collections.emptyIterator() : ImageIO.getImageReaders(stream);
+            if (!readers.hasNext()) {
+                logger.warn("Unsupported image format for {}; no variants generated", objectName);
+                return;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(stream, true, true);
+                // The header gives the dimensions; reject before read() allocates width * height pixels
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > maxPixels) {
+                    logger.warn("Image {} has {} pixels, more than the limit of {}; no variants generated",
+                            objectName, pixels, maxPixels);
+                    return;
+                }
+                original = reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+
+        // Resize from the largest width down, reusing each result as the source of the next step
+        BufferedImage source = original;
+        List<Integer> descending = new ArrayList<>(variantWidths);
+        Collections.reverse(descending);
+        for (int width : descending) {
+            BufferedImage scaled = source.getWidth() > width ? resize(source, width) : toRgb(source);
+            storageService.writeObject(bucket, variantObjectName(objectName, width), VARIANT_CONTENT_TYPE, encodeJpeg(scaled));
+            source = scaled;
+        }
+
+        transformationRepository.markVariantsReady(transformationId);
+        logger.debug("Generated {} variants for {} ({}x{}) in {} ms", variantWidths.size(), objectName,
+                original.getWidth(), original.getHeight(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Object name to serve for a requested display width: the smallest variant at least that wide,
+     * the largest variant when the request exceeds all of them, or the original if variants are not ready.
+     */
+    public String objectNameForWidth(String objectName, boolean variantsReady, Integer width) {
+        if (!variantsReady || width == null || variantWidths.isEmpty()) {
+            return objectName;
+        }
+        for (int variantWidth : variantWidths) {
+            if (variantWidth >= width) {
+                return variantObjectName(objectName, variantWidth);
+            }
+        }
+        return variantObjectName(objectName, variantWidths.get(variantWidths.size() - 1));
+    }
+
+    public static String variantObjectName(String objectName, int width) {
+        return objectName + "__w" + width + ".jpg";
+    }
+
+    /**
+     * Scales to the target width, halving in steps first so bilinear filtering does not alias.
+     */
+    private static BufferedImage resize(BufferedImage source, int targetWidth) {
+        int targetHeight = Math.max(1, Math.round((float) source.getHeight() * targetWidth / source.getWidth()));
+        BufferedImage current = source;
+        int w = source.getWidth();
+        int h = source.getHeight();
+        do {
+            w = Math.max(targetWidth, w / 2);
+            h = Math.max(targetHeight, h / 2);
+            BufferedImage next = new BufferedImage(w, h, BufferedImage.TYPE_INT_RGB);
+            Graphics2D g = next.createGraphics();
+            try {
+                g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                g.drawImage(current, 0, 0, w, h, null);
+            } finally {
+                g.dispose();
+            }
+            current = next;
+        } while (w != targetWidth || h != targetHeight);
+        return current;
+    }
+
+    /**
+     * JPEG has no alpha channel, so PNG uploads are flattened onto an RGB canvas.
+     */
+    private static BufferedImage toRgb(BufferedImage image) {
+        if (image.getType() == BufferedImage.TYPE_INT_RGB) {
+            return image;
+        }
+        BufferedImage rgb = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = rgb.createGraphics();
+        try {
+            g.drawImage(image, 0, 0, Color.WHITE, null);
+        } finally {
+            g.dispose();
+        }
+        return rgb;
+    }
+
+    private byte[] encodeJpeg(BufferedImage image) throws IOException {
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName("jpeg");
+        if (!writers.hasNext()) {
+            throw new IOException("No JPEG ImageWriter available");
+        }
+        ImageWriter writer = writers.next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(jpegQuality);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream ios = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(ios);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+}
@@ -1,12 +1,18 @@
 package com.zenkaigains.zenkai_gains_server.service;
 
 import com.zenkaigains.zenkai_gains_server.entity.User;
+import com.zenkaigains.zenkai_gains_server.security.VerifiedJwt;
+import com.zenkaigains.zenkai_gains_server.security.VerifiedTokenCache;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.security.Key;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -16,10 +22,36 @@ public class JWTService {
 
     private final Key key;
 
+    // Parsers are immutable and thread-safe, so one instance is shared by every request.
+    private final JwtParser parser;
+
+    // The same cookie arrives on every call for a day, so verified claims are memoized per token.
+    private final VerifiedTokenCache cache;
+    private final Counter cacheHits;
+    private final Counter cacheMisses;
+
     // Read the 'jwt.secret' from application.properties.
-    public JWTService(@Value("${jwt.secret}") String secretString) {
+    public JWTService(@Value("${jwt.secret}") String secretString,
+                      @Value("${jwt.cache.max-size:10000}") int cacheMaxSize,
+                      MeterRegistry meterRegistry) {
         byte[] keyBytes = secretString.getBytes();
         this.key = Keys.hmacShaKeyFor(keyBytes);
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
+
+        this.cache = new VerifiedTokenCache(cacheMaxSize);
+        this.cacheHits = Counter.builder("jwt.cache.requests")
+                .tag("result", "hit")
+                .description("Verified-token cache lookups")
+                .register(meterRegistry);
+        this.cacheMisses = Counter.builder("jwt.cache.requests")
+                .tag("result", "miss")
+                .description("Verified-token cache lookups")
+                .register(meterRegistry);
+        Gauge.builder("jwt.cache.size", cache, VerifiedTokenCache::size)
+                .description("Verified tokens currently cached")
+                .register(meterRegistry);
     }
 
     public String generateToken(User user) {
@@ -34,6 +66,8 @@ public class JWTService {
 
         return Jwts.builder()
                 .setSubject(user.getEmail())  // or user.getUsername()
+                .claim("uid", user.getId())   // Lets controllers skip the findByEmail lookup
+                .claim("username", user.getUsername())
                 .claim("roles", roles)        // Add a custom claim for roles
                 .setIssuedAt(new Date(now))
                 .setExpiration(expiry)
@@ -41,34 +75,64 @@ public class JWTService {
                 .compact();
     }
 
-    public boolean validateToken(String token) {
+    /**
+     * Checks the signature and expiry once and returns the decoded claims,
+     * or null if the token is missing, malformed, expired or forged.
+     * Tokens seen before are answered from the cache until their "exp" claim.
+     */
+    public VerifiedJwt verify(String token) {
+        if (token == null || token.isEmpty()) {
+            return null;
+        }
+        VerifiedJwt cached = cache.get(token);
+        if (cached != null) {
+            cacheHits.increment();
+            return cached;
+        }
+        cacheMisses.increment();
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
-        } catch (JwtException e) {
-            // Optionally log the exception
-            return false;
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            VerifiedJwt verified = new VerifiedJwt(
+                    claims.getSubject(),
+                    claims.get("uid", Integer.class),
+                    claims.get("username", String.class),
+                    rolesOf(claims),
+                    claims.getExpiration()
+            );
+            cache.put(token, verified);
+            return verified;
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
         }
     }
 
+    public boolean validateToken(String token) {
+        return verify(token) != null;
+    }
+
     public String extractUsername(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+        VerifiedJwt verified = verify(token);
+        if (verified == null) {
+            throw new JwtException("Invalid or expired token");
+        }
+        return verified.getSubject();
     }
 
     public List<String> extractRoles(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-        return claims.get("roles", List.class);
+        VerifiedJwt verified = verify(token);
+        if (verified == null) {
+            throw new JwtException("Invalid or expired token");
+        }
+        return verified.getRoles();
+    }
+
+    private List<String> rolesOf(Claims claims) {
+        List<?> raw = claims.get("roles", List.class);
+        if (raw == null) {
+            return Collections.emptyList();
+        }
+        return raw.stream()
+                .map(String::valueOf)
+                .collect(Collectors.toList());
     }
 }
@@ -0,0 +1,71 @@
+package com.zenkaigains.zenkai_gains_server.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * One-off move of the old muscle_group_exercises element collection into the exercises and
+ * muscle_group_listings tables. Every (group, exercise) pair is kept; the legacy table is renamed
+ * to muscle_group_exercises_legacy afterwards, so this does nothing on later starts.
+ *
+ * The renamed table keeps the element collection's foreign key to muscle_groups, which has no
+ * ON DELETE rule and would block deleting any group with legacy rows, so it is dropped.
+ */
+@Component
+public class LegacyCatalogMigration implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(LegacyCatalogMigration.class);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CatalogCache catalogCache;
+
+    @Override
+    @Transactional
+    public void run(ApplicationArguments args) {
+        Integer legacyTables = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.tables " +
+                "WHERE table_schema = DATABASE() AND table_name = 'muscle_group_exercises'", Integer.class);
+        if (legacyTables == null || legacyTables == 0) {
+            // Also covers databases migrated before the foreign key was dropped
+            dropLegacyForeignKeys();
+            return;
+        }
+        // One exercises row per name (its first group becomes the primary one), then one listing per pair.
+        // Both inserts skip existing rows, so a run interrupted before the rename can simply repeat.
+        int exercises = jdbcTemplate.update(
+                "INSERT IGNORE INTO exercises (name, muscle_group_id) " +
+                "SELECT exercise, MIN(muscle_group_id) FROM muscle_group_exercises " +
+                "WHERE exercise IS NOT NULL GROUP BY exercise");
+        int listings = jdbcTemplate.update(
+                "INSERT IGNORE INTO muscle_group_listings (muscle_group_id, exercise_id) " +
+                "SELECT DISTINCT l.muscle_group_id, e.id FROM muscle_group_exercises l " +
+                "JOIN exercises e ON e.name = l.exercise");
+        // Kept for inspection or rollback; RENAME commits implicitly, which is why it runs last
+        jdbcTemplate.execute("RENAME TABLE muscle_group_exercises TO muscle_group_exercises_legacy");
+        dropLegacyForeignKeys();
+        catalogCache.invalidate();
+        logger.info("Migrated {} exercises and {} group listings from muscle_group_exercises", exercises, listings);
+    }
+
+    private void dropLegacyForeignKeys() {
+        List<String> foreignKeys = jdbcTemplate.queryForList(
+                "SELECT constraint_name FROM information_schema.table_constraints " +
+                "WHERE table_schema = DATABASE() AND table_name = 'muscle_group_exercises_legacy' " +
+                "AND constraint_type = 'FOREIGN KEY'", String.class);
+        for (String foreignKey : foreignKeys) {
+            jdbcTemplate.execute("ALTER TABLE muscle_group_exercises_legacy DROP FOREIGN KEY `" + foreignKey + "`");
+            logger.info("Dropped foreign key {} from muscle_group_exercises_legacy", foreignKey);
+        }
+    }
+}
@@ -0,0 +1,258 @@
+package com.zenkaigains.zenkai_gains_server.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URLEncoder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * StorageService that keeps objects on the local filesystem, for offline runs, CI and benchmarks.
+ * Enable with storage.backend=local. Signed URLs point at LocalStorageController and carry an
+ * HMAC-SHA256 signature over method, bucket, object, expiry and content type, mirroring GCS V4 URLs.
+ */
+@Service
+@ConditionalOnProperty(name = "storage.backend", havingValue = "local")
+public class LocalStorageService implements StorageService {
+
+    private static final Logger logger = LoggerFactory.getLogger(LocalStorageService.class);
+
+    private static final long UPLOAD_URL_VALIDITY_SECONDS = TimeUnit.MINUTES.toSeconds(15);
+    private static final long GET_URL_VALIDITY_SECONDS = TimeUnit.DAYS.toSeconds(7);
+
+    private final Path rootDir;
+    private final String publicBaseUrl;
+    private final String profileBucketName;
+    private final String transformationBucketName;
+    private final SecretKeySpec signingKey;
+
+    @Autowired
+    private UploadMetrics uploadMetrics;
+
+    public LocalStorageService(@Value("${storage.local.root-dir:${java.io.tmpdir}/zenkai-storage}") String rootDir,
+                               @Value("${storage.local.public-base-url:http://localhost:8080}") String publicBaseUrl,
+                               @Value("${storage.local.profile-bucket:profile-pictures}") String profileBucketName,
+                               @Value("${storage.local.transformation-bucket:transformations}") String transformationBucketName,
+                               @Value("${storage.local.signing-secret:}") String signingSecret,
+                               @Value("${jwt.secret}") String jwtSecret) throws IOException {
+        // URL signatures must not share a key with session tokens
+        if (signingSecret == null || signingSecret.isBlank()) {
+            throw new IllegalStateException("storage.local.signing-secret must be set when storage.backend=local");
+        }
+        if (signingSecret.equals(jwtSecret)) {
+            throw new IllegalStateException("storage.local.signing-secret must differ from jwt.secret");
+        }
+        this.rootDir = Paths.get(rootDir).toAbsolutePath().normalize();
+        this.publicBaseUrl = publicBaseUrl;
+        this.profileBucketName = profileBucketName;
+        this.transformationBucketName = transformationBucketName;
+        this.signingKey = new SecretKeySpec(signingSecret.getBytes(StandardCharsets.UTF_8), "HmacSHA256");
+        Files.createDirectories(this.rootDir);
+        logger.debug("Local storage initialized at {}", this.rootDir);
+    }
+
+    /**
+     * Moves the uploaded multipart file into the profile bucket and returns a signed GET URL (7 days).
+     */
+    @Override
+    public String uploadFile(MultipartFile file) throws IOException {
+        String fileName = "profile-pictures/" + System.currentTimeMillis() + "_" + file.getOriginalFilename();
+        Path target = resolve(profileBucketName, fileName);
+        Files.createDirectories(target.getParent());
+        long start = System.nanoTime();
+        // For disk-backed multipart parts this is a rename rather than a copy
+        file.transferTo(target);
+        uploadMetrics.record("local", file.getSize(), System.nanoTime() - start);
+        logger.debug("Stored {} ({} bytes)", target, file.getSize());
+        return generateGetUrl(profileBucketName, fileName);
+    }
+
+    @Override
+    public String generateSignedUrl(String bucket, String objectName, String contentType) {
+        return generateUploadUrl(bucket, objectName, contentType);
+    }
+
+    @Override
+    public String generateUploadUrl(String bucket, String objectName, String contentType) {
+        return signedUrl("PUT", bucket, objectName, contentType, UPLOAD_URL_VALIDITY_SECONDS);
+    }
+
+    @Override
+    public String generateGetUrl(String bucket, String objectName) {
+        return signedUrl("GET", bucket, objectName, "", GET_URL_VALIDITY_SECONDS);
+    }
+
+    @Override
+    public void evictGetUrl(String bucket, String objectName) {
+        // HMAC signing is cheap, so GET URLs are not cached here
+    }
+
+    @Override
+    public InputStream openObject(String bucket, String objectName) throws IOException {
+        return Files.newInputStream(resolve(bucket, objectName));
+    }
+
+    @Override
+    public void writeObject(String bucket, String objectName, String contentType, byte[] content) throws IOException {
+        Path target = resolve(bucket, objectName);
+        Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(target.getParent(), ".upload-", ".tmp");
+        Files.write(temp, content);
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    @Override
+    public String getProfileBucketName() {
+        return profileBucketName;
+    }
+
+    @Override
+    public String getTransformationBucketName() {
+        return transformationBucketName;
+    }
+
+    /**
+     * True if the signature matches and the URL has not expired.
+     */
+    public boolean isValidSignature(String method, String bucket, String objectName,
+                                    String contentType, long expires, String signature) {
+        if (signature == null || expires < System.currentTimeMillis() / 1000) {
+            return false;
+        }
+        String expected = sign(method, bucket, objectName, contentType == null ? "" : contentType, expires);
+        return MessageDigest.isEqual(
+                expected.getBytes(StandardCharsets.US_ASCII),
+                signature.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    @Override
+    public long size(String bucket, String objectName) throws IOException {
+        Path path = resolve(bucket, objectName);
+        return Files.isRegularFile(path) ? Files.size(path) : -1;
+    }
+
+    public String probeContentType(String bucket, String objectName) throws IOException {
+        return Files.probeContentType(resolve(bucket, objectName));
+    }
+
+    /**
+     * Streams an object into the target channel with FileChannel.transferTo,
+     * which the OS can serve without copying through user-space buffers.
+     */
+    public long transferTo(String bucket, String objectName, WritableByteChannel target) throws IOException {
+        try (FileChannel channel = FileChannel.open(resolve(bucket, objectName), StandardOpenOption.READ)) {
+            long size = channel.size();
+            long position = 0;
+            while (position < size) {
+                position += channel.transferTo(position, size - position, target);
+            }
+            return size;
+        }
+    }
+
+    /**
+     * Writes an object from the source channel with FileChannel.transferFrom.
+     * Data lands in a temp file first and is moved into place, so readers never see partial objects.
+     *
+     * @throws ObjectTooLargeException once more than maxBytes arrive; nothing is stored
+     */
+    public long receive(String bucket, String objectName, ReadableByteChannel source, long maxBytes) throws IOException {
+        Path target = resolve(bucket, objectName);
+        Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(target.getParent(), ".upload-", ".tmp");
+        long total = 0;
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+            long transferred;
+            // transferFrom returns 0 once the source is exhausted; asking for one byte past the
+            // limit is enough to tell an oversized body from one of exactly maxBytes
+            while ((transferred = channel.transferFrom(source, total, Math.min(1 << 20, maxBytes + 1 - total))) > 0) {
+                total += transferred;
+                if (total > maxBytes) {
+                    throw new ObjectTooLargeException(maxBytes);
+                }
+            }
+        } catch (IOException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        logger.debug("Stored {} ({} bytes)", target, total);
+        return total;
+    }
+
+    /**
+     * Maps bucket/object to a path under the root. Object names are literal on GCS, so only names
+     * whose segments map one-to-one onto directories are accepted: no empty, "." or ".." segments,
+     * no backslashes. Otherwise a name could land under another user's prefix.
+     */
+    private Path resolve(String bucket, String objectName) {
+        checkObjectName(objectName);
+        Path bucketDir = rootDir.resolve(bucket);
+        Path path = bucketDir.resolve(objectName).normalize();
+        if (!path.startsWith(bucketDir) || !bucketDir.relativize(path).toString().replace('\\', '/').equals(objectName)) {
+            throw new IllegalArgumentException("Invalid object name: " + objectName);
+        }
+        return path;
+    }
+
+    private static void checkObjectName(String objectName) {
+        if (objectName == null || objectName.isEmpty() || objectName.indexOf('\\') >= 0) {
+            throw new IllegalArgumentException("Invalid object name: " + objectName);
+        }
+        for (String segment : objectName.split("/", -1)) {
+            if (segment.isEmpty() || segment.equals(".") || segment.equals("..")) {
+                throw new IllegalArgumentException("Invalid object name: " + objectName);
+            }
+        }
+    }
+
+    private String signedUrl(String method, String bucket, String objectName, String contentType, long validitySeconds) {
+        // Never hand out a URL for a name the controller would refuse to store
+        checkObjectName(objectName);
+        long expires = System.currentTimeMillis() / 1000 + validitySeconds;
+        String signature = sign(method, bucket, objectName, contentType, expires);
+        return publicBaseUrl + "/local-storage/" + encode(bucket)
+                + "?object=" + encode(objectName)
+                + "&method=" + method
+                + "&contentType=" + encode(contentType)
+                + "&expires=" + expires
+                + "&signature=" + signature;
+    }
+
+    private String sign(String method, String bucket, String objectName, String contentType, long expires) {
+        String payload = method + "\n" + bucket + "\n" + objectName + "\n" + contentType + "\n" + expires;
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(signingKey);
+            byte[] digest = mac.doFinal(payload.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 unavailable", e);
+        }
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
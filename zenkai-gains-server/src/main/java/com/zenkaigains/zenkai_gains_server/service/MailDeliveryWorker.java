@@ -0,0 +1,177 @@
+package com.zenkaigains.zenkai_gains_server.service;
+
+import com.zenkaigains.zenkai_gains_server.entity.OutboundMail;
+import com.zenkaigains.zenkai_gains_server.entity.OutboundMailStatus;
+import com.zenkaigains.zenkai_gains_server.repository.OutboundMailRepository;
+import jakarta.mail.internet.MimeMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Drains the outbound_mail table. Each poll claims a batch of due rows, splits it into
+ * chunks and hands every chunk to the mail sender pool, where it goes out over a single
+ * SMTP connection (JavaMailSender.send(MimeMessage...) connects once per call).
+ * Failed messages are retried with exponential backoff until mail.queue.max-attempts.
+ */
+@Component
+public class MailDeliveryWorker {
+
+    private static final Logger logger = LoggerFactory.getLogger(MailDeliveryWorker.class);
+
+    private static final int MAX_ERROR_LENGTH = 1024;
+
+    @Autowired
+    private OutboundMailRepository outboundMailRepository;
+
+    @Autowired
+    private MailService mailService;
+
+    @Autowired
+    private JavaMailSender mailSender;
+
+    @Autowired
+    @Qualifier("mailSenderExecutor")
+    private Executor mailSenderExecutor;
+
+    @Value("${mail.queue.batch-size:50}")
+    private int batchSize;
+
+    @Value("${mail.queue.messages-per-connection:20}")
+    private int messagesPerConnection;
+
+    @Value("${mail.queue.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${mail.queue.initial-backoff-seconds:30}")
+    private long initialBackoffSeconds;
+
+    @Value("${mail.queue.max-backoff-seconds:3600}")
+    private long maxBackoffSeconds;
+
+    @Value("${mail.queue.stale-claim-minutes:10}")
+    private long staleClaimMinutes;
+
+    /**
+     * Runs with a fixed delay, so a poll never overlaps the previous one on this instance.
+     * Claims are conditional updates, which keeps several instances from sending the same row.
+     */
+    @Scheduled(fixedDelayString = "${mail.queue.poll-interval-ms:1000}")
+    public void drainQueue() {
+        LocalDateTime now = LocalDateTime.now();
+        int released = outboundMailRepository.releaseStale(now.minusMinutes(staleClaimMinutes));
+        if (released > 0) {
+            logger.warn("Re-queued {} emails left in SENDING by a previous worker", released);
+        }
+
+        List<OutboundMail> claimed = new ArrayList<>();
+        for (OutboundMail mail : outboundMailRepository.findDue(OutboundMailStatus.PENDING, now, PageRequest.of(0, batchSize))) {
+            if (outboundMailRepository.claim(mail.getId(), now) == 1) {
+                claimed.add(mail);
+            }
+        }
+        if (claimed.isEmpty()) {
+            return;
+        }
+
+        List<CompletableFuture<Void>> chunks = new ArrayList<>();
+        for (int i = 0; i < claimed.size(); i += messagesPerConnection) {
+            List<OutboundMail> chunk = claimed.subList(i, Math.min(i + messagesPerConnection, claimed.size()));
+            chunks.add(CompletableFuture.runAsync(() -> deliver(chunk), mailSenderExecutor));
+        }
+        CompletableFuture.allOf(chunks.toArray(new CompletableFuture[0])).join();
+        logger.debug("Processed {} queued emails in {} connections", claimed.size(), chunks.size());
+    }
+
+    /**
+     * Sends one chunk over a single connection and records the outcome of every row.
+     */
+    private void deliver(List<OutboundMail> chunk) {
+        Map<MimeMessage, OutboundMail> messages = new IdentityHashMap<>();
+        for (OutboundMail mail : chunk) {
+            try {
+                messages.put(mailService.composeMessage(mail), mail);
+            } catch (Exception e) {
+                // Rendering will not succeed on a retry either
+                logger.error("Could not compose email {} to {}", mail.getId(), mail.getRecipient(), e);
+                markFailed(mail, e, true);
+            }
+        }
+
+        Map<Object, Exception> failures = Collections.emptyMap();
+        if (!messages.isEmpty()) {
+            try {
+                mailSender.send(messages.keySet().toArray(new MimeMessage[0]));
+            } catch (MailSendException e) {
+                failures = e.getFailedMessages();
+                if (failures.isEmpty()) {
+                    // Connection-level failure: nothing was sent
+                    failures = new IdentityHashMap<>();
+                    for (MimeMessage message : messages.keySet()) {
+                        failures.put(message, e);
+                    }
+                }
+            } catch (MailException e) {
+                failures = new IdentityHashMap<>();
+                for (MimeMessage message : messages.keySet()) {
+                    failures.put(message, e);
+                }
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        for (Map.Entry<MimeMessage, OutboundMail> entry : messages.entrySet()) {
+            OutboundMail mail = entry.getValue();
+            Exception failure = failures.get(entry.getKey());
+            if (failure == null) {
+                mail.setStatus(OutboundMailStatus.SENT);
+                mail.setSentAt(now);
+                mail.setAttempts(mail.getAttempts() + 1);
+                mail.setLastError(null);
+            } else {
+                logger.warn("Email {} to {} failed (attempt {}): {}",
+                        mail.getId(), mail.getRecipient(), mail.getAttempts() + 1, failure.getMessage());
+                markFailed(mail, failure, false);
+            }
+        }
+        outboundMailRepository.saveAll(chunk);
+    }
+
+    /**
+     * Schedules the next attempt with exponential backoff and jitter, or gives up for good.
+     */
+    private void markFailed(OutboundMail mail, Exception error, boolean permanent) {
+        int attempts = mail.getAttempts() + 1;
+        mail.setAttempts(attempts);
+        String message = String.valueOf(error.getMessage());
+        mail.setLastError(message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message);
+
+        if (permanent || attempts >= maxAttempts) {
+            mail.setStatus(OutboundMailStatus.FAILED);
+            logger.error("Giving up on email {} to {} after {} attempts", mail.getId(), mail.getRecipient(), attempts);
+            return;
+        }
+        long backoff = Math.min(maxBackoffSeconds, initialBackoffSeconds << Math.min(attempts - 1, 20));
+        long jitter = ThreadLocalRandom.current().nextLong(backoff / 4 + 1);
+        mail.setStatus(OutboundMailStatus.PENDING);
+        mail.setNextAttemptAt(LocalDateTime.now().plusSeconds(backoff + jitter));
+    }
+}
@@ -1,166 +1,173 @@
 package com.zenkaigains.zenkai_gains_server.service;
 
+import com.zenkaigains.zenkai_gains_server.entity.OutboundMail;
+import com.zenkaigains.zenkai_gains_server.entity.OutboundMailType;
+import com.zenkaigains.zenkai_gains_server.repository.OutboundMailRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import jakarta.activation.DataHandler;
+import jakarta.annotation.PostConstruct;
+import jakarta.mail.Message;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Part;
+import jakarta.mail.internet.InternetAddress;
+import jakarta.mail.internet.MimeBodyPart;
+import jakarta.mail.internet.MimeMessage;
+import jakarta.mail.internet.MimeMultipart;
+import jakarta.mail.internet.PreencodedMimeBodyPart;
+import jakarta.mail.util.ByteArrayDataSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.ClassPathResource;
-import org.springframework.stereotype.Service;
-import jakarta.mail.MessagingException;
-import jakarta.mail.internet.MimeMessage;
 import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
-
+import org.springframework.stereotype.Service;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Year;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Sending an email only inserts a row into outbound_mail; MailDeliveryWorker renders
+ * and delivers queued rows in the background, so callers never wait on SMTP.
+ */
 @Service
 public class MailService {
 
+    private static final Logger logger = LoggerFactory.getLogger(MailService.class);
+
+    private static final String TEMPLATE_PATH = "templates/mail/action-email.html";
+    private static final String LOGO_PATH = "images/logo.png";
+    private static final String LOGO_CONTENT_ID = "<logoImage>";
+
+    // Rendered bodies are ~4 KB; buffers that grew past this are not kept around
+    private static final int MAX_RETAINED_BUFFER = 64 * 1024;
+    private static final ThreadLocal<StringBuilder> RENDER_BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(8192));
+
     @Autowired
     private JavaMailSender mailSender;
 
+    @Autowired
+    private OutboundMailRepository outboundMailRepository;
+
     @Value("${spring.mail.username}")
     private String fromEmail;
 
+    private MailTemplate resetTemplate;
+    private MailTemplate verificationTemplate;
+    // Logo bytes base64-encoded once; every message wraps them in a pre-encoded part
+    private DataHandler logoDataHandler;
 
     /**
-     * Sends a password reset email with an inline image (logo).
+     * Compiles the email templates and encodes the logo once at startup.
      */
-    public void sendResetLink(String toEmail, String resetLink) {
-        try {
-            // 'true' in the constructor to allow multipart (for inline images)
-            MimeMessage mimeMessage = mailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, true, "UTF-8");
-
-            helper.setFrom(fromEmail);
-            helper.setTo(toEmail);
-            helper.setSubject("Reset Your ZenkaiGains Password");
-
-            // Build your HTML with ZenkaiGains styling
-            String htmlContent = "<html>" +
-                    "  <head>" +
-                    "    <meta name=\"viewport\" content=\"width=device-width, initial-scale=1.0\">" +
-                    "    <meta http-equiv=\"Content-Type\" content=\"text/html; charset=UTF-8\">" +
-                    "    <style>" +
-                    "      @import url('https://fonts.googleapis.com/css2?family=Poppins:wght@400;600;700&display=swap');" +
-                    "    </style>" +
-                    "  </head>" +
-                    "  <body style=\"font-family: 'Poppins', Helvetica, Arial, sans-serif; margin: 0; padding: 0; background-color: #0a0a0a;\">" +
-                    "    <table role=\"presentation\" style=\"width: 100%; border-collapse: collapse; background-color: #0a0a0a;\">" +
-                    "      <tr>" +
-                    "        <td align=\"center\" style=\"padding: 40px 0;\">" +
-                    "          <table role=\"presentation\" style=\"width: 600px; max-width: 90%; border-collapse: collapse; background-color: #1a1a1a; border-radius: 8px; box-shadow: 0 4px 10px rgba(255, 0, 0, 0.2);\">" +
-                    "            <tr>" +
-                    "              <td style=\"padding: 0;\">" +
-                    "                <div style=\"height: 6px; background: linear-gradient(to right, #ff0000, #cc0000); border-radius: 8px 8px 0 0;\"></div>" +
-                    "              </td>" +
-                    "            </tr>" +
-                    "            <tr>" +
-                    "              <td style=\"padding: 30px 40px; text-align: center;\">" +
-                    "                <img src=\"cid:logoImage\" alt=\"ZenkaiGains Logo\" style=\"max-width: 150px; margin-bottom: 20px;\">" +
-                    "                <h1 style=\"color: #ffffff; font-size: 28px; font-weight: 700; margin: 0 0 15px 0; text-transform: uppercase;\">Power Up Your Account</h1>" +
-                    "                <div style=\"height: 4px; width: 60px; background: linear-gradient(to right, #ff0000, #cc0000); margin: 0 auto 25px auto;\"></div>" +
-                    "                <p style=\"color: #cccccc; font-size: 16px; line-height: 24px; margin: 0 0 25px 0;\">We received a request to reset your password. Click the button below to create a new password and continue your training journey:</p>" +
-                    "                <div style=\"margin: 30px 0;\">" +
-                    "                  <a href=\"" + resetLink + "\" style=\"display: inline-block; background: linear-gradient(to right, #ff0000, #cc0000); color: white; font-weight: 600; text-decoration: none; padding: 12px 30px; border-radius: 4px; font-size: 16px; text-transform: uppercase;\">Reset Password</a>" +
-                    "                </div>" +
-                    "                <p style=\"color: #999999; font-size: 14px; line-height: 22px; margin: 0 0 15px 0;\">This link will expire in 30 minutes. If you didn't request a password reset, you can safely ignore this email.</p>" +
-                    "                <hr style=\"border: 0; border-top: 1px solid #333333; margin: 30px 0;\">" +
-                    "                <p style=\"color: #777777; font-size: 13px; line-height: 20px; margin: 0;\">If the button above doesn't work, copy and paste this link into your browser:</p>" +
-                    "                <p style=\"color: #999999; font-size: 13px; line-height: 20px; margin: 5px 0 0 0; word-break: break-all;\"><a href=\"" + resetLink + "\" style=\"color: #ff3333; text-decoration: none;\">" + resetLink + "</a></p>" +
-                    "              </td>" +
-                    "            </tr>" +
-                    "            <tr>" +
-                    "              <td style=\"background-color: #151515; padding: 20px; text-align: center; border-radius: 0 0 8px 8px;\">" +
-                    "                <p style=\"color: #777777; font-size: 13px; margin: 0;\">© " + java.time.Year.now().getValue() + " ZenkaiGains. All rights reserved.</p>" +
-                    "                <p style=\"color: #666666; font-size: 12px; margin: 10px 0 0 0;\">Plus Ultra!</p>" +
-                    "              </td>" +
-                    "            </tr>" +
-                    "          </table>" +
-                    "        </td>" +
-                    "      </tr>" +
-                    "    </table>" +
-                    "  </body>" +
-                    "</html>";
-
-            // Enable HTML
-            helper.setText(htmlContent, true);
-
-            // Add inline image from classpath (resources/images/logo.png)
-            ClassPathResource logo = new ClassPathResource("images/logo.png");
-            helper.addInline("logoImage", logo);
-
-            // Finally, send
-            mailSender.send(mimeMessage);
-        } catch (MessagingException e) {
-            System.err.println("Error sending reset link email: " + e.getMessage());
+    @PostConstruct
+    void init() throws IOException {
+        String source;
+        try (InputStream in = new ClassPathResource(TEMPLATE_PATH).getInputStream()) {
+            source = StreamUtils.copyToString(in, StandardCharsets.UTF_8);
         }
+        MailTemplate layout = MailTemplate.compile(source);
+
+        Map<String, String> reset = new HashMap<>();
+        reset.put("heading", "Power Up Your Account");
+        reset.put("intro", "We received a request to reset your password. Click the button below to create a new password and continue your training journey:");
+        reset.put("buttonLabel", "Reset Password");
+        reset.put("notice", "This link will expire in 30 minutes. If you didn't request a password reset, you can safely ignore this email.");
+        resetTemplate = layout.bind(reset);
+
+        Map<String, String> verification = new HashMap<>();
+        verification.put("heading", "Begin Your Hero's Journey");
+        verification.put("intro", "Thank you for joining ZenkaiGains! To complete your registration and start training like your favorite anime heroes, please verify your email address:");
+        verification.put("buttonLabel", "Activate Account");
+        verification.put("notice", "This verification link will expire in 24 hours. If you did not create an account with us, you can safely ignore this email.");
+        verificationTemplate = layout.bind(verification);
+
+        byte[] logo;
+        try (InputStream in = new ClassPathResource(LOGO_PATH).getInputStream()) {
+            logo = StreamUtils.copyToByteArray(in);
+        }
+        // MIME encoder wraps at 76 characters with CRLF, as required for base64 bodies
+        byte[] encodedLogo = Base64.getMimeEncoder().encode(logo);
+        logoDataHandler = new DataHandler(new ByteArrayDataSource(encodedLogo, "image/png"));
+        logger.debug("Compiled mail templates; logo is {} bytes ({} encoded)", logo.length, encodedLogo.length);
     }
 
+
     /**
-     * Sends a verification email with an inline image (logo).
+     * Queues a password reset email.
+     */
+    public void sendResetLink(String toEmail, String resetLink) {
+        enqueue(OutboundMailType.PASSWORD_RESET, toEmail, resetLink);
+    }
+
+    /**
+     * Queues a verification email.
      */
     public void sendVerificationEmail(String toEmail, String verifyLink) {
-        try {
-            // 'true' for multipart
-            MimeMessage mimeMessage = mailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, true, "UTF-8");
-
-            helper.setFrom(fromEmail);
-            helper.setTo(toEmail);
-            helper.setSubject("Verify Your ZenkaiGains Account");
-
-            String htmlContent = "<html>" +
-                    "  <head>" +
-                    "    <meta name=\"viewport\" content=\"width=device-width, initial-scale=1.0\">" +
-                    "    <meta http-equiv=\"Content-Type\" content=\"text/html; charset=UTF-8\">" +
-                    "    <style>" +
-                    "      @import url('https://fonts.googleapis.com/css2?family=Poppins:wght@400;600;700&display=swap');" +
-                    "    </style>" +
-                    "  </head>" +
-                    "  <body style=\"font-family: 'Poppins', Helvetica, Arial, sans-serif; margin: 0; padding: 0; background-color: #0a0a0a;\">" +
-                    "    <table role=\"presentation\" style=\"width: 100%; border-collapse: collapse; background-color: #0a0a0a;\">" +
-                    "      <tr>" +
-                    "        <td align=\"center\" style=\"padding: 40px 0;\">" +
-                    "          <table role=\"presentation\" style=\"width: 600px; max-width: 90%; border-collapse: collapse; background-color: #1a1a1a; border-radius: 8px; box-shadow: 0 4px 10px rgba(255, 0, 0, 0.2);\">" +
-                    "            <tr>" +
-                    "              <td style=\"padding: 0;\">" +
-                    "                <div style=\"height: 6px; background: linear-gradient(to right, #ff0000, #cc0000); border-radius: 8px 8px 0 0;\"></div>" +
-                    "              </td>" +
-                    "            </tr>" +
-                    "            <tr>" +
-                    "              <td style=\"padding: 30px 40px; text-align: center;\">" +
-                    "                <img src=\"cid:logoImage\" alt=\"ZenkaiGains Logo\" style=\"max-width: 150px; margin-bottom: 20px;\">" +
-                    "                <h1 style=\"color: #ffffff; font-size: 28px; font-weight: 700; margin: 0 0 15px 0; text-transform: uppercase;\">Begin Your Hero's Journey</h1>" +
-                    "                <div style=\"height: 4px; width: 60px; background: linear-gradient(to right, #ff0000, #cc0000); margin: 0 auto 25px auto;\"></div>" +
-                    "                <p style=\"color: #cccccc; font-size: 16px; line-height: 24px; margin: 0 0 25px 0;\">Thank you for joining ZenkaiGains! To complete your registration and start training like your favorite anime heroes, please verify your email address:</p>" +
-                    "                <div style=\"margin: 30px 0;\">" +
-                    "                  <a href=\"" + verifyLink + "\" style=\"display: inline-block; background: linear-gradient(to right, #ff0000, #cc0000); color: white; font-weight: 600; text-decoration: none; padding: 12px 30px; border-radius: 4px; font-size: 16px; text-transform: uppercase;\">Activate Account</a>" +
-                    "                </div>" +
-                    "                <p style=\"color: #999999; font-size: 14px; line-height: 22px; margin: 0 0 15px 0;\">This verification link will expire in 24 hours. If you did not create an account with us, you can safely ignore this email.</p>" +
-                    "                <hr style=\"border: 0; border-top: 1px solid #333333; margin: 30px 0;\">" +
-                    "                <p style=\"color: #777777; font-size: 13px; line-height: 20px; margin: 0;\">If the button above doesn't work, copy and paste this link into your browser:</p>" +
-                    "                <p style=\"color: #999999; font-size: 13px; line-height: 20px; margin: 5px 0 0 0; word-break: break-all;\"><a href=\"" + verifyLink + "\" style=\"color: #ff3333; text-decoration: none;\">" + verifyLink + "</a></p>" +
-                    "              </td>" +
-                    "            </tr>" +
-                    "            <tr>" +
-                    "              <td style=\"background-color: #151515; padding: 20px; text-align: center; border-radius: 0 0 8px 8px;\">" +
-                    "                <p style=\"color: #777777; font-size: 13px; margin: 0;\">© " + java.time.Year.now().getValue() + " ZenkaiGains. All rights reserved.</p>" +
-                    "                <p style=\"color: #666666; font-size: 12px; margin: 10px 0 0 0;\">Plus Ultra!</p>" +
-                    "              </td>" +
-                    "            </tr>" +
-                    "          </table>" +
-                    "        </td>" +
-                    "      </tr>" +
-                    "    </table>" +
-                    "  </body>" +
-                    "</html>";
-
-            helper.setText(htmlContent, true);
-
-            // Add inline image from classpath (resources/images/logo.png)
-            ClassPathResource logo = new ClassPathResource("images/logo.png");
-            helper.addInline("logoImage", logo);
-
-            mailSender.send(mimeMessage);
-        } catch (MessagingException e) {
-            System.err.println("Error sending verification email: " + e.getMessage());
+        enqueue(OutboundMailType.VERIFICATION, toEmail, verifyLink);
+    }
+
+    /**
+     * Renders a queued row into a ready-to-send message.
+     */
+    public MimeMessage composeMessage(OutboundMail mail) throws MessagingException {
+        switch (mail.getMailType()) {
+            case PASSWORD_RESET:
+                return buildMessage(mail.getRecipient(), "Reset Your ZenkaiGains Password", resetTemplate, mail.getLink());
+            case VERIFICATION:
+                return buildMessage(mail.getRecipient(), "Verify Your ZenkaiGains Account", verificationTemplate, mail.getLink());
+            default:
+                throw new IllegalArgumentException("Unknown mail type: " + mail.getMailType());
+        }
+    }
+
+    private void enqueue(OutboundMailType type, String toEmail, String link) {
+        OutboundMail mail = outboundMailRepository.save(new OutboundMail(type, toEmail, link));
+        logger.debug("Queued {} email {} for {}", type, mail.getId(), toEmail);
+    }
+
+    /**
+     * Builds a multipart/related message: the rendered HTML plus the logo as an inline part.
+     */
+    private MimeMessage buildMessage(String toEmail, String subject, MailTemplate template, String link)
+            throws MessagingException {
+        MimeMessage mimeMessage = mailSender.createMimeMessage();
+        mimeMessage.setFrom(new InternetAddress(fromEmail));
+        mimeMessage.setRecipient(Message.RecipientType.TO, new InternetAddress(toEmail));
+        mimeMessage.setSubject(subject, "UTF-8");
+
+        MimeBodyPart html = new MimeBodyPart();
+        html.setText(render(template, link), "UTF-8", "html");
+
+        // Pre-encoded part: the shared base64 bytes are written out as-is, never re-encoded
+        PreencodedMimeBodyPart logo = new PreencodedMimeBodyPart("base64");
+        logo.setDataHandler(logoDataHandler);
+        logo.setContentID(LOGO_CONTENT_ID);
+        logo.setDisposition(Part.INLINE);
+
+        MimeMultipart related = new MimeMultipart("related");
+        related.addBodyPart(html);
+        related.addBodyPart(logo);
+        mimeMessage.setContent(related);
+        return mimeMessage;
+    }
+
+    private static String render(MailTemplate template, String link) {
+        StringBuilder buffer = RENDER_BUFFER.get();
+        buffer.setLength(0);
+        Map<String, String> values = new HashMap<>(4);
+        values.put("link", link);
+        values.put("year", String.valueOf(Year.now().getValue()));
+        template.render(values, buffer);
+        String html = buffer.toString();
+        if (buffer.capacity() > MAX_RETAINED_BUFFER) {
+            RENDER_BUFFER.remove();
         }
+        return html;
     }
-}
\ No newline at end of file
+}
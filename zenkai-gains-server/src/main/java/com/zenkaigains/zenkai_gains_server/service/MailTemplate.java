@@ -0,0 +1,85 @@
+package com.zenkaigains.zenkai_gains_server.service;
+
+import org.springframework.web.util.HtmlUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Minimal "{{name}}" template compiled once into literal and placeholder segments,
+ * so rendering is a single pass of appends with no parsing or regex work per email.
+ */
+public final class MailTemplate {
+
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+
+    // Even indexes are literals, odd indexes are placeholder names
+    private final List<String> segments;
+    private final int literalLength;
+
+    private MailTemplate(List<String> segments) {
+        this.segments = Collections.unmodifiableList(segments);
+        int length = 0;
+        for (int i = 0; i < segments.size(); i += 2) {
+            length += segments.get(i).length();
+        }
+        this.literalLength = length;
+    }
+
+    public static MailTemplate compile(String source) {
+        List<String> segments = new ArrayList<>();
+        int pos = 0;
+        while (true) {
+            int start = source.indexOf(OPEN, pos);
+            int end = start < 0 ? -1 : source.indexOf(CLOSE, start + OPEN.length());
+            if (end < 0) {
+                segments.add(source.substring(pos));
+                return new MailTemplate(segments);
+            }
+            segments.add(source.substring(pos, start));
+            segments.add(source.substring(start + OPEN.length(), end).trim());
+            pos = end + CLOSE.length();
+        }
+    }
+
+    /**
+     * Returns a template with the given placeholders replaced by trusted, pre-escaped HTML.
+     * Used at startup to fold per-email-type constants into the literals.
+     */
+    public MailTemplate bind(Map<String, String> html) {
+        List<String> merged = new ArrayList<>();
+        StringBuilder literal = new StringBuilder(segments.get(0));
+        for (int i = 1; i < segments.size(); i += 2) {
+            String value = html.get(segments.get(i));
+            if (value != null) {
+                literal.append(value);
+            } else {
+                merged.add(literal.toString());
+                merged.add(segments.get(i));
+                literal.setLength(0);
+            }
+            literal.append(segments.get(i + 1));
+        }
+        merged.add(literal.toString());
+        return new MailTemplate(merged);
+    }
+
+    /**
+     * Appends the rendered template to out, HTML-escaping every value.
+     * Unknown placeholders render as empty strings.
+     */
+    public void render(Map<String, String> values, StringBuilder out) {
+        out.ensureCapacity(out.length() + literalLength + 256);
+        out.append(segments.get(0));
+        for (int i = 1; i < segments.size(); i += 2) {
+            String value = values.get(segments.get(i));
+            if (value != null) {
+                out.append(HtmlUtils.htmlEscape(value));
+            }
+            out.append(segments.get(i + 1));
+        }
+    }
+}
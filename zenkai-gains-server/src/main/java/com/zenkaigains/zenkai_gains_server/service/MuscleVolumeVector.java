@@ -0,0 +1,113 @@
+package com.zenkaigains.zenkai_gains_server.service;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Weekly sets per muscle, sorted by muscle id, packed as 12 bytes per muscle
+ * (int muscle id, int muscle group id, float sets) for Split.volumeVector.
+ */
+public final class MuscleVolumeVector {
+
+    private static final int ENTRY_BYTES = 12;
+
+    public static final MuscleVolumeVector EMPTY = new MuscleVolumeVector(new int[0], new int[0], new float[0]);
+
+    private final int[] muscleIds;
+    private final int[] muscleGroupIds;
+    private final float[] sets;
+
+    private MuscleVolumeVector(int[] muscleIds, int[] muscleGroupIds, float[] sets) {
+        this.muscleIds = muscleIds;
+        this.muscleGroupIds = muscleGroupIds;
+        this.sets = sets;
+    }
+
+    public static MuscleVolumeVector decode(byte[] bytes) {
+        if (bytes == null || bytes.length == 0) {
+            return EMPTY;
+        }
+        int size = bytes.length / ENTRY_BYTES;
+        int[] muscleIds = new int[size];
+        int[] muscleGroupIds = new int[size];
+        float[] sets = new float[size];
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        for (int i = 0; i < size; i++) {
+            muscleIds[i] = buffer.getInt();
+            muscleGroupIds[i] = buffer.getInt();
+            sets[i] = buffer.getFloat();
+        }
+        return new MuscleVolumeVector(muscleIds, muscleGroupIds, sets);
+    }
+
+    public byte[] encode() {
+        ByteBuffer buffer = ByteBuffer.allocate(muscleIds.length * ENTRY_BYTES);
+        for (int i = 0; i < muscleIds.length; i++) {
+            buffer.putInt(muscleIds[i]).putInt(muscleGroupIds[i]).putFloat(sets[i]);
+        }
+        return buffer.array();
+    }
+
+    public int size() {
+        return muscleIds.length;
+    }
+
+    public int muscleIdAt(int index) {
+        return muscleIds[index];
+    }
+
+    public int muscleGroupIdAt(int index) {
+        return muscleGroupIds[index];
+    }
+
+    public float setsAt(int index) {
+        return sets[index];
+    }
+
+    /**
+     * Weekly sets for the muscle, or 0 if the split does not train it.
+     */
+    public float setsFor(long muscleId) {
+        int index = Arrays.binarySearch(muscleIds, (int) muscleId);
+        return index >= 0 ? sets[index] : 0f;
+    }
+
+    public float totalSets() {
+        float total = 0;
+        for (float s : sets) {
+            total += s;
+        }
+        return total;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static final class Builder {
+        // muscleId -> { muscleGroupId, sets }
+        private final TreeMap<Integer, double[]> entries = new TreeMap<>();
+
+        public Builder add(long muscleId, long muscleGroupId, double weeklySets) {
+            double[] entry = entries.computeIfAbsent(Math.toIntExact(muscleId), k -> new double[]{muscleGroupId, 0});
+            entry[1] += weeklySets;
+            return this;
+        }
+
+        public MuscleVolumeVector build() {
+            int[] muscleIds = new int[entries.size()];
+            int[] muscleGroupIds = new int[entries.size()];
+            float[] sets = new float[entries.size()];
+            int i = 0;
+            for (Map.Entry<Integer, double[]> entry : entries.entrySet()) {
+                muscleIds[i] = entry.getKey();
+                muscleGroupIds[i] = (int) entry.getValue()[0];
+                sets[i] = (float) entry.getValue()[1];
+                i++;
+            }
+            return new MuscleVolumeVector(muscleIds, muscleGroupIds, sets);
+        }
+    }
+}
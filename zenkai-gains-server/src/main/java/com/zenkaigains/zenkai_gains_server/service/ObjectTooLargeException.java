@@ -0,0 +1,13 @@
+package com.zenkaigains.zenkai_gains_server.service;
+
+import java.io.IOException;
+
+/**
+ * Thrown when an object being stored exceeds the configured size limit; callers answer 413.
+ */
+public class ObjectTooLargeException extends IOException {
+
+    public ObjectTooLargeException(long maxBytes) {
+        super("Object exceeds the limit of " + maxBytes + " bytes");
+    }
+}
@@ -0,0 +1,11 @@
+package com.zenkaigains.zenkai_gains_server.service;
+
+/**
+ * Thrown when the password hashing pool and its queue are full; callers answer 503.
+ */
+public class PasswordHashingBusyException extends RuntimeException {
+
+    public PasswordHashingBusyException(Throwable cause) {
+        super("Password hashing capacity exhausted", cause);
+    }
+}
@@ -0,0 +1,282 @@
+package com.zenkaigains.zenkai_gains_server.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory power level ranking: an order-statistic treap (each node knows its subtree size)
+ * ordered by power level descending, then user id ascending, plus a map from user id to node.
+ * Updates, rank of a user and the start of a top-N page are O(log n) expected; a page of N
+ * entries costs O(log n + N). Ties are broken by user id, so every user has a distinct rank.
+ *
+ * Readers share a read lock; updates and reloads take the write lock.
+ */
+public class PowerLeaderboard {
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Integer, Node> byUser = new HashMap<>();
+    // Only used under the write lock
+    private final SplittableRandom random = new SplittableRandom();
+    private Node root;
+
+    /**
+     * Replaces the whole ranking.
+     */
+    public void load(List<Standing> standings) {
+        lock.writeLock().lock();
+        try {
+            root = null;
+            byUser.clear();
+            for (Standing standing : standings) {
+                Node node = new Node(standing.getUserId(), standing.getPowerLevel(),
+                        standing.getCompletedWorkouts(), random.nextInt());
+                byUser.put(node.userId, node);
+                root = insert(root, node);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds the deltas to the user's totals, entering the user with zero totals if needed.
+     */
+    public void add(int userId, long powerDelta, int workoutsDelta) {
+        lock.writeLock().lock();
+        try {
+            Node node = byUser.get(userId);
+            if (node == null) {
+                node = new Node(userId, 0, 0, random.nextInt());
+                byUser.put(userId, node);
+            } else {
+                root = erase(root, node);
+                node.left = null;
+                node.right = null;
+                node.size = 1;
+            }
+            node.powerLevel += powerDelta;
+            node.completedWorkouts += workoutsDelta;
+            root = insert(root, node);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Takes the user out of the ranking; everyone below moves up one rank. False if the user was not in it.
+     */
+    public boolean remove(int userId) {
+        lock.writeLock().lock();
+        try {
+            Node node = byUser.remove(userId);
+            if (node == null) {
+                return false;
+            }
+            root = erase(root, node);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * The user's totals and rank (1 = highest), or null if the user has none.
+     */
+    public Standing get(int userId) {
+        lock.readLock().lock();
+        try {
+            Node node = byUser.get(userId);
+            return node == null ? null : new Standing(node.userId, node.powerLevel, node.completedWorkouts, rank(node));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Up to limit standings starting at the given 0-based offset, highest first.
+     */
+    public List<Standing> page(int offset, int limit) {
+        lock.readLock().lock();
+        try {
+            List<Standing> result = new ArrayList<>(Math.max(0, Math.min(limit, size(root) - offset)));
+            collect(root, offset, 0, limit, result);
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size(root);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // In-order walk that skips whole subtrees before the offset; before counts the nodes ranked above t's subtree
+    private static void collect(Node t, int offset, int before, int limit, List<Standing> out) {
+        if (t == null || out.size() >= limit) {
+            return;
+        }
+        int leftSize = size(t.left);
+        if (offset < leftSize) {
+            collect(t.left, offset, before, limit, out);
+        }
+        if (offset <= leftSize && out.size() < limit) {
+            out.add(new Standing(t.userId, t.powerLevel, t.completedWorkouts, before + leftSize + 1));
+        }
+        collect(t.right, Math.max(0, offset - leftSize - 1), before + leftSize + 1, limit, out);
+    }
+
+    private int rank(Node target) {
+        int before = 0;
+        Node t = root;
+        while (t != target) {
+            if (ranksAbove(target, t)) {
+                t = t.left;
+            } else {
+                before += size(t.left) + 1;
+                t = t.right;
+            }
+        }
+        return before + size(t.left) + 1;
+    }
+
+    private static Node insert(Node t, Node node) {
+        if (t == null) {
+            return node;
+        }
+        if (node.priority > t.priority) {
+            Node[] parts = split(t, node);
+            node.left = parts[0];
+            node.right = parts[1];
+            update(node);
+            return node;
+        }
+        if (ranksAbove(node, t)) {
+            t.left = insert(t.left, node);
+        } else {
+            t.right = insert(t.right, node);
+        }
+        update(t);
+        return t;
+    }
+
+    private static Node erase(Node t, Node target) {
+        if (t == target) {
+            return merge(t.left, t.right);
+        }
+        if (ranksAbove(target, t)) {
+            t.left = erase(t.left, target);
+        } else {
+            t.right = erase(t.right, target);
+        }
+        update(t);
+        return t;
+    }
+
+    // Splits t into the nodes ranked above key and the rest
+    private static Node[] split(Node t, Node key) {
+        if (t == null) {
+            return new Node[2];
+        }
+        if (ranksAbove(t, key)) {
+            Node[] parts = split(t.right, key);
+            t.right = parts[0];
+            update(t);
+            parts[0] = t;
+            return parts;
+        }
+        Node[] parts = split(t.left, key);
+        t.left = parts[1];
+        update(t);
+        parts[1] = t;
+        return parts;
+    }
+
+    // Every node of a ranks above every node of b
+    private static Node merge(Node a, Node b) {
+        if (a == null) {
+            return b;
+        }
+        if (b == null) {
+            return a;
+        }
+        if (a.priority > b.priority) {
+            a.right = merge(a.right, b);
+            update(a);
+            return a;
+        }
+        b.left = merge(a, b.left);
+        update(b);
+        return b;
+    }
+
+    private static boolean ranksAbove(Node a, Node b) {
+        return a.powerLevel != b.powerLevel ? a.powerLevel > b.powerLevel : a.userId < b.userId;
+    }
+
+    private static int size(Node t) {
+        return t == null ? 0 : t.size;
+    }
+
+    private static void update(Node t) {
+        t.size = 1 + size(t.left) + size(t.right);
+    }
+
+    private static final class Node {
+        final int userId;
+        final int priority;
+        long powerLevel;
+        int completedWorkouts;
+        int size = 1;
+        Node left;
+        Node right;
+
+        Node(int userId, long powerLevel, int completedWorkouts, int priority) {
+            this.userId = userId;
+            this.powerLevel = powerLevel;
+            this.completedWorkouts = completedWorkouts;
+            this.priority = priority;
+        }
+    }
+
+    /**
+     * A user's totals at the time of the read. rank is 1-based and 0 when not known (load input).
+     */
+    public static final class Standing {
+        private final int userId;
+        private final long powerLevel;
+        private final int completedWorkouts;
+        private final int rank;
+
+        public Standing(int userId, long powerLevel, int completedWorkouts, int rank) {
+            this.userId = userId;
+            this.powerLevel = powerLevel;
+            this.completedWorkouts = completedWorkouts;
+            this.rank = rank;
+        }
+
+        public int getUserId() {
+            return userId;
+        }
+
+        public long getPowerLevel() {
+            return powerLevel;
+        }
+
+        public int getCompletedWorkouts() {
+            return completedWorkouts;
+        }
+
+        public int getRank() {
+            return rank;
+        }
+    }
+}
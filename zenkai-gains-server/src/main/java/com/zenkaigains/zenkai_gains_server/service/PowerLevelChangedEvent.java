@@ -0,0 +1,30 @@
+package com.zenkaigains.zenkai_gains_server.service;
+
+/**
+ * Published by PowerLevelService with the deltas written to power_levels; the leaderboard applies
+ * them once the transaction commits.
+ */
+public class PowerLevelChangedEvent {
+
+    private final int userId;
+    private final long powerDelta;
+    private final int workoutsDelta;
+
+    public PowerLevelChangedEvent(int userId, long powerDelta, int workoutsDelta) {
+        this.userId = userId;
+        this.powerDelta = powerDelta;
+        this.workoutsDelta = workoutsDelta;
+    }
+
+    public int getUserId() {
+        return userId;
+    }
+
+    public long getPowerDelta() {
+        return powerDelta;
+    }
+
+    public int getWorkoutsDelta() {
+        return workoutsDelta;
+    }
+}
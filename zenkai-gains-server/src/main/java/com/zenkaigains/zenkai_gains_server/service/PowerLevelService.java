@@ -0,0 +1,194 @@
+package com.zenkaigains.zenkai_gains_server.service;
+
+import com.zenkaigains.zenkai_gains_server.dto.UserPublicProfileDTO;
+import com.zenkaigains.zenkai_gains_server.entity.SetEntry;
+import com.zenkaigains.zenkai_gains_server.entity.WorkoutLog;
+import com.zenkaigains.zenkai_gains_server.repository.PowerLevelRepository;
+import com.zenkaigains.zenkai_gains_server.repository.WorkoutLogRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Power level scoring. Every set scores 1 + its Epley estimated one-rep max / 10 (kg), rounded,
+ * and every training day (UTC) with at least one logged exercise adds WORKOUT_POINTS.
+ *
+ * Scores are kept incrementally: saving or deleting logs adds the difference to the user's
+ * power_levels row with one upsert, and the same delta is applied to the in-memory
+ * PowerLeaderboard after commit. The leaderboard is loaded from power_levels at startup,
+ * so profiles and rankings are served from memory without aggregating workout_logs.
+ *
+ * Whether a day is new or emptied depends on the user's other logs, so saves and deletes first lock
+ * the user's power_levels row and then read that day's logs with a locking read. Two concurrent
+ * requests of one user are scored one after the other, each seeing the other's committed logs.
+ */
+@Service
+public class PowerLevelService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PowerLevelService.class);
+
+    public static final int WORKOUT_POINTS = 10;
+    public static final int MAX_PAGE_SIZE = 100;
+
+    // Row alias form (MySQL 8.0.19+); VALUES() in ON DUPLICATE KEY UPDATE is deprecated
+    private static final String UPSERT_SQL =
+            "INSERT INTO power_levels (user_id, power_level, completed_workouts) VALUES (?, ?, ?) AS new " +
+            "ON DUPLICATE KEY UPDATE " +
+            "power_level = power_level + new.power_level, " +
+            "completed_workouts = completed_workouts + new.completed_workouts";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PowerLevelRepository powerLevelRepository;
+
+    @Autowired
+    private WorkoutLogRepository workoutLogRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    private final PowerLeaderboard leaderboard = new PowerLeaderboard();
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void onStartup() {
+        List<Object[]> rows = powerLevelRepository.findAllStandings();
+        List<PowerLeaderboard.Standing> standings = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            standings.add(new PowerLeaderboard.Standing((Integer) row[0], (Long) row[1], (Integer) row[2], 0));
+        }
+        leaderboard.load(standings);
+        logger.info("Power level leaderboard loaded with {} users", standings.size());
+    }
+
+    /**
+     * Scores logs that are about to be saved. Call before they are persisted, in the saving
+     * transaction, so their days can be checked against the user's earlier logs.
+     */
+    @Transactional
+    public void applyNewLogs(int userId, List<WorkoutLog> logs) {
+        if (logs.isEmpty()) {
+            return;
+        }
+        lockScore(userId);
+        long points = 0;
+        Set<LocalDate> days = new HashSet<>();
+        for (WorkoutLog log : logs) {
+            points += logPoints(log);
+            days.add(ProgressRollupService.dayOf(log.getPerformedAt()));
+        }
+        for (WorkoutLog earlier : workoutLogRepository.findByUserIdForShare(userId,
+                startOf(Collections.min(days)), startOf(Collections.max(days).plusDays(1)))) {
+            days.remove(ProgressRollupService.dayOf(earlier.getPerformedAt()));
+        }
+        change(userId, points + (long) days.size() * WORKOUT_POINTS, days.size());
+    }
+
+    /**
+     * Locks the user's power_levels row until the transaction ends, creating it with zero totals if
+     * needed. Call before deleting a log, so the lock is taken before any workout_logs row is.
+     */
+    @Transactional
+    public void lockScore(int userId) {
+        // A zero-delta upsert takes the row's exclusive lock whether or not the row exists
+        jdbcTemplate.update(UPSERT_SQL, userId, 0, 0);
+    }
+
+    /**
+     * Takes back the points of a deleted log. Call after the delete, in a transaction that called
+     * lockScore before it, with points from logPoints(log) taken while its sets were still loaded;
+     * the day's bonus goes too if no other log is left on it.
+     */
+    @Transactional
+    public void removeLog(int userId, long points, LocalDate day) {
+        lockScore(userId);
+        boolean dayLeft = !workoutLogRepository.findByUserIdForShare(
+                userId, startOf(day), startOf(day.plusDays(1))).isEmpty();
+        change(userId, -points - (dayLeft ? 0 : WORKOUT_POINTS), dayLeft ? 0 : -1);
+    }
+
+    // Applies the committed delta to the leaderboard; rolled-back writes never reach it
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPowerLevelChanged(PowerLevelChangedEvent event) {
+        leaderboard.add(event.getUserId(), event.getPowerDelta(), event.getWorkoutsDelta());
+    }
+
+    /**
+     * Drops a deleted account from the ranking so it no longer takes a rank. Its power_levels row
+     * goes with the users row (ON DELETE CASCADE); only the in-memory leaderboard needs this call.
+     */
+    public void removeUser(int userId) {
+        if (leaderboard.remove(userId)) {
+            logger.debug("Removed deleted user {} from the leaderboard", userId);
+        }
+    }
+
+    /**
+     * The user's power level, training days and rank, or null if nothing was logged yet.
+     */
+    public PowerLeaderboard.Standing standing(int userId) {
+        return leaderboard.get(userId);
+    }
+
+    /**
+     * Highest power levels first; offset is 0-based and limit is capped at MAX_PAGE_SIZE.
+     */
+    public List<PowerLeaderboard.Standing> leaderboard(int offset, int limit) {
+        return leaderboard.page(Math.max(0, offset), Math.max(1, Math.min(limit, MAX_PAGE_SIZE)));
+    }
+
+    public int rankedUsers() {
+        return leaderboard.size();
+    }
+
+    /**
+     * Fills powerLevel, completedWorkouts and rank of a profile from the leaderboard.
+     */
+    public void populate(UserPublicProfileDTO dto, int userId) {
+        PowerLeaderboard.Standing standing = leaderboard.get(userId);
+        if (standing != null) {
+            dto.setPowerLevel((int) Math.min(standing.getPowerLevel(), Integer.MAX_VALUE));
+            dto.setCompletedWorkouts(standing.getCompletedWorkouts());
+            dto.setRank(standing.getRank());
+        }
+    }
+
+    public static long logPoints(WorkoutLog log) {
+        long points = 0;
+        for (SetEntry set : log.getSets()) {
+            points += 1 + Math.round(ProgressRollupService.estimatedOneRepMax(set.getReps(), set.getWeight()) / 10);
+        }
+        return points;
+    }
+
+    private void change(int userId, long powerDelta, int workoutsDelta) {
+        if (powerDelta == 0 && workoutsDelta == 0) {
+            return;
+        }
+        jdbcTemplate.update(UPSERT_SQL, userId, powerDelta, workoutsDelta);
+        eventPublisher.publishEvent(new PowerLevelChangedEvent(userId, powerDelta, workoutsDelta));
+        logger.debug("Power level of user {} changed by {} ({} workouts)", userId, powerDelta, workoutsDelta);
+    }
+
+    private static Instant startOf(LocalDate day) {
+        return day.atStartOfDay(ZoneOffset.UTC).toInstant();
+    }
+}
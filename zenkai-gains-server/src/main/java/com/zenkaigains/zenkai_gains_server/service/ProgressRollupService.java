@@ -0,0 +1,208 @@
+package com.zenkaigains.zenkai_gains_server.service;
+
+import com.zenkaigains.zenkai_gains_server.entity.RollupPeriod;
+import com.zenkaigains.zenkai_gains_server.entity.SetEntry;
+import com.zenkaigains.zenkai_gains_server.entity.WorkoutLog;
+import com.zenkaigains.zenkai_gains_server.repository.WorkoutLogRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Keeps exercise_rollups in step with logged sets. New sets are folded into their day and week
+ * rows with one batched upsert; sums add up and bests take the max, so earlier sets are never
+ * re-read. A delete cannot lower a max in place, so the affected day and week are recomputed
+ * from that week's sets instead, under locks that keep concurrent upserts from being lost.
+ */
+@Service
+public class ProgressRollupService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProgressRollupService.class);
+
+    // Row alias form (MySQL 8.0.19+; VALUES() there is deprecated). MySQL applies the assignments
+    // left to right, so best_reps still compares against the old best_weight
+    private static final String UPSERT_SQL =
+            "INSERT INTO exercise_rollups (user_id, exercise_key, period, period_start, set_count, total_reps, " +
+            "total_volume, best_weight, best_reps, best_e1rm) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?) AS new " +
+            "ON DUPLICATE KEY UPDATE " +
+            "set_count = set_count + new.set_count, " +
+            "total_reps = total_reps + new.total_reps, " +
+            "total_volume = total_volume + new.total_volume, " +
+            "best_reps = CASE WHEN new.best_weight > best_weight THEN new.best_reps " +
+            "WHEN new.best_weight = best_weight THEN GREATEST(best_reps, new.best_reps) " +
+            "ELSE best_reps END, " +
+            "best_weight = GREATEST(best_weight, new.best_weight), " +
+            "best_e1rm = GREATEST(best_e1rm, new.best_e1rm)";
+
+    private static final String DELETE_SQL =
+            "DELETE FROM exercise_rollups WHERE user_id = ? AND exercise_key = ? " +
+            "AND ((period = 'DAY' AND period_start = ?) OR (period = 'WEEK' AND period_start = ?))";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private WorkoutLogRepository workoutLogRepository;
+
+    /**
+     * Adds newly saved logs to their day and week rollups. Runs in the caller's transaction.
+     */
+    @Transactional
+    public void applyLogs(int userId, List<WorkoutLog> logs) {
+        Map<RollupKey, Rollup> rollups = new LinkedHashMap<>();
+        for (WorkoutLog log : logs) {
+            String key = exerciseKey(log.getExerciseName());
+            LocalDate day = dayOf(log.getPerformedAt());
+            Rollup daily = rollups.computeIfAbsent(new RollupKey(key, RollupPeriod.DAY, day), k -> new Rollup());
+            Rollup weekly = rollups.computeIfAbsent(new RollupKey(key, RollupPeriod.WEEK, weekOf(day)), k -> new Rollup());
+            for (SetEntry set : log.getSets()) {
+                daily.add(set.getReps(), set.getWeight());
+                weekly.add(set.getReps(), set.getWeight());
+            }
+        }
+
+        List<Object[]> rows = new ArrayList<>(rollups.size());
+        for (Map.Entry<RollupKey, Rollup> entry : rollups.entrySet()) {
+            if (entry.getValue().setCount > 0) {
+                rows.add(toRow(userId, entry.getKey(), entry.getValue()));
+            }
+        }
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT_SQL, rows);
+        }
+        logger.debug("Applied {} rollup rows for user {}", rows.size(), userId);
+    }
+
+    /**
+     * Rebuilds the day and week rollups of one exercise after its sets on that day changed.
+     *
+     * The week's logs are read with shared locks, not from the transaction's snapshot: the read sees
+     * every committed log, waits for logs being inserted in that range, and blocks new ones until this
+     * commits. applyLogs writes its logs before its rollups, so a concurrent upsert either lands before
+     * this read (and is recomputed) or after this commit (and adds on top); neither is lost.
+     */
+    @Transactional
+    public void recompute(int userId, String exerciseKey, LocalDate day) {
+        LocalDate week = weekOf(day);
+        Instant from = week.atStartOfDay(ZoneOffset.UTC).toInstant();
+        Instant to = week.plusWeeks(1).atStartOfDay(ZoneOffset.UTC).toInstant();
+
+        Rollup daily = new Rollup();
+        Rollup weekly = new Rollup();
+        for (WorkoutLog log : workoutLogRepository.findByUserIdWithSetsForShare(userId, from, to)) {
+            if (!exerciseKey.equals(exerciseKey(log.getExerciseName()))) {
+                continue;
+            }
+            boolean sameDay = day.equals(dayOf(log.getPerformedAt()));
+            for (SetEntry set : log.getSets()) {
+                weekly.add(set.getReps(), set.getWeight());
+                if (sameDay) {
+                    daily.add(set.getReps(), set.getWeight());
+                }
+            }
+        }
+
+        jdbcTemplate.update(DELETE_SQL, userId, exerciseKey, day, week);
+        List<Object[]> rows = new ArrayList<>(2);
+        if (daily.setCount > 0) {
+            rows.add(toRow(userId, new RollupKey(exerciseKey, RollupPeriod.DAY, day), daily));
+        }
+        if (weekly.setCount > 0) {
+            rows.add(toRow(userId, new RollupKey(exerciseKey, RollupPeriod.WEEK, week), weekly));
+        }
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT_SQL, rows);
+        }
+    }
+
+    public static String exerciseKey(String exerciseName) {
+        return exerciseName.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // Rollups use UTC calendar days
+    public static LocalDate dayOf(Instant instant) {
+        return LocalDate.ofInstant(instant, ZoneOffset.UTC);
+    }
+
+    public static LocalDate weekOf(LocalDate day) {
+        return day.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+
+    /**
+     * Epley formula; a single is its own max.
+     */
+    public static double estimatedOneRepMax(int reps, double weight) {
+        return reps <= 1 ? weight : weight * (1 + reps / 30.0);
+    }
+
+    private static Object[] toRow(int userId, RollupKey key, Rollup rollup) {
+        return new Object[]{userId, key.exerciseKey, key.period.name(), key.periodStart,
+                rollup.setCount, rollup.totalReps, rollup.totalVolume,
+                rollup.bestWeight, rollup.bestReps, rollup.bestE1rm};
+    }
+
+    private static final class RollupKey {
+        final String exerciseKey;
+        final RollupPeriod period;
+        final LocalDate periodStart;
+
+        RollupKey(String exerciseKey, RollupPeriod period, LocalDate periodStart) {
+            this.exerciseKey = exerciseKey;
+            this.period = period;
+            this.periodStart = periodStart;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof RollupKey)) {
+                return false;
+            }
+            RollupKey other = (RollupKey) o;
+            return exerciseKey.equals(other.exerciseKey) && period == other.period
+                    && periodStart.equals(other.periodStart);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(exerciseKey, period, periodStart);
+        }
+    }
+
+    private static final class Rollup {
+        int setCount;
+        long totalReps;
+        double totalVolume;
+        double bestWeight;
+        int bestReps;
+        double bestE1rm;
+
+        void add(int reps, double weight) {
+            setCount++;
+            totalReps += reps;
+            totalVolume += reps * weight;
+            if (weight > bestWeight || (weight == bestWeight && reps > bestReps)) {
+                bestWeight = weight;
+                bestReps = reps;
+            }
+            bestE1rm = Math.max(bestE1rm, estimatedOneRepMax(reps, weight));
+        }
+    }
+}
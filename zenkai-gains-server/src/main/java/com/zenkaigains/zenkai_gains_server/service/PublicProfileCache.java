@@ -0,0 +1,176 @@
+package com.zenkaigains.zenkai_gains_server.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zenkaigains.zenkai_gains_server.dto.UserPublicProfileDTO;
+import com.zenkaigains.zenkai_gains_server.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Serialized public profiles keyed by username, with an ETag over the JSON bytes.
+ *
+ * Profile fields are read once per entry with a projection query (no roles) and invalidated
+ * by the controllers that change them. Power level, workouts and rank come from the leaderboard
+ * and can change without a profile write, so every hit compares them with the values that were
+ * serialized and re-serializes from the cached fields when they differ. Entries also expire
+ * after profile.cache.ttl-seconds, which bounds staleness from writes on other instances.
+ */
+@Service
+public class PublicProfileCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(PublicProfileCache.class);
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PowerLevelService powerLevelService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${profile.cache.max-size:10000}")
+    private int maxSize;
+
+    @Value("${profile.cache.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    private final Map<String, CachedProfile> entries = new ConcurrentHashMap<>();
+    // Bumped by every invalidation, so a load that raced with a profile update is not cached
+    private final AtomicLong invalidations = new AtomicLong();
+
+    /**
+     * The profile as JSON, or empty if no user has this username. Unknown usernames are not cached.
+     */
+    public Optional<CachedProfile> get(String username) {
+        long now = System.currentTimeMillis();
+        CachedProfile cached = entries.get(username);
+        if (cached == null || now >= cached.expiresAt) {
+            long generation = invalidations.get();
+            Optional<UserPublicProfileDTO> profile = userRepository.findPublicProfileByUsername(username);
+            if (profile.isEmpty()) {
+                entries.remove(username);
+                return Optional.empty();
+            }
+            cached = serialize(profile.get(), powerLevelService.standing(profile.get().getId()),
+                    now + TimeUnit.SECONDS.toMillis(ttlSeconds));
+            if (invalidations.get() == generation) {
+                put(username, cached);
+            }
+            return Optional.of(cached);
+        }
+
+        PowerLeaderboard.Standing standing = powerLevelService.standing(cached.profile.getId());
+        if (!cached.matches(standing)) {
+            // Same profile fields, new score or rank: no database read needed
+            CachedProfile refreshed = serialize(cached.profile, standing, cached.expiresAt);
+            entries.replace(username, cached, refreshed);
+            return Optional.of(refreshed);
+        }
+        return Optional.of(cached);
+    }
+
+    /**
+     * Drops every cached profile of the user, under any username it was requested by.
+     * Call after the user's username, bio or picture changed.
+     */
+    public void invalidateUser(int userId) {
+        invalidations.incrementAndGet();
+        entries.values().removeIf(cached -> cached.profile.getId() == userId);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private CachedProfile serialize(UserPublicProfileDTO profile, PowerLeaderboard.Standing standing, long expiresAt) {
+        UserPublicProfileDTO dto = new UserPublicProfileDTO(profile.getId(), profile.getUsername(), profile.getBio(),
+                profile.getProfilePictureUrl(), profile.getJoinedDate());
+        if (standing != null) {
+            dto.setPowerLevel((int) Math.min(standing.getPowerLevel(), Integer.MAX_VALUE));
+            dto.setCompletedWorkouts(standing.getCompletedWorkouts());
+            dto.setRank(standing.getRank());
+        }
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(dto);
+            String etag = "\"" + DigestUtils.md5DigestAsHex(json) + "\"";
+            return new CachedProfile(profile, json, etag, dto.getPowerLevel(), dto.getCompletedWorkouts(),
+                    dto.getRank(), expiresAt);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize profile of user " + profile.getId(), e);
+        }
+    }
+
+    private void put(String username, CachedProfile cached) {
+        if (maxSize <= 0) {
+            return;
+        }
+        if (entries.size() >= maxSize) {
+            // Expired entries first; if still full, an arbitrary tenth is dropped and reloaded on demand
+            long now = System.currentTimeMillis();
+            entries.values().removeIf(c -> now >= c.expiresAt);
+            int toRemove = entries.size() >= maxSize ? Math.max(1, maxSize / 10) : 0;
+            Iterator<String> it = entries.keySet().iterator();
+            while (it.hasNext() && toRemove-- > 0) {
+                it.next();
+                it.remove();
+            }
+            logger.debug("Public profile cache full, {} entries left", entries.size());
+        }
+        entries.put(username, cached);
+    }
+
+    /**
+     * One serialized profile. body and etag are final; a changed score produces a new instance.
+     */
+    public static final class CachedProfile {
+        private final UserPublicProfileDTO profile;
+        private final byte[] body;
+        private final String etag;
+        private final int powerLevel;
+        private final int completedWorkouts;
+        private final Integer rank;
+        private final long expiresAt;
+
+        private CachedProfile(UserPublicProfileDTO profile, byte[] body, String etag, int powerLevel,
+                              int completedWorkouts, Integer rank, long expiresAt) {
+            this.profile = profile;
+            this.body = body;
+            this.etag = etag;
+            this.powerLevel = powerLevel;
+            this.completedWorkouts = completedWorkouts;
+            this.rank = rank;
+            this.expiresAt = expiresAt;
+        }
+
+        public byte[] getBody() {
+            return body;
+        }
+
+        public String getEtag() {
+            return etag;
+        }
+
+        private boolean matches(PowerLeaderboard.Standing standing) {
+            if (standing == null) {
+                return rank == null && powerLevel == 0 && completedWorkouts == 0;
+            }
+            return Objects.equals(rank, standing.getRank())
+                    && powerLevel == (int) Math.min(standing.getPowerLevel(), Integer.MAX_VALUE)
+                    && completedWorkouts == standing.getCompletedWorkouts();
+        }
+    }
+}
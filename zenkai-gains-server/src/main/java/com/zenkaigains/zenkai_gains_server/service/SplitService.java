@@ -0,0 +1,405 @@
+package com.zenkaigains.zenkai_gains_server.service;
+
+import com.zenkaigains.zenkai_gains_server.dto.MuscleDTO;
+import com.zenkaigains.zenkai_gains_server.dto.MuscleGroupDTO;
+import com.zenkaigains.zenkai_gains_server.dto.MuscleVolumeDTO;
+import com.zenkaigains.zenkai_gains_server.dto.SplitBalanceDTO;
+import com.zenkaigains.zenkai_gains_server.dto.SplitComparisonDTO;
+import com.zenkaigains.zenkai_gains_server.dto.SplitDTO;
+import com.zenkaigains.zenkai_gains_server.dto.SplitRequest;
+import com.zenkaigains.zenkai_gains_server.entity.Exercise;
+import com.zenkaigains.zenkai_gains_server.entity.ExerciseMuscleTarget;
+import com.zenkaigains.zenkai_gains_server.entity.MuscleGroup;
+import com.zenkaigains.zenkai_gains_server.entity.Split;
+import com.zenkaigains.zenkai_gains_server.entity.SplitExercise;
+import com.zenkaigains.zenkai_gains_server.entity.SplitMuscleGroup;
+import com.zenkaigains.zenkai_gains_server.repository.ExerciseRepository;
+import com.zenkaigains.zenkai_gains_server.repository.MuscleGroupRepository;
+import com.zenkaigains.zenkai_gains_server.repository.SplitRepository;
+import com.zenkaigains.zenkai_gains_server.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Executor;
+
+/**
+ * Saves splits and their weekly muscle volume. On save, every planned set is spread over
+ * the muscles its exercise targets (ExerciseMuscleTarget percentages) and scaled by
+ * trainingDaysPerWeek / days, then stored as a MuscleVolumeVector on the split row.
+ * Balance and comparison views decode that vector and never join the plan or the catalog
+ * tables; muscle names come from CatalogCache. When exercise targets change, the splits planning
+ * those exercises are recomputed in the background.
+ */
+@Service
+public class SplitService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SplitService.class);
+
+    public static final int MAX_DAYS = 14;
+    public static final int MAX_EXERCISES_PER_DAY = 20;
+    public static final int MAX_SETS_PER_EXERCISE = 20;
+    public static final int MAX_COMPARED_SPLITS = 5;
+
+    @Autowired
+    private SplitRepository splitRepository;
+
+    @Autowired
+    private ExerciseRepository exerciseRepository;
+
+    @Autowired
+    private MuscleGroupRepository muscleGroupRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CatalogCache catalogCache;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    private Executor applicationTaskExecutor;
+
+    @Value("${splits.recompute.batch-size:200}")
+    private int recomputeBatchSize;
+
+    // Weekly sets per muscle outside this range are flagged LOW or HIGH by the balance view
+    @Value("${splits.balance.min-weekly-sets:10}")
+    private int minWeeklySets;
+
+    @Value("${splits.balance.max-weekly-sets:20}")
+    private int maxWeeklySets;
+
+    public List<Split> findSplits(int userId) {
+        return splitRepository.findByUserIdWithDays(userId);
+    }
+
+    public Optional<Split> findSplit(int userId, Long splitId) {
+        return splitRepository.findOwnedWithDays(splitId, userId);
+    }
+
+    /**
+     * @throws IllegalArgumentException with a client-facing message if the request is invalid
+     */
+    @Transactional
+    public Split create(int userId, SplitRequest request) {
+        Split split = new Split(userRepository.getReferenceById(userId), null);
+        apply(split, request);
+        return splitRepository.save(split);
+    }
+
+    /**
+     * Replaces name, days and plan. Empty if the split does not exist or is not the user's.
+     *
+     * @throws IllegalArgumentException with a client-facing message if the request is invalid
+     */
+    @Transactional
+    public Optional<Split> update(int userId, Long splitId, SplitRequest request) {
+        Optional<Split> split = splitRepository.findOwnedWithDays(splitId, userId);
+        if (split.isEmpty()) {
+            return Optional.empty();
+        }
+        apply(split.get(), request);
+        return Optional.of(splitRepository.save(split.get()));
+    }
+
+    @Transactional
+    public boolean delete(int userId, Long splitId) {
+        List<Split> owned = splitRepository.findOwned(List.of(splitId), userId);
+        if (owned.isEmpty()) {
+            return false;
+        }
+        splitRepository.delete(owned.get(0));
+        return true;
+    }
+
+    public Optional<SplitBalanceDTO> balance(int userId, Long splitId) {
+        List<Split> owned = splitRepository.findOwned(List.of(splitId), userId);
+        if (owned.isEmpty()) {
+            return Optional.empty();
+        }
+        MuscleVolumeVector vector = MuscleVolumeVector.decode(owned.get(0).getVolumeVector());
+
+        List<MuscleVolumeDTO> muscles = new ArrayList<>();
+        Map<String, Double> groupSets = new LinkedHashMap<>();
+        Set<Long> listed = new HashSet<>();
+        // Every catalog muscle, so untrained ones show up as LOW
+        for (MuscleGroupDTO group : catalogCache.get().getGroups()) {
+            double groupTotal = 0;
+            for (MuscleDTO muscle : group.getMuscles()) {
+                float sets = vector.setsFor(muscle.getId());
+                groupTotal += sets;
+                listed.add(muscle.getId());
+                muscles.add(new MuscleVolumeDTO(muscle.getId(), group.getId(), muscle.getName(), sets, status(sets)));
+            }
+            groupSets.put(group.getName(), Math.round(groupTotal * 10) / 10.0);
+        }
+        // Muscles added to the vector before a catalog change that has not been applied yet
+        for (int i = 0; i < vector.size(); i++) {
+            if (!listed.contains((long) vector.muscleIdAt(i))) {
+                muscles.add(new MuscleVolumeDTO((long) vector.muscleIdAt(i), (long) vector.muscleGroupIdAt(i),
+                        null, vector.setsAt(i), status(vector.setsAt(i))));
+            }
+        }
+        return Optional.of(new SplitBalanceDTO(splitId, Math.round(vector.totalSets() * 10) / 10.0,
+                minWeeklySets, maxWeeklySets, muscles, groupSets));
+    }
+
+    /**
+     * Side-by-side weekly sets of up to MAX_COMPARED_SPLITS of the user's splits; unknown ids are skipped.
+     */
+    public SplitComparisonDTO compare(int userId, List<Long> splitIds) {
+        List<Split> splits = splitRepository.findOwned(splitIds, userId);
+        Map<Long, String> names = muscleNames();
+        List<SplitDTO> headers = new ArrayList<>(splits.size());
+        List<MuscleVolumeVector> vectors = new ArrayList<>(splits.size());
+        // muscleId -> muscleGroupId, sorted so rows come out in a stable order
+        TreeMap<Long, Long> muscles = new TreeMap<>();
+        for (Long id : splitIds) {
+            for (Split split : splits) {
+                if (split.getId().equals(id)) {
+                    MuscleVolumeVector vector = MuscleVolumeVector.decode(split.getVolumeVector());
+                    headers.add(new SplitDTO(split.getId(), split.getName(), split.getTrainingDaysPerWeek(),
+                            null, null, null));
+                    vectors.add(vector);
+                    for (int i = 0; i < vector.size(); i++) {
+                        muscles.put((long) vector.muscleIdAt(i), (long) vector.muscleGroupIdAt(i));
+                    }
+                }
+            }
+        }
+        List<SplitComparisonDTO.Row> rows = new ArrayList<>(muscles.size());
+        for (Map.Entry<Long, Long> muscle : muscles.entrySet()) {
+            List<Double> sets = new ArrayList<>(vectors.size());
+            for (MuscleVolumeVector vector : vectors) {
+                sets.add(Math.round(vector.setsFor(muscle.getKey()) * 10) / 10.0);
+            }
+            rows.add(new SplitComparisonDTO.Row(muscle.getKey(), muscle.getValue(), names.get(muscle.getKey()), sets));
+        }
+        return new SplitComparisonDTO(headers, rows);
+    }
+
+    /**
+     * Summary for lists (day labels and volume); withDays adds the planned exercises.
+     */
+    public SplitDTO toDto(Split split, boolean withDays) {
+        List<String> labels = new ArrayList<>(split.getDays().size());
+        List<SplitRequest.Day> days = withDays ? new ArrayList<>(split.getDays().size()) : null;
+        for (SplitMuscleGroup day : split.getDays()) {
+            labels.add(day.getName());
+            if (withDays) {
+                List<SplitRequest.PlannedExercise> exercises = new ArrayList<>(day.getExercises().size());
+                for (SplitExercise exercise : day.getExercises()) {
+                    exercises.add(new SplitRequest.PlannedExercise(exercise.getExerciseId(), exercise.getSets()));
+                }
+                Long groupId = day.getMuscleGroup() != null ? day.getMuscleGroup().getId() : null;
+                days.add(new SplitRequest.Day(day.getName(), groupId, exercises));
+            }
+        }
+        Map<Long, String> names = muscleNames();
+        MuscleVolumeVector vector = MuscleVolumeVector.decode(split.getVolumeVector());
+        List<MuscleVolumeDTO> volume = new ArrayList<>(vector.size());
+        for (int i = 0; i < vector.size(); i++) {
+            long muscleId = vector.muscleIdAt(i);
+            volume.add(new MuscleVolumeDTO(muscleId, (long) vector.muscleGroupIdAt(i), names.get(muscleId),
+                    vector.setsAt(i), null));
+        }
+        return new SplitDTO(split.getId(), split.getName(), split.getTrainingDaysPerWeek(), labels, days, volume);
+    }
+
+    // Runs after the catalog write commits (or straight away for writes made outside a transaction) and
+    // hands the work to a background thread, so the admin's request neither waits for it nor fails with it
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        // Vectors hold muscle ids and sets only; renames and new rows leave them unchanged
+        if (event.getExerciseIds().isEmpty()) {
+            return;
+        }
+        applicationTaskExecutor.execute(() -> {
+            try {
+                recomputeVolumes(event.getExerciseIds());
+            } catch (RuntimeException e) {
+                logger.error("Failed to recompute split volumes for exercises {}", event.getExerciseIds(), e);
+            }
+        });
+    }
+
+    /**
+     * Recomputes the stored volume of the splits that plan any of the exercises,
+     * splits.recompute.batch-size splits per transaction.
+     */
+    public void recomputeVolumes(Set<Long> exerciseIds) {
+        List<Long> splitIds = splitRepository.findIdsByExerciseIdIn(exerciseIds);
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        int changed = 0;
+        for (int from = 0; from < splitIds.size(); from += recomputeBatchSize) {
+            List<Long> batch = splitIds.subList(from, Math.min(splitIds.size(), from + recomputeBatchSize));
+            changed += transaction.execute(status -> {
+                List<Split> splits = splitRepository.findAllWithDaysByIdIn(batch);
+                Map<Long, Exercise> exercises = loadExercises(splits);
+                int changedInBatch = 0;
+                for (Split split : splits) {
+                    byte[] vector = computeVolume(split, exercises).encode();
+                    if (!Arrays.equals(vector, split.getVolumeVector())) {
+                        split.setVolumeVector(vector);
+                        changedInBatch++;
+                    }
+                }
+                return changedInBatch;
+            });
+        }
+        logger.debug("Recomputed split volumes after catalog change: {} of {} changed", changed, splitIds.size());
+    }
+
+    private void apply(Split split, SplitRequest request) {
+        if (request.getName() == null || request.getName().trim().isEmpty()) {
+            throw new IllegalArgumentException("name is required");
+        }
+        List<SplitRequest.Day> days = request.getDays();
+        if (days == null || days.isEmpty()) {
+            // The splits page only sends day labels
+            days = new ArrayList<>();
+            if (request.getMuscleGroups() != null) {
+                for (String label : request.getMuscleGroups()) {
+                    days.add(new SplitRequest.Day(label, null, null));
+                }
+            }
+        }
+        if (days.isEmpty() || days.size() > MAX_DAYS) {
+            throw new IllegalArgumentException("A split needs between 1 and " + MAX_DAYS + " days");
+        }
+        int perWeek = request.getTrainingDaysPerWeek() != null ? request.getTrainingDaysPerWeek() : Math.min(days.size(), 7);
+        if (perWeek < 1 || perWeek > 7) {
+            throw new IllegalArgumentException("trainingDaysPerWeek must be between 1 and 7");
+        }
+
+        // Day labels that name a catalog group ("Chest") are linked to it
+        Map<Long, MuscleGroup> groupsById = new HashMap<>();
+        Map<String, MuscleGroup> groupsByName = new HashMap<>();
+        for (MuscleGroup group : muscleGroupRepository.findAll()) {
+            groupsById.put(group.getId(), group);
+            groupsByName.put(group.getName().toLowerCase(Locale.ROOT), group);
+        }
+
+        split.setName(request.getName().trim());
+        split.setTrainingDaysPerWeek(perWeek);
+        split.getDays().clear();
+        for (SplitRequest.Day day : days) {
+            if (day.getName() == null || day.getName().trim().isEmpty()) {
+                throw new IllegalArgumentException("Every day needs a name");
+            }
+            String name = day.getName().trim();
+            MuscleGroup group = day.getMuscleGroupId() != null
+                    ? groupsById.get(day.getMuscleGroupId())
+                    : groupsByName.get(name.toLowerCase(Locale.ROOT));
+            if (day.getMuscleGroupId() != null && group == null) {
+                throw new IllegalArgumentException("Unknown muscleGroupId: " + day.getMuscleGroupId());
+            }
+            SplitMuscleGroup splitDay = new SplitMuscleGroup(split, name, group);
+            if (day.getExercises() != null) {
+                if (day.getExercises().size() > MAX_EXERCISES_PER_DAY) {
+                    throw new IllegalArgumentException("At most " + MAX_EXERCISES_PER_DAY + " exercises per day");
+                }
+                for (SplitRequest.PlannedExercise exercise : day.getExercises()) {
+                    if (exercise.getExerciseId() == null
+                            || exercise.getSets() < 1 || exercise.getSets() > MAX_SETS_PER_EXERCISE) {
+                        throw new IllegalArgumentException("Each exercise needs an exerciseId and 1 to "
+                                + MAX_SETS_PER_EXERCISE + " sets");
+                    }
+                    splitDay.getExercises().add(new SplitExercise(exercise.getExerciseId(), exercise.getSets()));
+                }
+            }
+            split.getDays().add(splitDay);
+        }
+
+        Map<Long, Exercise> exercises = loadExercises(List.of(split));
+        for (SplitMuscleGroup day : split.getDays()) {
+            for (SplitExercise exercise : day.getExercises()) {
+                if (!exercises.containsKey(exercise.getExerciseId())) {
+                    throw new IllegalArgumentException("Unknown exerciseId: " + exercise.getExerciseId());
+                }
+            }
+        }
+        split.setVolumeVector(computeVolume(split, exercises).encode());
+    }
+
+    // All planned exercises of the given splits with their targets, in one query
+    private Map<Long, Exercise> loadExercises(List<Split> splits) {
+        Set<Long> ids = new HashSet<>();
+        for (Split split : splits) {
+            for (SplitMuscleGroup day : split.getDays()) {
+                for (SplitExercise exercise : day.getExercises()) {
+                    ids.add(exercise.getExerciseId());
+                }
+            }
+        }
+        Map<Long, Exercise> exercises = new HashMap<>();
+        if (!ids.isEmpty()) {
+            for (Exercise exercise : exerciseRepository.findAllWithTargetsByIdIn(ids)) {
+                exercises.put(exercise.getId(), exercise);
+            }
+        }
+        return exercises;
+    }
+
+    private static MuscleVolumeVector computeVolume(Split split, Map<Long, Exercise> exercises) {
+        MuscleVolumeVector.Builder builder = MuscleVolumeVector.builder();
+        if (split.getDays().isEmpty()) {
+            return builder.build();
+        }
+        // A 3-day rotation trained 6 days a week runs every day twice
+        double timesPerWeek = (double) split.getTrainingDaysPerWeek() / split.getDays().size();
+        for (SplitMuscleGroup day : split.getDays()) {
+            for (SplitExercise planned : day.getExercises()) {
+                Exercise exercise = exercises.get(planned.getExerciseId());
+                if (exercise == null) {
+                    // Deleted from the catalog since the split was saved
+                    continue;
+                }
+                for (ExerciseMuscleTarget target : exercise.getTargets()) {
+                    builder.add(target.getMuscle().getId(), target.getMuscle().getMuscleGroup().getId(),
+                            planned.getSets() * target.getPercentage() / 100.0 * timesPerWeek);
+                }
+            }
+        }
+        return builder.build();
+    }
+
+    private Map<Long, String> muscleNames() {
+        Map<Long, String> names = new HashMap<>();
+        for (MuscleGroupDTO group : catalogCache.get().getGroups()) {
+            for (MuscleDTO muscle : group.getMuscles()) {
+                names.put(muscle.getId(), muscle.getName());
+            }
+        }
+        return names;
+    }
+
+    private String status(float sets) {
+        if (sets < minWeeklySets) {
+            return "LOW";
+        }
+        return sets > maxWeeklySets ? "HIGH" : "OK";
+    }
+}
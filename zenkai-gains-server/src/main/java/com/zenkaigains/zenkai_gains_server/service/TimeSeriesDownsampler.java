@@ -0,0 +1,68 @@
+package com.zenkaigains.zenkai_gains_server.service;
+
+/**
+ * Largest-Triangle-Three-Buckets downsampling. Keeps the first and last points and, from each
+ * bucket in between, the point forming the largest triangle with the previously kept point and
+ * the average of the next bucket. Peaks and dips survive, and the result is a subset of the
+ * input, so every point returned is a real reading.
+ */
+public final class TimeSeriesDownsampler {
+
+    private TimeSeriesDownsampler() {
+    }
+
+    /**
+     * Indices of the points to keep, ascending. x must be ascending.
+     * Returns every index when the series already has at most threshold points.
+     */
+    public static int[] lttb(double[] x, double[] y, int threshold) {
+        int n = x.length;
+        if (threshold >= n || threshold < 3) {
+            int[] all = new int[n];
+            for (int i = 0; i < n; i++) {
+                all[i] = i;
+            }
+            return all;
+        }
+
+        int[] sampled = new int[threshold];
+        int count = 0;
+        // Bucket size for the n - 2 points between the fixed first and last
+        double every = (double) (n - 2) / (threshold - 2);
+        int a = 0;
+        sampled[count++] = a;
+
+        for (int i = 0; i < threshold - 2; i++) {
+            // Average of the next bucket is the triangle's third corner
+            int avgStart = (int) Math.floor((i + 1) * every) + 1;
+            int avgEnd = Math.min((int) Math.floor((i + 2) * every) + 1, n);
+            double avgX = 0;
+            double avgY = 0;
+            for (int j = avgStart; j < avgEnd; j++) {
+                avgX += x[j];
+                avgY += y[j];
+            }
+            int avgLength = avgEnd - avgStart;
+            avgX /= avgLength;
+            avgY /= avgLength;
+
+            int rangeStart = (int) Math.floor(i * every) + 1;
+            int rangeEnd = (int) Math.floor((i + 1) * every) + 1;
+            double maxArea = -1;
+            int next = rangeStart;
+            for (int j = rangeStart; j < rangeEnd; j++) {
+                // Twice the triangle area; only the comparison matters
+                double area = Math.abs((x[a] - avgX) * (y[j] - y[a]) - (x[a] - x[j]) * (avgY - y[a]));
+                if (area > maxArea) {
+                    maxArea = area;
+                    next = j;
+                }
+            }
+            sampled[count++] = next;
+            a = next;
+        }
+
+        sampled[count] = n - 1;
+        return sampled;
+    }
+}
@@ -0,0 +1,42 @@
+package com.zenkaigains.zenkai_gains_server.service;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micrometer meters for server-side uploads, shared by every StorageService backend:
+ * storage.upload.bytes (size per upload), storage.upload.duration and
+ * storage.upload.throughput (bytes per second per upload).
+ */
+@Component
+public class UploadMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    public UploadMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void record(String backend, long bytes, long elapsedNanos) {
+        DistributionSummary.builder("storage.upload.bytes")
+                .baseUnit("bytes")
+                .tag("backend", backend)
+                .register(meterRegistry)
+                .record(bytes);
+        Timer.builder("storage.upload.duration")
+                .tag("backend", backend)
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+        if (elapsedNanos > 0) {
+            DistributionSummary.builder("storage.upload.throughput")
+                    .baseUnit("bytes/s")
+                    .tag("backend", backend)
+                    .register(meterRegistry)
+                    .record(bytes * 1_000_000_000d / elapsedNanos);
+        }
+    }
+}
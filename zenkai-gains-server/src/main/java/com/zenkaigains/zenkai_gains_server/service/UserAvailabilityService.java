@@ -0,0 +1,161 @@
+package com.zenkaigains.zenkai_gains_server.service;
+
+import com.zenkaigains.zenkai_gains_server.entity.User;
+import com.zenkaigains.zenkai_gains_server.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Answers "is this email / username taken?" with Bloom filters in front of MySQL. A filter miss
+ * means definitely free and skips the database; a hit ("maybe taken") is settled with an
+ * indexed exists query.
+ *
+ * The filters are seeded from the users table at startup and grown (rebuilt at twice the size,
+ * in the background) once more names than planned were added. Until the first seed completes every check goes to
+ * the database. Code that saves a new username or email must call recordUser, otherwise later
+ * checks can call it free; the unique constraints on users still reject such duplicates.
+ * Keys are lower-cased with accents removed, matching MySQL's case- and accent-insensitive
+ * collation, so names the database treats as equal share a key.
+ */
+@Service
+public class UserAvailabilityService {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserAvailabilityService.class);
+
+    @Autowired
+    private UserRepository userRepository;
+
+    // Growing the filters reads the whole users table, so it never runs on a request thread
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    private Executor applicationTaskExecutor;
+
+    @Value("${users.bloom.expected-insertions:1000000}")
+    private int expectedInsertions;
+
+    @Value("${users.bloom.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    private final Object lock = new Object();
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    // Null until seeded
+    private volatile Filters filters;
+    // Names recorded while a rebuild reads the users table; replayed into the new filters
+    private List<String[]> pending;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        rebuild(expectedInsertions);
+    }
+
+    public boolean isEmailTaken(String email) {
+        Filters current = filters;
+        if (current != null && !current.emails.mightContain(key(email))) {
+            return false;
+        }
+        return userRepository.existsByEmail(email);
+    }
+
+    /**
+     * True if another user has this username. exceptUserId (may be null) is the caller's own
+     * account, whose current username counts as available.
+     */
+    public boolean isUsernameTaken(String username, Integer exceptUserId) {
+        Filters current = filters;
+        if (current != null && !current.usernames.mightContain(key(username))) {
+            return false;
+        }
+        return exceptUserId == null
+                ? userRepository.existsByUsername(username)
+                : userRepository.existsByUsernameAndIdNot(username, exceptUserId);
+    }
+
+    /**
+     * Adds the user's username and email. Call after saving a new user or a changed username.
+     */
+    public void recordUser(User user) {
+        Filters current;
+        synchronized (lock) {
+            current = filters;
+            if (current != null) {
+                current.usernames.put(key(user.getUsername()));
+                current.emails.put(key(user.getEmail()));
+            }
+            if (pending != null) {
+                pending.add(new String[]{user.getUsername(), user.getEmail()});
+            }
+        }
+        if (current != null && current.usernames.insertions() > current.usernames.getExpectedInsertions()
+                && !rebuilding.get()) {
+            int capacity = current.usernames.getExpectedInsertions() * 2;
+            applicationTaskExecutor.execute(() -> rebuild(capacity));
+        }
+    }
+
+    private void rebuild(int capacity) {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            synchronized (lock) {
+                pending = new ArrayList<>();
+            }
+            List<Object[]> rows = userRepository.findAllUsernamesAndEmails();
+            // Leave room to grow before the next rebuild
+            Filters built = new Filters(Math.max(capacity, rows.size() * 2), falsePositiveRate);
+            for (Object[] row : rows) {
+                built.usernames.put(key((String) row[0]));
+                built.emails.put(key((String) row[1]));
+            }
+            synchronized (lock) {
+                for (String[] user : pending) {
+                    built.usernames.put(key(user[0]));
+                    built.emails.put(key(user[1]));
+                }
+                pending = null;
+                filters = built;
+            }
+            logger.info("Username/email Bloom filters built for {} users (capacity {})",
+                    rows.size(), built.usernames.getExpectedInsertions());
+        } catch (RuntimeException e) {
+            synchronized (lock) {
+                pending = null;
+            }
+            // The previous filters (or none, meaning database checks) stay in use
+            logger.error("Could not build username/email Bloom filters", e);
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    static String key(String value) {
+        if (value == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(value.trim(), Normalizer.Form.NFD);
+        return decomposed.replaceAll("\\p{M}", "").toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Filters {
+        final BloomFilter usernames;
+        final BloomFilter emails;
+
+        Filters(int capacity, double falsePositiveRate) {
+            this.usernames = new BloomFilter(capacity, falsePositiveRate);
+            this.emails = new BloomFilter(capacity, falsePositiveRate);
+        }
+    }
+}
@@ -4,5 +4,9 @@ import com.zenkaigains.zenkai_gains_server.entity.User;
 
 public interface UserService {
     User getUserByEmail(String email);
+
+    /**
+     * @throws UsernameTakenException if another user has the requested username
+     */
     User updateUserProfile(User updatedUser, String email);
 }
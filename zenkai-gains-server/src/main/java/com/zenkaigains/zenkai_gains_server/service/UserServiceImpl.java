@@ -3,6 +3,7 @@ package com.zenkaigains.zenkai_gains_server.service;
 import com.zenkaigains.zenkai_gains_server.entity.User;
 import com.zenkaigains.zenkai_gains_server.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 
 import java.util.Optional;
@@ -13,6 +14,12 @@ public class UserServiceImpl implements UserService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private PublicProfileCache publicProfileCache;
+
+    @Autowired
+    private UserAvailabilityService userAvailabilityService;
+
     @Override
     public User getUserByEmail(String email) {
         // Since findByEmail now returns Optional<User>, use orElse(null) or handle it appropriately
@@ -24,10 +31,23 @@ public class UserServiceImpl implements UserService {
         Optional<User> existingUserOpt = userRepository.findByEmail(email);
         if (existingUserOpt.isPresent()) {
             User existingUser = existingUserOpt.get();
+            if (updatedUser.getUsername() != null
+                    && userAvailabilityService.isUsernameTaken(updatedUser.getUsername(), existingUser.getId())) {
+                throw new UsernameTakenException();
+            }
             existingUser.setUsername(updatedUser.getUsername());
             existingUser.setBio(updatedUser.getBio());
             existingUser.setProfilePictureUrl(updatedUser.getProfilePictureUrl());
-            return userRepository.save(existingUser);
+            User saved;
+            try {
+                saved = userRepository.save(existingUser);
+            } catch (DataIntegrityViolationException e) {
+                // Claimed by someone else between the check and the save
+                throw new UsernameTakenException(e);
+            }
+            publicProfileCache.invalidateUser(saved.getId());
+            userAvailabilityService.recordUser(saved);
+            return saved;
         }
         return null;
     }
@@ -0,0 +1,15 @@
+package com.zenkaigains.zenkai_gains_server.service;
+
+/**
+ * Thrown when a profile update asks for a username another user already has; callers answer 409.
+ */
+public class UsernameTakenException extends RuntimeException {
+
+    public UsernameTakenException() {
+        super("Username already taken");
+    }
+
+    public UsernameTakenException(Throwable cause) {
+        super("Username already taken", cause);
+    }
+}
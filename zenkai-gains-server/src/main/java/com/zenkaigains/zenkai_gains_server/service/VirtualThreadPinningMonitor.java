@@ -0,0 +1,134 @@
+package com.zenkaigains.zenkai_gains_server.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records JFR jdk.VirtualThreadPinned events (a virtual thread blocked while pinned to its
+ * carrier, e.g. inside a synchronized block in the SMTP or GCS client) and serves them at
+ * /actuator/pinning: totals per pinning site plus the most recent events with stack traces.
+ * Only active when virtual threads are enabled (profile "virtual-threads" on Java 21+).
+ */
+@Component
+@Endpoint(id = "pinning")
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor {
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int MAX_RECENT_EVENTS = 200;
+    private static final int MAX_FRAMES = 12;
+
+    private final Duration threshold;
+    private final Deque<Map<String, Object>> recentEvents = new ArrayDeque<>();
+    // Keyed by the first application/library frame that held the carrier
+    private final Map<String, LongAdder> countsBySite = new ConcurrentHashMap<>();
+    private final LongAdder totalEvents = new LongAdder();
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(@Value("${diagnostics.pinning.threshold-ms:20}") long thresholdMillis) {
+        this.threshold = Duration.ofMillis(thresholdMillis);
+    }
+
+    @PostConstruct
+    public void start() {
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::record);
+        stream.startAsync();
+        logger.info("Recording virtual thread pinning events longer than {} ms", threshold.toMillis());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    @ReadOperation
+    public Map<String, Object> report() {
+        Map<String, Long> sites = new LinkedHashMap<>();
+        countsBySite.entrySet().stream()
+                .sorted((a, b) -> Long.compare(b.getValue().sum(), a.getValue().sum()))
+                .forEach(e -> sites.put(e.getKey(), e.getValue().sum()));
+
+        List<Map<String, Object>> recent;
+        synchronized (recentEvents) {
+            recent = new ArrayList<>(recentEvents);
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("thresholdMs", threshold.toMillis());
+        report.put("totalEvents", totalEvents.sum());
+        report.put("bySite", sites);
+        report.put("recent", recent);
+        return report;
+    }
+
+    private void record(RecordedEvent event) {
+        List<String> frames = new ArrayList<>();
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        if (stackTrace != null) {
+            for (RecordedFrame frame : stackTrace.getFrames()) {
+                if (frames.size() == MAX_FRAMES) {
+                    break;
+                }
+                frames.add(frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                        + ":" + frame.getLineNumber());
+            }
+        }
+        String site = pinningSite(frames);
+
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("time", event.getStartTime());
+        entry.put("durationMs", event.getDuration().toMillis());
+        entry.put("thread", event.getThread() != null ? event.getThread().getJavaName() : null);
+        entry.put("site", site);
+        entry.put("stackTrace", frames);
+
+        totalEvents.increment();
+        countsBySite.computeIfAbsent(site, k -> new LongAdder()).increment();
+        synchronized (recentEvents) {
+            recentEvents.addFirst(entry);
+            if (recentEvents.size() > MAX_RECENT_EVENTS) {
+                recentEvents.removeLast();
+            }
+        }
+    }
+
+    /**
+     * First frame outside the JDK, which is where the pinning monitor or native call lives.
+     */
+    private static String pinningSite(List<String> frames) {
+        for (String frame : frames) {
+            if (!frame.startsWith("java.") && !frame.startsWith("jdk.") && !frame.startsWith("sun.")) {
+                return frame;
+            }
+        }
+        return frames.isEmpty() ? "unknown" : frames.get(0);
+    }
+}
@@ -0,0 +1,180 @@
+package com.zenkaigains.zenkai_gains_server.service;
+
+import com.zenkaigains.zenkai_gains_server.dto.SetEntryDTO;
+import com.zenkaigains.zenkai_gains_server.dto.WorkoutLogRequest;
+import com.zenkaigains.zenkai_gains_server.entity.Exercise;
+import com.zenkaigains.zenkai_gains_server.entity.User;
+import com.zenkaigains.zenkai_gains_server.entity.WorkoutLog;
+import com.zenkaigains.zenkai_gains_server.repository.ExerciseRepository;
+import com.zenkaigains.zenkai_gains_server.repository.UserRepository;
+import com.zenkaigains.zenkai_gains_server.repository.WorkoutLogRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Saves workout sessions. All logs and sets of a request are persisted in one transaction
+ * and flushed at commit as two JDBC batches (logs, then sets), see hibernate.jdbc.batch_size.
+ */
+@Service
+public class WorkoutLogService {
+
+    private static final Logger logger = LoggerFactory.getLogger(WorkoutLogService.class);
+
+    public static final int MAX_LOGS_PER_SESSION = 50;
+    public static final int MAX_SETS_PER_LOG = 50;
+    private static final int MAX_REPS = 1000;
+    private static final double MAX_WEIGHT = 1000;
+
+    @Autowired
+    private WorkoutLogRepository workoutLogRepository;
+
+    @Autowired
+    private ExerciseRepository exerciseRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProgressRollupService progressRollupService;
+
+    @Autowired
+    private PowerLevelService powerLevelService;
+
+    /**
+     * Validates and saves the logs. sessionDate (optional) is used for logs without a date.
+     *
+     * @throws IllegalArgumentException with a client-facing message if the request is invalid
+     */
+    @Transactional
+    public List<WorkoutLog> saveSession(int userId, String sessionDate, List<WorkoutLogRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new IllegalArgumentException("At least one workout log is required");
+        }
+        if (requests.size() > MAX_LOGS_PER_SESSION) {
+            throw new IllegalArgumentException("At most " + MAX_LOGS_PER_SESSION + " workout logs per request");
+        }
+        Instant defaultDate = sessionDate == null || sessionDate.isEmpty() ? Instant.now() : parseDate(sessionDate);
+
+        // Resolve all exercise names against the catalog with one query
+        Set<String> names = new HashSet<>();
+        for (WorkoutLogRequest request : requests) {
+            if (request.getExercise() == null || request.getExercise().trim().isEmpty()) {
+                throw new IllegalArgumentException("exercise is required");
+            }
+            names.add(request.getExercise().trim().toLowerCase(Locale.ROOT));
+        }
+        Map<String, Exercise> catalog = new HashMap<>();
+        for (Exercise exercise : exerciseRepository.findByLowerCaseNameIn(names)) {
+            catalog.put(exercise.getName().toLowerCase(Locale.ROOT), exercise);
+        }
+
+        // A reference proxy is enough for the foreign key, so no SELECT on users is issued
+        User user = userRepository.getReferenceById(userId);
+        List<WorkoutLog> logs = new ArrayList<>(requests.size());
+        for (WorkoutLogRequest request : requests) {
+            String name = request.getExercise().trim();
+            Instant performedAt = request.getDate() == null || request.getDate().isEmpty()
+                    ? defaultDate : parseDate(request.getDate());
+            WorkoutLog log = new WorkoutLog(user, catalog.get(name.toLowerCase(Locale.ROOT)), name,
+                    request.getMuscleGroup(), performedAt, request.getNotes());
+            for (SetEntryDTO set : expandSets(request)) {
+                log.addSet(set.getReps(), set.getWeight());
+            }
+            logs.add(log);
+        }
+
+        // Scored before saving, so the session's days are checked against earlier logs only
+        powerLevelService.applyNewLogs(userId, logs);
+        List<WorkoutLog> saved = workoutLogRepository.saveAll(logs);
+        progressRollupService.applyLogs(userId, saved);
+        logger.debug("Saved {} workout logs for user {}", saved.size(), userId);
+        return saved;
+    }
+
+    public List<WorkoutLog> findLogs(int userId, Instant from, Instant to) {
+        return workoutLogRepository.findByUserIdWithSets(userId, from, to);
+    }
+
+    /**
+     * True if the log existed and belonged to the user.
+     */
+    @Transactional
+    public boolean deleteLog(int userId, Long logId) {
+        Optional<WorkoutLog> log = workoutLogRepository.findById(logId);
+        if (log.isEmpty() || log.get().getUser().getId() != userId) {
+            return false;
+        }
+        String exerciseKey = ProgressRollupService.exerciseKey(log.get().getExerciseName());
+        LocalDate day = ProgressRollupService.dayOf(log.get().getPerformedAt());
+        long points = PowerLevelService.logPoints(log.get());
+        // Score row first, then logs, the same order as saveSession, so concurrent deletes are scored in turn
+        powerLevelService.lockScore(userId);
+        if (workoutLogRepository.deleteOwned(logId, userId) == 0) {
+            return false;
+        }
+        progressRollupService.recompute(userId, exerciseKey, day);
+        powerLevelService.removeLog(userId, points, day);
+        return true;
+    }
+
+    private static List<SetEntryDTO> expandSets(WorkoutLogRequest request) {
+        List<SetEntryDTO> sets = new ArrayList<>();
+        if (request.getSetEntries() != null && !request.getSetEntries().isEmpty()) {
+            sets.addAll(request.getSetEntries());
+        } else {
+            if (request.getSets() == null || request.getReps() == null || request.getWeight() == null) {
+                throw new IllegalArgumentException("sets, reps and weight are required");
+            }
+            if (request.getSets() < 1 || request.getSets() > MAX_SETS_PER_LOG) {
+                throw new IllegalArgumentException("sets must be between 1 and " + MAX_SETS_PER_LOG);
+            }
+            for (int i = 0; i < request.getSets(); i++) {
+                sets.add(new SetEntryDTO(request.getReps(), request.getWeight()));
+            }
+        }
+        if (sets.size() > MAX_SETS_PER_LOG) {
+            throw new IllegalArgumentException("At most " + MAX_SETS_PER_LOG + " sets per exercise");
+        }
+        for (SetEntryDTO set : sets) {
+            if (set.getReps() < 1 || set.getReps() > MAX_REPS) {
+                throw new IllegalArgumentException("reps must be between 1 and " + MAX_REPS);
+            }
+            if (set.getWeight() < 0 || set.getWeight() > MAX_WEIGHT || Double.isNaN(set.getWeight())) {
+                throw new IllegalArgumentException("weight must be between 0 and " + (int) MAX_WEIGHT);
+            }
+        }
+        return sets;
+    }
+
+    /**
+     * Accepts an ISO instant ("2025-03-01T18:30:00Z"), an offset date-time or a plain date (midnight UTC).
+     */
+    public static Instant parseDate(String value) {
+        try {
+            return OffsetDateTime.parse(value).toInstant();
+        } catch (DateTimeParseException e) {
+            try {
+                return LocalDate.parse(value).atStartOfDay(ZoneOffset.UTC).toInstant();
+            } catch (DateTimeParseException e2) {
+                throw new IllegalArgumentException("Invalid date format: " + value);
+            }
+        }
+    }
+}
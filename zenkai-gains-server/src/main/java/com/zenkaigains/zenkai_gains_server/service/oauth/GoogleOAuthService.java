@@ -3,10 +3,16 @@ package com.zenkaigains.zenkai_gains_server.service.oauth;
 import com.google.api.client.googleapis.auth.oauth2.GoogleAuthorizationCodeTokenRequest;
 import com.google.api.client.googleapis.auth.oauth2.GoogleIdToken;
 import com.google.api.client.googleapis.auth.oauth2.GoogleIdTokenVerifier;
+import com.google.api.client.googleapis.auth.oauth2.GooglePublicKeysManager;
 import com.google.api.client.googleapis.auth.oauth2.GoogleTokenResponse;
-import com.google.api.client.http.javanet.NetHttpTransport;
+import com.google.api.client.http.HttpTransport;
+import com.google.api.client.http.apache.v2.ApacheHttpTransport;
+import com.google.api.client.json.JsonFactory;
 import com.google.api.client.json.jackson2.JacksonFactory;
 import com.zenkaigains.zenkai_gains_server.dto.GoogleOAuthUser;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
@@ -14,11 +20,18 @@ import java.io.IOException;
 import java.security.GeneralSecurityException;
 import java.util.Collections;
 
+/**
+ * Talks to Google's OAuth endpoints over one shared, pooled HTTP transport. The ID-token
+ * verifier is built once; its GooglePublicKeysManager caches the signing keys for as long as
+ * the certs response's Cache-Control max-age allows, so callbacks normally verify offline.
+ * Both endpoints are configurable so tests can point them at a local stub.
+ */
 @Service
 public class GoogleOAuthService {
 
-    @Value("${google.client.id}")
-    private String clientId;
+    private static final Logger logger = LoggerFactory.getLogger(GoogleOAuthService.class);
+
+    private static final JsonFactory JSON_FACTORY = JacksonFactory.getDefaultInstance();
 
     @Value("${google.client.secret}")
     private String clientSecret;
@@ -26,16 +39,42 @@ public class GoogleOAuthService {
     @Value("${google.redirect.uri}")
     private String redirectUri;
 
-    private final String TOKEN_SERVER_URL = "https://oauth2.googleapis.com/token";
+    private final String clientId;
+    private final String tokenServerUrl;
+    // Apache transport keeps a connection pool, so repeated callbacks skip the TCP/TLS handshake
+    private final HttpTransport httpTransport;
+    private final GooglePublicKeysManager publicKeysManager;
+    // Thread-safe; reused for every callback
+    private final GoogleIdTokenVerifier verifier;
+
+    public GoogleOAuthService(@Value("${google.client.id}") String clientId,
+                              @Value("${google.oauth.token-server-url:https://oauth2.googleapis.com/token}") String tokenServerUrl,
+                              @Value("${google.oauth.certs-url:https://www.googleapis.com/oauth2/v1/certs}") String certsUrl) {
+        this.clientId = clientId;
+        this.tokenServerUrl = tokenServerUrl;
+        this.httpTransport = new ApacheHttpTransport();
+        this.publicKeysManager = new GooglePublicKeysManager.Builder(httpTransport, JSON_FACTORY)
+                .setPublicCertsEncodedUrl(certsUrl)
+                .build();
+        this.verifier = new GoogleIdTokenVerifier.Builder(publicKeysManager)
+                .setAudience(Collections.singletonList(clientId))
+                .build();
+        logger.debug("Google OAuth endpoints: token={}, certs={}", tokenServerUrl, certsUrl);
+    }
+
+    @PreDestroy
+    public void shutdown() throws IOException {
+        httpTransport.shutdown();
+    }
 
     /**
      * Exchanges an authorization code for tokens using Google’s token endpoint.
      */
     public GoogleTokenResponse exchangeCodeForTokens(String code) throws IOException {
         return new GoogleAuthorizationCodeTokenRequest(
-                new NetHttpTransport(),
-                JacksonFactory.getDefaultInstance(),
-                TOKEN_SERVER_URL,
+                httpTransport,
+                JSON_FACTORY,
+                tokenServerUrl,
                 clientId,
                 clientSecret,
                 code,
@@ -49,13 +88,6 @@ public class GoogleOAuthService {
     public GoogleOAuthUser getUserFromIdToken(String idTokenString)
             throws GeneralSecurityException, IOException {
 
-        GoogleIdTokenVerifier verifier = new GoogleIdTokenVerifier.Builder(
-                new NetHttpTransport(),
-                JacksonFactory.getDefaultInstance()
-        )
-                .setAudience(Collections.singletonList(clientId))
-                .build();
-
         GoogleIdToken idToken = verifier.verify(idTokenString);
         if (idToken != null) {
             GoogleIdToken.Payload payload = idToken.getPayload();
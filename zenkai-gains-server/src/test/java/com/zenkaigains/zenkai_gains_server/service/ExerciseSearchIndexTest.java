@@ -0,0 +1,236 @@
+package com.zenkaigains.zenkai_gains_server.service;
+
+import com.zenkaigains.zenkai_gains_server.dto.ExerciseSuggestionDTO;
+import com.zenkaigains.zenkai_gains_server.entity.Exercise;
+import com.zenkaigains.zenkai_gains_server.entity.ExerciseMuscleTarget;
+import com.zenkaigains.zenkai_gains_server.entity.Muscle;
+import com.zenkaigains.zenkai_gains_server.entity.MuscleGroup;
+import com.zenkaigains.zenkai_gains_server.repository.ExerciseRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ExerciseSearchIndexTest {
+
+    private static final long PECS = 10L;
+    private static final long TRICEPS = 11L;
+    private static final long QUADS = 20L;
+    private static final long HAMSTRINGS = 21L;
+    private static final long LATS = 30L;
+
+    @Mock
+    private ExerciseRepository exerciseRepository;
+
+    @InjectMocks
+    private ExerciseSearchIndex index;
+
+    private final MuscleGroup chest = group(1L, "Chest");
+    private final MuscleGroup legs = group(2L, "Legs");
+    private final MuscleGroup back = group(3L, "Back");
+
+    @Test
+    void searchRanksWholeNamePrefixAboveLaterWord() {
+        load(catalog(), aliases());
+
+        assertEquals(List.of("Bench Press", "Incline Bench Press"), names(index.search("bench", null, 10)));
+        assertEquals(List.of("Bench Press", "Incline Bench Press"), names(index.search("Ben", null, 10)));
+    }
+
+    @Test
+    void searchRanksExactTokenAbovePrefixAndShorterNamesFirst() {
+        load(catalog(), aliases());
+
+        assertEquals(List.of("Bench Press", "Incline Bench Press", "Triceps Pressdown"),
+                names(index.search("press", null, 10)));
+        assertEquals(List.of("Back Squat", "Bulgarian Split Squat"), names(index.search("squat", null, 10)));
+    }
+
+    @Test
+    void searchToleratesTypos() {
+        load(catalog(), aliases());
+
+        assertEquals(List.of("Bench Press", "Incline Bench Press"), names(index.search("bech", null, 10)));
+        assertEquals(List.of("Romanian Deadlift"), names(index.search("romanain", null, 10)));
+    }
+
+    @Test
+    void searchRequiresEveryQueryToken() {
+        load(catalog(), aliases());
+
+        assertEquals(List.of("Incline Bench Press"), names(index.search("bench incline", null, 10)));
+        assertTrue(index.search("bench squat", null, 10).isEmpty());
+    }
+
+    @Test
+    void searchMatchesAliasesAndJoinedWords() {
+        load(catalog(), aliases());
+
+        assertEquals(List.of("Romanian Deadlift"), names(index.search("RDL", null, 10)));
+        assertEquals(List.of("Pull Up"), names(index.search("pullup", null, 10)));
+        assertEquals(List.of("Pull Up"), names(index.search("chin", null, 10)));
+    }
+
+    @Test
+    void searchFiltersByTargetedMuscle() {
+        load(catalog(), aliases());
+
+        List<ExerciseSuggestionDTO> pecs = index.search("press", PECS, 10);
+        assertEquals(List.of("Bench Press", "Incline Bench Press"), names(pecs));
+        assertEquals(70, pecs.get(0).getPercentage());
+        assertEquals(80, pecs.get(1).getPercentage());
+
+        assertNull(index.search("press", null, 10).get(0).getPercentage());
+        assertTrue(index.search("squat", PECS, 10).isEmpty());
+    }
+
+    @Test
+    void emptyQueryListsMuscleExercisesByPercentage() {
+        load(catalog(), aliases());
+
+        assertEquals(List.of("Triceps Pressdown", "Bench Press", "Incline Bench Press"),
+                names(index.search("", TRICEPS, 10)));
+        assertTrue(index.search("  ", null, 10).isEmpty());
+    }
+
+    @Test
+    void searchHonorsLimit() {
+        load(catalog(), aliases());
+
+        assertEquals(List.of("Back Squat"), names(index.search("squat", null, 1)));
+        assertEquals(1, index.search("squat", null, 0).size());
+    }
+
+    @Test
+    void catalogChangeRebuildsIndex() {
+        load(catalog(), aliases());
+        assertTrue(index.search("hip", null, 10).isEmpty());
+
+        List<Exercise> changed = catalog();
+        changed.add(exercise(8L, "Hip Thrust", legs, target(HAMSTRINGS, legs, 30)));
+        load(changed, aliases());
+        index.onCatalogChanged(new CatalogChangedEvent(List.of(), List.of()));
+
+        assertEquals(List.of("Hip Thrust"), names(index.search("hip", null, 10)));
+        assertEquals(8, index.size());
+    }
+
+    @Test
+    void failedRebuildKeepsPreviousIndex() {
+        load(catalog(), aliases());
+        when(exerciseRepository.findAllWithTargets()).thenThrow(new IllegalStateException("database down"));
+
+        index.onCatalogChanged(new CatalogChangedEvent(List.of(), List.of()));
+
+        assertEquals(7, index.size());
+        assertEquals(List.of("Back Squat", "Bulgarian Split Squat"), names(index.search("squat", null, 10)));
+    }
+
+    @Test
+    void normalizeLowerCasesAndCollapsesSeparators() {
+        assertEquals("barbell bench press", ExerciseSearchIndex.normalize("  Barbell  Bench-Press!! "));
+        assertEquals("rdl romanian deadlift", ExerciseSearchIndex.normalize("RDL / Romanian_Deadlift"));
+        assertEquals("21s", ExerciseSearchIndex.normalize("-21s"));
+    }
+
+    @Test
+    void normalizeRemovesAccents() {
+        assertEquals("developpe couche", ExerciseSearchIndex.normalize("D\u00e9velopp\u00e9 Couch\u00e9"));
+    }
+
+    @Test
+    void normalizeTreatsNullAndPunctuationAsEmpty() {
+        assertEquals("", ExerciseSearchIndex.normalize(null));
+        assertEquals("", ExerciseSearchIndex.normalize(" - / "));
+    }
+
+    @Test
+    void boundedDistanceCountsEdits() {
+        assertEquals(0, ExerciseSearchIndex.boundedDistance("squat", "squat", 2));
+        assertEquals(1, ExerciseSearchIndex.boundedDistance("squat", "squats", 2));
+        assertEquals(1, ExerciseSearchIndex.boundedDistance("squat", "sqat", 2));
+        assertEquals(1, ExerciseSearchIndex.boundedDistance("squat", "swuat", 2));
+        assertEquals(3, ExerciseSearchIndex.boundedDistance("", "row", 3));
+        assertEquals(3, ExerciseSearchIndex.boundedDistance("kitten", "sitting", 3));
+    }
+
+    @Test
+    void boundedDistanceCountsAdjacentTranspositionAsOneEdit() {
+        assertEquals(1, ExerciseSearchIndex.boundedDistance("benhc", "bench", 2));
+        assertEquals(1, ExerciseSearchIndex.boundedDistance("cruhl", "curhl", 2));
+        assertEquals(2, ExerciseSearchIndex.boundedDistance("ebnhc", "bench", 2));
+    }
+
+    @Test
+    void boundedDistanceStopsAtMaxPlusOne() {
+        assertEquals(3, ExerciseSearchIndex.boundedDistance("kitten", "sitting", 2));
+        assertEquals(2, ExerciseSearchIndex.boundedDistance("row", "deadlift", 1));
+        assertEquals(2, ExerciseSearchIndex.boundedDistance("abcdef", "ghijkl", 1));
+    }
+
+    private void load(List<Exercise> exercises, List<Object[]> aliases) {
+        when(exerciseRepository.findAllWithTargets()).thenReturn(exercises);
+        when(exerciseRepository.findAllAliases()).thenReturn(aliases);
+        index.onStartup();
+    }
+
+    private List<Exercise> catalog() {
+        List<Exercise> exercises = new ArrayList<>();
+        exercises.add(exercise(1L, "Bench Press", chest, target(PECS, chest, 70), target(TRICEPS, chest, 30)));
+        exercises.add(exercise(2L, "Incline Bench Press", chest, target(PECS, chest, 80), target(TRICEPS, chest, 20)));
+        exercises.add(exercise(3L, "Triceps Pressdown", chest, target(TRICEPS, chest, 90)));
+        exercises.add(exercise(4L, "Back Squat", legs, target(QUADS, legs, 80)));
+        exercises.add(exercise(5L, "Bulgarian Split Squat", legs, target(QUADS, legs, 60)));
+        exercises.add(exercise(6L, "Romanian Deadlift", legs, target(HAMSTRINGS, legs, 70)));
+        exercises.add(exercise(7L, "Pull Up", back, target(LATS, back, 80)));
+        return exercises;
+    }
+
+    private static List<Object[]> aliases() {
+        List<Object[]> aliases = new ArrayList<>();
+        aliases.add(new Object[]{6L, "RDL"});
+        aliases.add(new Object[]{7L, "Chin-Up"});
+        return aliases;
+    }
+
+    private static List<String> names(List<ExerciseSuggestionDTO> suggestions) {
+        List<String> names = new ArrayList<>();
+        for (ExerciseSuggestionDTO suggestion : suggestions) {
+            names.add(suggestion.getName());
+        }
+        return names;
+    }
+
+    private static MuscleGroup group(long id, String name) {
+        MuscleGroup group = new MuscleGroup(name);
+        ReflectionTestUtils.setField(group, "id", id);
+        return group;
+    }
+
+    private static ExerciseMuscleTarget target(long muscleId, MuscleGroup group, int percentage) {
+        Muscle muscle = new Muscle("muscle " + muscleId, group);
+        ReflectionTestUtils.setField(muscle, "id", muscleId);
+        return new ExerciseMuscleTarget(null, muscle, percentage);
+    }
+
+    private static Exercise exercise(long id, String name, MuscleGroup group, ExerciseMuscleTarget... targets) {
+        Exercise exercise = new Exercise(name, null, group);
+        ReflectionTestUtils.setField(exercise, "id", id);
+        for (ExerciseMuscleTarget target : targets) {
+            target.setExercise(exercise);
+            exercise.getTargets().add(target);
+        }
+        return exercise;
+    }
+}
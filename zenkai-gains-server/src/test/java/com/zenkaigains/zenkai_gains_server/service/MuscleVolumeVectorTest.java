@@ -0,0 +1,69 @@
+package com.zenkaigains.zenkai_gains_server.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class MuscleVolumeVectorTest {
+
+    @Test
+    void builderSumsDuplicatesAndSortsByMuscleId() {
+        MuscleVolumeVector vector = MuscleVolumeVector.builder()
+                .add(9, 3, 4)
+                .add(2, 1, 6)
+                .add(9, 3, 2.5)
+                .add(5, 1, 3)
+                .build();
+
+        assertEquals(3, vector.size());
+        assertEquals(2, vector.muscleIdAt(0));
+        assertEquals(5, vector.muscleIdAt(1));
+        assertEquals(9, vector.muscleIdAt(2));
+        assertEquals(3, vector.muscleGroupIdAt(2));
+        assertEquals(6.5f, vector.setsAt(2), 0f);
+        assertEquals(15.5f, vector.totalSets(), 0f);
+    }
+
+    @Test
+    void encodeDecodeRoundTrip() {
+        MuscleVolumeVector vector = MuscleVolumeVector.builder()
+                .add(1, 1, 10)
+                .add(14, 4, 3.25)
+                .add(Integer.MAX_VALUE, 7, 0.5)
+                .build();
+
+        byte[] bytes = vector.encode();
+        assertEquals(12 * vector.size(), bytes.length);
+
+        MuscleVolumeVector decoded = MuscleVolumeVector.decode(bytes);
+        assertEquals(vector.size(), decoded.size());
+        for (int i = 0; i < vector.size(); i++) {
+            assertEquals(vector.muscleIdAt(i), decoded.muscleIdAt(i));
+            assertEquals(vector.muscleGroupIdAt(i), decoded.muscleGroupIdAt(i));
+            assertEquals(vector.setsAt(i), decoded.setsAt(i), 0f);
+        }
+        assertArrayEquals(bytes, decoded.encode());
+    }
+
+    @Test
+    void setsForLooksUpByMuscleId() {
+        MuscleVolumeVector vector = MuscleVolumeVector.builder()
+                .add(3, 1, 8)
+                .add(7, 2, 4)
+                .build();
+
+        assertEquals(8f, vector.setsFor(3), 0f);
+        assertEquals(4f, vector.setsFor(7), 0f);
+        assertEquals(0f, vector.setsFor(5), 0f);
+    }
+
+    @Test
+    void emptyInputDecodesToEmpty() {
+        assertSame(MuscleVolumeVector.EMPTY, MuscleVolumeVector.decode(null));
+        assertSame(MuscleVolumeVector.EMPTY, MuscleVolumeVector.decode(new byte[0]));
+        assertEquals(0, MuscleVolumeVector.EMPTY.encode().length);
+        assertEquals(0f, MuscleVolumeVector.EMPTY.totalSets(), 0f);
+    }
+}
@@ -0,0 +1,127 @@
+package com.zenkaigains.zenkai_gains_server.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PowerLeaderboardTest {
+
+    @Test
+    void ranksByPowerThenLowerUserId() {
+        PowerLeaderboard leaderboard = new PowerLeaderboard();
+        leaderboard.load(List.of(
+                new PowerLeaderboard.Standing(7, 100, 1, 0),
+                new PowerLeaderboard.Standing(3, 100, 2, 0),
+                new PowerLeaderboard.Standing(5, 250, 3, 0),
+                new PowerLeaderboard.Standing(1, 40, 1, 0)));
+
+        assertEquals(1, leaderboard.get(5).getRank());
+        assertEquals(2, leaderboard.get(3).getRank());
+        assertEquals(3, leaderboard.get(7).getRank());
+        assertEquals(4, leaderboard.get(1).getRank());
+        assertEquals(4, leaderboard.size());
+    }
+
+    @Test
+    void addMovesUserAndKeepsTotals() {
+        PowerLeaderboard leaderboard = new PowerLeaderboard();
+        leaderboard.add(1, 100, 1);
+        leaderboard.add(2, 50, 1);
+        leaderboard.add(3, 75, 1);
+        assertEquals(3, leaderboard.get(2).getRank());
+
+        leaderboard.add(2, 60, 2);
+        PowerLeaderboard.Standing standing = leaderboard.get(2);
+        assertEquals(1, standing.getRank());
+        assertEquals(110, standing.getPowerLevel());
+        assertEquals(3, standing.getCompletedWorkouts());
+        assertEquals(2, leaderboard.get(1).getRank());
+        assertEquals(3, leaderboard.get(3).getRank());
+
+        // Catching up exactly ties, and the lower user id wins
+        leaderboard.add(1, 10, 0);
+        assertEquals(1, leaderboard.get(1).getRank());
+        assertEquals(2, leaderboard.get(2).getRank());
+    }
+
+    @Test
+    void pageReturnsRanksFromOffset() {
+        PowerLeaderboard leaderboard = new PowerLeaderboard();
+        for (int userId = 1; userId <= 10; userId++) {
+            leaderboard.add(userId, userId * 10L, 1);
+        }
+
+        List<PowerLeaderboard.Standing> page = leaderboard.page(3, 4);
+        assertEquals(4, page.size());
+        for (int i = 0; i < page.size(); i++) {
+            assertEquals(4 + i, page.get(i).getRank());
+            assertEquals(7 - i, page.get(i).getUserId());
+        }
+
+        assertEquals(2, leaderboard.page(8, 5).size());
+        assertTrue(leaderboard.page(10, 5).isEmpty());
+        assertTrue(leaderboard.page(0, 0).isEmpty());
+    }
+
+    @Test
+    void removeShiftsRanksBelow() {
+        PowerLeaderboard leaderboard = new PowerLeaderboard();
+        leaderboard.add(1, 300, 1);
+        leaderboard.add(2, 200, 1);
+        leaderboard.add(3, 100, 1);
+
+        assertTrue(leaderboard.remove(1));
+        assertFalse(leaderboard.remove(1));
+        assertNull(leaderboard.get(1));
+        assertEquals(1, leaderboard.get(2).getRank());
+        assertEquals(2, leaderboard.get(3).getRank());
+        assertEquals(2, leaderboard.size());
+    }
+
+    @Test
+    void unknownUserHasNoStanding() {
+        assertNull(new PowerLeaderboard().get(42));
+    }
+
+    @Test
+    void matchesSortedReferenceAfterRandomUpdates() {
+        PowerLeaderboard leaderboard = new PowerLeaderboard();
+        Map<Integer, Long> reference = new HashMap<>();
+        Random random = new Random(42);
+        for (int step = 0; step < 5000; step++) {
+            int userId = random.nextInt(300);
+            if (random.nextInt(10) == 0) {
+                assertEquals(reference.remove(userId) != null, leaderboard.remove(userId));
+            } else {
+                // Small deltas so ties are common
+                long delta = random.nextInt(5);
+                leaderboard.add(userId, delta, 1);
+                reference.merge(userId, delta, Long::sum);
+            }
+        }
+
+        List<Map.Entry<Integer, Long>> expected = new ArrayList<>(reference.entrySet());
+        expected.sort(Comparator.<Map.Entry<Integer, Long>>comparingLong(Map.Entry::getValue).reversed()
+                .thenComparing(Map.Entry::getKey));
+
+        List<PowerLeaderboard.Standing> all = leaderboard.page(0, Integer.MAX_VALUE);
+        assertEquals(expected.size(), all.size());
+        for (int i = 0; i < expected.size(); i++) {
+            int userId = expected.get(i).getKey();
+            assertEquals(userId, all.get(i).getUserId());
+            assertEquals(expected.get(i).getValue().longValue(), all.get(i).getPowerLevel());
+            assertEquals(i + 1, all.get(i).getRank());
+            assertEquals(i + 1, leaderboard.get(userId).getRank());
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.zenkaigains.zenkai_gains_server.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimeSeriesDownsamplerTest {
+
+    @Test
+    void keepsEveryPointWhenAlreadySmallEnough() {
+        double[] x = {0, 1, 2, 3, 4};
+        double[] y = {5, 3, 8, 1, 4};
+        assertArrayEquals(new int[]{0, 1, 2, 3, 4}, TimeSeriesDownsampler.lttb(x, y, 5));
+        assertArrayEquals(new int[]{0, 1, 2, 3, 4}, TimeSeriesDownsampler.lttb(x, y, 100));
+        assertArrayEquals(new int[0], TimeSeriesDownsampler.lttb(new double[0], new double[0], 10));
+    }
+
+    @Test
+    void keepsEveryPointWhenThresholdBelowThree() {
+        double[] x = {0, 1, 2, 3, 4};
+        double[] y = {5, 3, 8, 1, 4};
+        assertArrayEquals(new int[]{0, 1, 2, 3, 4}, TimeSeriesDownsampler.lttb(x, y, 2));
+    }
+
+    @Test
+    void returnsThresholdIndicesWithEndpointsInOrder() {
+        int n = 1000;
+        double[] x = new double[n];
+        double[] y = new double[n];
+        for (int i = 0; i < n; i++) {
+            x[i] = i;
+            y[i] = Math.sin(i / 20.0) * 100 + (i % 7);
+        }
+        for (int threshold : new int[]{3, 10, 57, 500, 999}) {
+            int[] kept = TimeSeriesDownsampler.lttb(x, y, threshold);
+            assertEquals(threshold, kept.length);
+            assertEquals(0, kept[0]);
+            assertEquals(n - 1, kept[kept.length - 1]);
+            for (int i = 1; i < kept.length; i++) {
+                assertTrue(kept[i] > kept[i - 1], "indices must be strictly ascending");
+            }
+        }
+    }
+
+    @Test
+    void keepsSpike() {
+        int n = 200;
+        double[] x = new double[n];
+        double[] y = new double[n];
+        for (int i = 0; i < n; i++) {
+            x[i] = i;
+            y[i] = 50;
+        }
+        y[123] = 500;
+        int[] kept = TimeSeriesDownsampler.lttb(x, y, 20);
+        boolean found = false;
+        for (int index : kept) {
+            found |= index == 123;
+        }
+        assertTrue(found, "the spike must survive downsampling");
+    }
+}